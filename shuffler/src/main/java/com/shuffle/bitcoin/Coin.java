@@ -18,9 +18,11 @@ package com.shuffle.bitcoin;
 
  import java.io.IOException;
  import java.net.MalformedURLException;
+ import java.util.Collection;
  import java.util.List;
  import java.util.Map;
  import java.util.Queue;
+ import java.util.Set;
 
 /**
  *
@@ -48,4 +50,12 @@ public interface Coin {
     // returns that transaction.
     Transaction getConflictingTransaction(Transaction transaction, Address addr, long amount) throws CoinNetworkException, AddressFormatException;
 
+    // Like sufficientFunds, but for many addresses at once, which may be checked
+    // concurrently. Returns the addresses that do not have sufficient funds.
+    Set<Address> insufficientFunds(Collection<Address> addrs, long amount) throws CoinNetworkException, AddressFormatException, IOException, InterruptedException;
+
+    // Like getConflictingTransaction, but for many addresses at once, which may be checked
+    // concurrently. Only addresses with a conflicting transaction are in the result.
+    Map<Address, Transaction> getConflictingTransactions(Transaction transaction, Collection<Address> addrs, long amount) throws CoinNetworkException, AddressFormatException, InterruptedException;
+
 }
@@ -0,0 +1,98 @@
+/**
+ *
+ * Copyright © 2016 Mycelium.
+ * Use of this source code is governed by an ISC
+ * license that can be found in the LICENSE file.
+ *
+ */
+
+package com.shuffle.bitcoin;
+
+import com.shuffle.p2p.Bytestring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Decrypts many messages at once. Each message is independent of the others, so they
+ * can be decrypted in parallel on an executor. The results are always returned in the
+ * same order as the messages that went in.
+ */
+public class Decrypter {
+    private final Executor executor;
+
+    // Decrypt with the given executor. If it is null, messages are decrypted one
+    // after another on the calling thread.
+    public Decrypter(Executor executor) {
+        this.executor = executor;
+    }
+
+    // Decrypt every message with the given key.
+    public List<Bytestring> decrypt(List<Bytestring> messages, DecryptionKey key)
+            throws InterruptedException {
+
+        if (key == null) throw new NullPointerException();
+
+        List<DecryptionKey> keys = new ArrayList<>(1);
+        keys.add(key);
+        return decrypt(messages, keys);
+    }
+
+    // Decrypt every message with each of the keys in turn, as for an onion that was
+    // encrypted with the same keys in reverse order.
+    public List<Bytestring> decrypt(List<Bytestring> messages, final List<DecryptionKey> keys)
+            throws InterruptedException {
+
+        if (messages == null || keys == null) throw new NullPointerException();
+
+        List<Bytestring> decrypted = new ArrayList<>(messages.size());
+
+        if (executor == null || messages.size() < 2) {
+            for (Bytestring m : messages) {
+                decrypted.add(decrypt(m, keys));
+            }
+            return decrypted;
+        }
+
+        List<FutureTask<Bytestring>> tasks = new ArrayList<>(messages.size());
+        for (final Bytestring m : messages) {
+            FutureTask<Bytestring> task = new FutureTask<>(new Callable<Bytestring>() {
+                @Override
+                public Bytestring call() {
+                    return decrypt(m, keys);
+                }
+            });
+
+            tasks.add(task);
+            executor.execute(task);
+        }
+
+        try {
+            for (FutureTask<Bytestring> task : tasks) {
+                decrypted.add(task.get());
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new RuntimeException(cause);
+        } finally {
+            for (FutureTask<Bytestring> task : tasks) {
+                task.cancel(true);
+            }
+        }
+
+        return decrypted;
+    }
+
+    private static Bytestring decrypt(Bytestring m, List<DecryptionKey> keys) {
+        for (DecryptionKey key : keys) {
+            m = key.decrypt(m);
+        }
+        return m;
+    }
+}
@@ -8,6 +8,7 @@
 
 package com.shuffle.bitcoin;
 
+import com.shuffle.p2p.Bytestring;
 import com.shuffle.protocol.FormatException;
 
 /**
@@ -20,4 +21,7 @@ public interface DecryptionKey {
     EncryptionKey EncryptionKey();
 
     String decrypt(String m);
+
+    // Inverse of EncryptionKey.encrypt(Bytestring).
+    Bytestring decrypt(Bytestring m);
 }
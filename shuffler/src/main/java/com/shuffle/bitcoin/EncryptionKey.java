@@ -8,6 +8,7 @@
 
 package com.shuffle.bitcoin;
 
+import com.shuffle.p2p.Bytestring;
 import com.shuffle.protocol.FormatException;
 
 /**
@@ -18,4 +19,8 @@ import com.shuffle.protocol.FormatException;
  */
 public interface EncryptionKey {
     String encrypt(String m);
+
+    // Encrypt raw bytes. The result is longer than the input by a fixed overhead, so
+    // a message can be encrypted many times over without blowing up in size.
+    Bytestring encrypt(Bytestring m);
 }
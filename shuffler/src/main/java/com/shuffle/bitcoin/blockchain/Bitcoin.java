@@ -36,12 +36,22 @@ import org.bitcoinj.store.BlockStoreException;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 public abstract class Bitcoin implements Coin {
     static long cach_expire = 10000; // Ten seconds.
@@ -196,7 +206,18 @@ public abstract class Bitcoin implements Coin {
         }
     }
 
-    protected Map<String, Cached> cache = new HashMap<>();
+    protected Map<String, Cached> cache = new ConcurrentHashMap<>();
+
+    // Lookups block on a round trip to the blockchain service, so when we have
+    // many of them to do at once we run them on these threads.
+    private static final ExecutorService lookups = Executors.newCachedThreadPool(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "blockchain lookup");
+            t.setDaemon(true);
+            return t;
+        }
+    });
 
     public NetworkParameters getNetParams(){
         return netParams;
@@ -382,7 +403,7 @@ public abstract class Bitcoin implements Coin {
     }
 
     @Override
-    public synchronized com.shuffle.bitcoin.Transaction getConflictingTransaction(
+    public com.shuffle.bitcoin.Transaction getConflictingTransaction(
             com.shuffle.bitcoin.Transaction t, Address addr, long amount) throws CoinNetworkException, AddressFormatException {
 
         if (!(t instanceof Transaction)) throw new IllegalArgumentException();
@@ -424,6 +445,87 @@ public abstract class Bitcoin implements Coin {
         return null;
     }
 
+    @Override
+    public Set<Address> insufficientFunds(Collection<Address> addrs, final long amount)
+            throws CoinNetworkException, AddressFormatException, IOException, InterruptedException {
+
+        Map<Address, Future<Boolean>> checks = new LinkedHashMap<>();
+        for (final Address addr : addrs) {
+            checks.put(addr, lookups.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    return sufficientFunds(addr, amount);
+                }
+            }));
+        }
+
+        Set<Address> insufficient = new HashSet<>();
+        try {
+            for (Map.Entry<Address, Future<Boolean>> check : checks.entrySet()) {
+                if (!lookup(check.getValue())) {
+                    insufficient.add(check.getKey());
+                }
+            }
+        } finally {
+            for (Future<Boolean> check : checks.values()) {
+                check.cancel(true);
+            }
+        }
+
+        return insufficient;
+    }
+
+    @Override
+    public Map<Address, com.shuffle.bitcoin.Transaction> getConflictingTransactions(
+            final com.shuffle.bitcoin.Transaction t, Collection<Address> addrs, final long amount)
+            throws CoinNetworkException, AddressFormatException, InterruptedException {
+
+        Map<Address, Future<com.shuffle.bitcoin.Transaction>> checks = new LinkedHashMap<>();
+        for (final Address addr : addrs) {
+            checks.put(addr, lookups.submit(new Callable<com.shuffle.bitcoin.Transaction>() {
+                @Override
+                public com.shuffle.bitcoin.Transaction call() throws Exception {
+                    return getConflictingTransaction(t, addr, amount);
+                }
+            }));
+        }
+
+        Map<Address, com.shuffle.bitcoin.Transaction> conflicts = new HashMap<>();
+        try {
+            for (Map.Entry<Address, Future<com.shuffle.bitcoin.Transaction>> check : checks.entrySet()) {
+                com.shuffle.bitcoin.Transaction conflict = lookup(check.getValue());
+                if (conflict != null) {
+                    conflicts.put(check.getKey(), conflict);
+                }
+            }
+        } catch (IOException e) {
+            throw new CoinNetworkException(e.getMessage());
+        } finally {
+            for (Future<com.shuffle.bitcoin.Transaction> check : checks.values()) {
+                check.cancel(true);
+            }
+        }
+
+        return conflicts;
+    }
+
+    // Wait for a lookup to finish and throw whatever it threw.
+    private static <X> X lookup(Future<X> f) throws CoinNetworkException,
+            AddressFormatException, IOException, InterruptedException {
+
+        try {
+            return f.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CoinNetworkException) throw (CoinNetworkException) cause;
+            if (cause instanceof AddressFormatException) throw (AddressFormatException) cause;
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new RuntimeException(cause);
+        }
+    }
+
     public org.bitcoinj.core.Transaction signTransaction(org.bitcoinj.core.Transaction signTx, List<Bytestring> programSignatures) {
 
         List<Script> inputScripts = new LinkedList<>();
@@ -484,12 +586,12 @@ public abstract class Bitcoin implements Coin {
 
     // Converts a Bytestring object to a Script object.
     public Script bytestringToInputScript(Bytestring program) {
-        return new Script(program.bytes);
+        return new Script(program.bytes());
     }
 
     // Since we rely on 3rd party services to query the blockchain, by
     // default we cache the result.
-    protected synchronized List<Bitcoin.Transaction> getAddressTransactions(String address)
+    protected List<Bitcoin.Transaction> getAddressTransactions(String address)
             throws IOException, CoinNetworkException, AddressFormatException {
 
         long now = System.currentTimeMillis();
@@ -31,17 +31,19 @@ import java.net.HttpURLConnection;
 import java.net.URL;
 import java.security.GeneralSecurityException;
 import java.security.KeyFactory;
+import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
-import java.security.SecureRandom;
 import java.security.Security;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -52,11 +54,18 @@ import javax.crypto.Cipher;
 
 public class BitcoinCrypto implements Crypto {
 
-   private final SecureRandom sr;
+   // Random numbers, with a separate generator for each thread.
+   private final Drbg random;
    // Figure out which network we should connect to. Each one gets its own set of files.
    NetworkParameters params;
    KeyChainGroup keyChainGroup;
    private final KeyPairGenerator keyPG;
+
+   // Decryption keys that have been generated ahead of time in the background, so that
+   // nobody has to wait for one during the protocol. A key is removed from the pool when
+   // it is handed out, so no key is ever given out twice. Null if there is no pool.
+   private volatile BlockingQueue<DecryptionKey> keyPool = null;
+   private Thread keyPoolFiller = null;
    //Wallet wallet;
    //WalletAppKit kit;
    String fileprefix = "shufflepuff";
@@ -85,8 +94,7 @@ public class BitcoinCrypto implements Crypto {
       this.keyChainGroup = new KeyChainGroup(networkParameters);
       Security.insertProviderAt(new BouncyCastleProvider(), 1);
       crashIfJCEMissing();
-      //this.sr = SecureRandom.getInstance("SHA1PRNG", new BouncyCastleProvider());
-      this.sr = SecureRandom.getInstance("SHA1PRNG");
+      this.random = new Drbg();
       this.keyPG = KeyPairGenerator.getInstance("ECIES", new BouncyCastleProvider());
       //this.kit = getKit();
       //this.wallet = getKit().wallet();
@@ -105,8 +113,7 @@ public class BitcoinCrypto implements Crypto {
       this.keyChainGroup = new KeyChainGroup(networkParameters, seed);
       Security.insertProviderAt(new BouncyCastleProvider(), 1);
       crashIfJCEMissing();
-      //this.sr = SecureRandom.getInstance("SHA1PRNG", new BouncyCastleProvider());
-      this.sr = SecureRandom.getInstance("SHA1PRNG");
+      this.random = new Drbg();
       this.keyPG = KeyPairGenerator.getInstance("ECIES", new BouncyCastleProvider());
       //this.kit = initKit(seed);
       //this.wallet = kit.wallet();
@@ -249,16 +256,67 @@ public class BitcoinCrypto implements Crypto {
       }
    }
 
-   @Override
-   public synchronized DecryptionKey makeDecryptionKey() {
+   // Keep depth decryption keys ready ahead of time. If depth is zero, keys are only
+   // generated when they are asked for. Keys left in a previous pool are thrown away.
+   public synchronized void setKeyPoolDepth(int depth) {
+      if (depth < 0) throw new IllegalArgumentException();
+
+      if (keyPoolFiller != null) {
+         keyPoolFiller.interrupt();
+         keyPoolFiller = null;
+      }
+
+      if (depth == 0) {
+         keyPool = null;
+         return;
+      }
+
+      final BlockingQueue<DecryptionKey> pool = new ArrayBlockingQueue<>(depth);
+      keyPoolFiller = new Thread(new Runnable() {
+         @Override
+         public void run() {
+            try {
+               while (!Thread.currentThread().isInterrupted()) {
+                  // Blocks while the pool is full.
+                  pool.put(generateDecryptionKey());
+               }
+            } catch (InterruptedException e) {
+               // The pool has been replaced.
+            }
+         }
+      }, "decryption key pool");
+      keyPoolFiller.setDaemon(true);
+      keyPoolFiller.setPriority(Thread.MIN_PRIORITY);
+      keyPool = pool;
+      keyPoolFiller.start();
+   }
+
+   private DecryptionKey generateDecryptionKey() {
       // String ppath = getCurrentPathAsString();
       // System.out.println("Current path used by decryption key genereated: " + ppath);
       // ECKey newDecKey = keyChainGroup.getActiveKeyChain().getKeyByPath(HDUtils.parsePath(ppath),true);
       // decKeyCounter++;
       // return ECIES KeyPair
-      keyPG.initialize(256, sr);
-      return new DecryptionKeyImpl(keyPG.generateKeyPair());
+      KeyPair pair;
+      synchronized (keyPG) {
+         keyPG.initialize(256, random.get());
+         pair = keyPG.generateKeyPair();
+      }
+      return new DecryptionKeyImpl(pair);
+   }
+
+   @Override
+   public DecryptionKey makeDecryptionKey() {
+      BlockingQueue<DecryptionKey> pool = keyPool;
+      if (pool != null) {
+         DecryptionKey key = pool.poll();
+         if (key != null) {
+            return key;
+         }
+      }
 
+      // The pool is empty or there is none, so we have to make one now.
+      return generateDecryptionKey();
    }
 
    public List<String> getKeyChainMnemonic() {
@@ -273,7 +331,7 @@ public class BitcoinCrypto implements Crypto {
 
    @Override
    public int getRandom(int n) {
-      return sr.nextInt(n + 1);
+      return random.nextInt(n);
    }
 
    public static Bytestring hexStringToByteArray(String s) {
@@ -72,7 +72,7 @@ public class CryptoProtobuf extends Protobuf {
 
             @Override
             public Address unmarshall(Bytestring string) throws FormatException {
-                return new AddressImpl(new String(string.bytes));
+                return new AddressImpl(new String(string.bytes()));
             }
         };
     }
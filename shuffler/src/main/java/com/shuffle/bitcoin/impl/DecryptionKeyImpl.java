@@ -1,9 +1,8 @@
 package com.shuffle.bitcoin.impl;
 
-import com.google.inject.Guice;
-import com.shuffle.JvmModule;
 import com.shuffle.bitcoin.DecryptionKey;
 import com.shuffle.bitcoin.EncryptionKey;
+import com.shuffle.p2p.Bytestring;
 
 import org.bitcoinj.core.ECKey;
 import org.spongycastle.crypto.RuntimeCryptoException;
@@ -13,13 +12,11 @@ import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
 import java.security.KeyPair;
-import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
 
 
 /**
@@ -67,33 +64,29 @@ public class DecryptionKeyImpl implements DecryptionKey {
 
     @Override
     public String decrypt(String input) {
-        Guice.createInjector(new JvmModule()).injectMembers(this);
+        return new String(decrypt(new Bytestring(Hex.decode(input))).bytes(), StandardCharsets.UTF_8);
+    }
 
-        //encrypt cipher
-        Cipher cipher = null;
-        try {
-           cipher = Cipher.getInstance("ECIES");
-        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
-           e.printStackTrace();
-           throw new RuntimeException(e);
-        }
+    @Override
+    public Bytestring decrypt(Bytestring input) {
+        //get this thread's cipher for ECIES decryption
+        Cipher cipher = Ecies.cipher();
         try {
            cipher.init(Cipher.DECRYPT_MODE, privateKey);
         } catch (InvalidKeyException e) {
            e.printStackTrace();
            throw new RuntimeException(e);
         }
-        byte[] bytes = Hex.decode(input);
         byte[] decrypted = new byte[0];
         try {
-           decrypted = cipher.doFinal(bytes);
+           decrypted = cipher.doFinal(input.bytes());
         } catch (IllegalBlockSizeException e) {
            e.printStackTrace();
         } catch (BadPaddingException e) {
            e.printStackTrace();
            throw new RuntimeException(e);
         }
-        return new String(decrypted, StandardCharsets.UTF_8);
+        return new Bytestring(decrypted);
     }
 
     @Override
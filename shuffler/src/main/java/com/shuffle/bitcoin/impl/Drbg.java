@@ -0,0 +1,131 @@
+package com.shuffle.bitcoin.impl;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.prng.EntropySource;
+import org.bouncycastle.crypto.prng.EntropySourceProvider;
+import org.bouncycastle.crypto.prng.SP800SecureRandomBuilder;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one deterministic random bit generator (SP 800-90A Hash_DRBG with SHA-256) per
+ * thread, so that threads which need random numbers at the same time never wait for each
+ * other. Normally each generator is seeded from the system's source of randomness. If a
+ * seed is given instead, the nth generator to be made is seeded from it and from n alone,
+ * so the numbers come out the same every time as long as threads ask for them in the
+ * same order. Only tests give a seed. Keys made from one would be easy to guess, so
+ * BitcoinCrypto never does.
+ */
+final class Drbg {
+   private static final SecureRandom system = new SecureRandom();
+
+   private final byte[] seed;
+
+   // The number of generators that have been made.
+   private final AtomicLong made = new AtomicLong(0);
+
+   private final ThreadLocal<SecureRandom> random = new ThreadLocal<SecureRandom>() {
+      @Override
+      protected SecureRandom initialValue() {
+         return make();
+      }
+   };
+
+   Drbg() {
+      seed = null;
+   }
+
+   Drbg(long seed) {
+      this.seed = ByteBuffer.allocate(8).putLong(seed).array();
+   }
+
+   // This thread's generator.
+   SecureRandom get() {
+      return random.get();
+   }
+
+   // A number between 0 and n inclusive, drawn from this thread's generator.
+   int nextInt(int n) {
+      return uniform(random.get(), n);
+   }
+
+   // Take random bits, masked to the smallest power of two that covers n, until we get
+   // one that is no greater than n. Taking the remainder would favor small numbers.
+   static int uniform(SecureRandom random, int n) {
+      if (n < 0) throw new IllegalArgumentException();
+      if (n == 0) return 0;
+
+      int mask = -1 >>> Integer.numberOfLeadingZeros(n);
+      byte[] b = new byte[4];
+      while (true) {
+         random.nextBytes(b);
+         int r = ByteBuffer.wrap(b).getInt() & mask;
+         if (r <= n) return r;
+      }
+   }
+
+   private SecureRandom make() {
+      long n = made.getAndIncrement();
+
+      SP800SecureRandomBuilder builder;
+      byte[] nonce;
+      if (seed == null) {
+         builder = new SP800SecureRandomBuilder(system, false);
+         nonce = ByteBuffer.allocate(16).putLong(n).putLong(System.nanoTime()).array();
+      } else {
+         builder = new SP800SecureRandomBuilder(new Fixed(seed, n));
+         nonce = ByteBuffer.allocate(8).putLong(n).array();
+      }
+
+      return builder.buildHash(new SHA256Digest(), nonce, false);
+   }
+
+   // Entropy that is entirely determined by the seed and the generator's number.
+   private static class Fixed implements EntropySourceProvider {
+      private final byte[] seed;
+      private final long n;
+
+      Fixed(byte[] seed, long n) {
+         this.seed = seed;
+         this.n = n;
+      }
+
+      @Override
+      public EntropySource get(final int bits) {
+         return new EntropySource() {
+            private long calls = 0;
+
+            @Override
+            public boolean isPredictionResistant() {
+               return false;
+            }
+
+            @Override
+            public synchronized byte[] getEntropy() {
+               byte[] entropy = new byte[(bits + 7) / 8];
+               SHA256Digest digest = new SHA256Digest();
+               byte[] block = new byte[digest.getDigestSize()];
+               byte[] counter = ByteBuffer.allocate(20)
+                     .putLong(n).putLong(calls++).array();
+
+               for (int i = 0; i < entropy.length; i += block.length) {
+                  ByteBuffer.wrap(counter, 16, 4).putInt(i);
+                  digest.update(seed, 0, seed.length);
+                  digest.update(counter, 0, counter.length);
+                  digest.doFinal(block, 0);
+                  System.arraycopy(block, 0, entropy, i, Math.min(block.length, entropy.length - i));
+               }
+
+               return entropy;
+            }
+
+            @Override
+            public int entropySize() {
+               return bits;
+            }
+         };
+      }
+   }
+}
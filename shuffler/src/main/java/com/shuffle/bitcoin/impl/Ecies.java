@@ -0,0 +1,37 @@
+package com.shuffle.bitcoin.impl;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+
+/**
+ * Keeps one ECIES cipher per thread, so that encrypting or decrypting does not have
+ * to look up the provider every time. A cipher must be initialized with a key
+ * before each use.
+ */
+final class Ecies {
+   private static final Provider provider = new BouncyCastleProvider();
+
+   private static final ThreadLocal<Cipher> cipher = new ThreadLocal<Cipher>() {
+      @Override
+      protected Cipher initialValue() {
+         try {
+            return Cipher.getInstance("ECIES", provider);
+         } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            e.printStackTrace();
+            throw new RuntimeException(e);
+         }
+      }
+   };
+
+   private Ecies() {
+   }
+
+   static Cipher cipher() {
+      return cipher.get();
+   }
+}
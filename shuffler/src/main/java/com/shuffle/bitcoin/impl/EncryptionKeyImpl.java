@@ -1,6 +1,7 @@
 package com.shuffle.bitcoin.impl;
 
 import com.shuffle.bitcoin.EncryptionKey;
+import com.shuffle.p2p.Bytestring;
 
 import org.apache.commons.codec.binary.Hex;
 
@@ -14,7 +15,6 @@ import java.security.spec.InvalidKeySpecException;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
 
 /**
  * Created by conta on 01.04.16.
@@ -50,35 +50,29 @@ public class EncryptionKeyImpl implements EncryptionKey {
 
     @Override
     public String encrypt(String input) {
-
         // encrypts the address passed for this encryption key
+        return Hex.encodeHexString(
+                encrypt(new Bytestring(input.getBytes(StandardCharsets.UTF_8))).bytes());
+    }
 
-        //get cipher cipher for ECIES encryption
-        Cipher cipher = null;
-        try {
-            cipher = Cipher.getInstance("ECIES");
-        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
-            e.printStackTrace();
-            throw new RuntimeException(e);
-        }
+    @Override
+    public Bytestring encrypt(Bytestring input) {
+
+        //get this thread's cipher for ECIES encryption
+        Cipher cipher = Ecies.cipher();
         //init cipher with with our encryption key
         try {
             cipher.init(Cipher.ENCRYPT_MODE, publicKey);
         } catch (InvalidKeyException e) {
             e.printStackTrace();
         }
-        //get bytes of address passed
-        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
         //encrypt
-        byte[] encrypted = new byte[0];
         try {
-            encrypted = cipher.doFinal(bytes);
+            return new Bytestring(cipher.doFinal(input.bytes()));
         } catch (IllegalBlockSizeException | BadPaddingException e) {
             e.printStackTrace();
             throw new RuntimeException(e);
         }
-        //create new address with
-        return Hex.encodeHexString(encrypted);
     }
 
     @Override
@@ -32,9 +32,9 @@ public class SigningKeyImpl implements SigningKey {
         Bytestring stripped = new Bytestring(Base58.decodeChecked(s));
 
         boolean compressed;
-        switch (stripped.bytes.length) {
+        switch (stripped.length()) {
             case (34) : {
-                if (stripped.bytes[33] != 1) {
+                if (stripped.get(33) != 1) {
                     throw new AddressFormatException("Wrong compressed byte");
                 }
                 stripped = stripped.drop(-1);
@@ -50,7 +50,7 @@ public class SigningKeyImpl implements SigningKey {
             }
         }
 
-        switch (stripped.bytes[0]) {
+        switch (stripped.get(0)) {
             case (-1) : {
                 params = NetworkParameters.fromID(NetworkParameters.ID_MAINNET);
                 break;
@@ -65,7 +65,7 @@ public class SigningKeyImpl implements SigningKey {
         }
 
         stripped = stripped.drop(1);
-        signingKey = ECKey.fromPrivate(stripped.bytes, compressed);
+        signingKey = ECKey.fromPrivate(stripped.bytes(), compressed);
         vk = new VerificationKeyImpl(signingKey.getPubKey(), params);
     }
 
@@ -89,7 +89,7 @@ public class SigningKeyImpl implements SigningKey {
 
     @Override
     public Bytestring sign(Bytestring string) {
-        ECKey.ECDSASignature ecdsaSignature = signingKey.sign(Sha256Hash.of(string.bytes));
+        ECKey.ECDSASignature ecdsaSignature = signingKey.sign(Sha256Hash.of(string.bytes()));
         return new Bytestring(ecdsaSignature.encodeToDER());
     }
 
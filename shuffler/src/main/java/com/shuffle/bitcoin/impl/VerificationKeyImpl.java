@@ -21,25 +21,36 @@ public class VerificationKeyImpl implements VerificationKey {
    private final NetworkParameters params;
    public final Address address;
 
+   // These keys are compared and hashed all the time as they are used to sort the
+   // players and to look them up in maps, so everything needed for that is worked
+   // out once here. Two keys are equal if their addresses are, which is to say if
+   // the hash160 of their public keys are equal and they are on the same network.
+   // They are ordered by their address strings, as VerificationKey requires.
+   private final byte[] hash160;
+   private final String addressString;
+   private final String hex;
+   private final int hash;
+
    public VerificationKeyImpl(byte[] ecKey, NetworkParameters params) {
       this.ecKey = ECKey.fromPublicOnly(ecKey);
       this.vKey = this.ecKey.getPubKey();
       this.params = params;
-      this.address = new AddressImpl(this.ecKey.toAddress(params));
+      org.bitcoinj.core.Address address = this.ecKey.toAddress(params);
+      this.address = new AddressImpl(address);
+      this.hash160 = this.ecKey.getPubKeyHash();
+      this.addressString = address.toString();
+      this.hex = this.ecKey.getPublicKeyAsHex();
+      this.hash = Arrays.hashCode(hash160);
    }
 
    public VerificationKeyImpl(String string, NetworkParameters params) {
       // TODO
-      byte[] bytes = Hex.decode(string);
-      this.ecKey = ECKey.fromPublicOnly(bytes);
-      this.vKey = this.ecKey.getPubKey();
-      this.params = params;
-      this.address = new AddressImpl(this.ecKey.toAddress(params));
+      this(Hex.decode(string), params);
    }
 
    // returns PublicKey compressed, 66 chars
    public String toString() {
-      return this.ecKey.getPublicKeyAsHex();
+      return hex;
    }
 
 
@@ -47,16 +58,19 @@ public class VerificationKeyImpl implements VerificationKey {
    @Override
    public boolean verify(Bytestring payload, Bytestring signature) {
       ECKey.ECDSASignature ecdsaSignature;
-      ecdsaSignature = ECKey.ECDSASignature.decodeFromDER(signature.bytes);
-      return ECKey.verify(Sha256Hash.of(payload.bytes).getBytes(),ecdsaSignature,vKey);
+      ecdsaSignature = ECKey.ECDSASignature.decodeFromDER(signature.bytes());
+      return ECKey.verify(Sha256Hash.of(payload.bytes()).getBytes(),ecdsaSignature,vKey);
    }
 
    @Override
    public boolean equals(Object vk) {
-      return vk != null
-              && vk instanceof VerificationKeyImpl
-              && address.equals(((VerificationKeyImpl) vk).address);
+      if (this == vk) return true;
+      if (!(vk instanceof VerificationKeyImpl)) return false;
 
+      VerificationKeyImpl k = (VerificationKeyImpl) vk;
+      return hash == k.hash
+              && Arrays.equals(hash160, k.hash160)
+              && params.getAddressHeader() == k.params.getAddressHeader();
    }
 
    @Override
@@ -70,15 +84,12 @@ public class VerificationKeyImpl implements VerificationKey {
          throw new IllegalArgumentException("unable to compare with other VerificationKey");
       }
       //get netParams to create right address and check by address.
-      return address.toString().compareTo((((VerificationKeyImpl) o).address).toString());
+      return addressString.compareTo(((VerificationKeyImpl) o).addressString);
    }
 
    @Override
    public int hashCode() {
-      int result = ecKey.hashCode();
-      result = 31 * result + Arrays.hashCode(vKey);
-      result = 31 * result + params.hashCode();
-      return result;
+      return hash;
    }
 
 }
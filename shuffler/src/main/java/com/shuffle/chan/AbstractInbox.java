@@ -0,0 +1,66 @@
+package com.shuffle.chan;
+
+import java.io.Serializable;
+
+/**
+ * The parts of an Inbox that do not depend on how the messages are stored. Subclasses
+ * say how a message is put in and taken out, and must call wake when they are closed.
+ */
+public abstract class AbstractInbox<Address, X extends Serializable> implements Inbox<Address, X> {
+
+    private final Select.Waiters waiters = new Select.Waiters();
+
+    private class Receiver implements Send<X> {
+        private final Address from;
+        private boolean closed = false;
+
+        private Receiver(Address from) {
+            this.from = from;
+        }
+
+        @Override
+        public boolean send(X x) throws InterruptedException {
+
+            if (closed || AbstractInbox.this.closed() || !put(from, x)) {
+                return false;
+            }
+
+            waiters.wake();
+            return true;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    // Called by every sender to put a message in the inbox. Returns false if the
+    // message was not accepted.
+    protected abstract boolean put(Address from, X x);
+
+    // Not synchronized, so that opening a send never has to wait for a receiver.
+    @Override
+    public Send<X> receivesFrom(Address from) {
+        if (from == null) throw new NullPointerException();
+
+        if (closed()) return null;
+
+        return new Receiver(from);
+    }
+
+    // Wake up anyone who is selecting on this inbox.
+    protected void wake() {
+        waiters.wake();
+    }
+
+    @Override
+    public void register(Select select) {
+        waiters.add(select);
+    }
+
+    @Override
+    public void unregister(Select select) {
+        waiters.remove(select);
+    }
+}
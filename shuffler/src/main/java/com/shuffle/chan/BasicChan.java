@@ -18,7 +18,7 @@ import java.util.concurrent.TimeUnit;
  *
  * Created by Daniel Krawisz on 3/3/16.
  */
-public class BasicChan<X> implements Chan<X> {
+public class BasicChan<X> implements Chan<X>, Select.Selectable<X> {
 
     // Need a kind of message to indicate that a channel has been closed.
     private class Message {
@@ -36,10 +36,12 @@ public class BasicChan<X> implements Chan<X> {
         }
     }
 
-    private boolean closed = false;
+    private volatile boolean closed = false;
     private boolean closeSent = false;
     private final LinkedBlockingQueue<Message> q;
 
+    private final Select.Waiters waiters = new Select.Waiters();
+
     private final Object lock = new Object();
 
     public BasicChan(int n) {
@@ -82,6 +84,33 @@ public class BasicChan<X> implements Chan<X> {
         return receiveMessage(q.poll(l, u));
     }
 
+    @Override
+    public X poll() {
+        Message m = q.poll();
+        if (m == null) return null;
+
+        return receiveMessage(m);
+    }
+
+    // The close message may still be in the queue, but it doesn't count.
+    @Override
+    public boolean finished() {
+        if (!closed) return false;
+
+        Message m = q.peek();
+        return m == null || m.x == null;
+    }
+
+    @Override
+    public void register(Select select) {
+        waiters.add(select);
+    }
+
+    @Override
+    public void unregister(Select select) {
+        waiters.remove(select);
+    }
+
     @Override
     public synchronized boolean send(X x) throws InterruptedException {
         if (x == null) {
@@ -91,6 +120,7 @@ public class BasicChan<X> implements Chan<X> {
         if (closed) return false;
 
         q.put(new Message(x));
+        waiters.wake();
 
         return true;
     }
@@ -100,6 +130,7 @@ public class BasicChan<X> implements Chan<X> {
         closed = true;
 
         closeSent = q.offer(new Message());
+        waiters.wake();
     }
 
     @Override
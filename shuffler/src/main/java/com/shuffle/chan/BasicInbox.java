@@ -0,0 +1,102 @@
+package com.shuffle.chan;
+
+import java.io.Serializable;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An Inbox that keeps messages from all senders in one LinkedBlockingQueue.
+ */
+public class BasicInbox<Address, X extends Serializable> extends AbstractInbox<Address, X> {
+
+    private static class Transit<Address, X> {
+        public final Envelope<Address, X> m;
+
+        private Transit(Envelope<Address, X> m) {
+            this.m = m;
+        }
+
+        // Used to represent that the channel was closed.
+        private Transit() {
+            this.m = null;
+        }
+
+        @Override
+        public String toString() {
+            return "Tr[" + m + "]";
+        }
+    }
+
+    private final LinkedBlockingQueue<Transit<Address, X>> q;
+
+    public BasicInbox(int cap) {
+        q = new LinkedBlockingQueue<>(cap);
+    }
+
+    private volatile boolean closed = false;
+    private boolean closeSent = false;
+
+    @Override
+    protected boolean put(Address from, X x) {
+        return q.add(new Transit<Address, X>(new Envelope<Address, X>(from, x)));
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        closeSent = q.offer(new Transit<Address, X>());
+        wake();
+    }
+
+    private Envelope<Address, X> receiveMessage(Transit<Address, X> m) {
+
+        if (m == null) return null;
+
+        if (closed && !closeSent) {
+            // There is definitely room in the queue because we just removed
+            // one element and no more were allowed to be put in.
+            q.add(new Transit<Address, X>());
+            closeSent = true;
+        }
+
+        return m.m;
+    }
+
+    @Override
+    public Envelope<Address, X> receive() throws InterruptedException {
+        if (closed && q.size() == 0) {
+            return null;
+        }
+
+        return receiveMessage(q.take());
+    }
+
+    @Override
+    public Envelope<Address, X> receive(long l, TimeUnit u) throws InterruptedException {
+
+        if (closed && q.size() == 0) {
+            return null;
+        }
+        return receiveMessage(q.poll(l, u));
+    }
+
+    @Override
+    public Envelope<Address, X> poll() {
+        return receiveMessage(q.poll());
+    }
+
+    @Override
+    public boolean finished() {
+        return closed && q.size() == 0;
+    }
+
+    @Override
+    public boolean closed() {
+        return closed;
+    }
+
+    @Override
+    public String toString() {
+        return "Inbox[]";
+    }
+}
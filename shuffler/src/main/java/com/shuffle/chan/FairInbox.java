@@ -0,0 +1,206 @@
+package com.shuffle.chan;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An Inbox that keeps a separate queue for every sender and takes messages from them in
+ * turn. Each sender may only have so many messages, and optionally so many bytes, waiting
+ * at once; anything beyond that is dropped. A peer that floods us therefore only delays
+ * its own messages and cannot crowd out anyone else's.
+ */
+public class FairInbox<Address, X extends Serializable> extends AbstractInbox<Address, X> {
+
+    // A summary of what has happened to the messages from one sender.
+    public static class Counters {
+        public final long received; // Messages accepted into the inbox.
+        public final long dropped; // Messages rejected because a quota was exceeded.
+        public final int backlog; // Messages waiting to be received.
+        public final double backlogSize; // Their total size.
+
+        private Counters(long received, long dropped, int backlog, double backlogSize) {
+            this.received = received;
+            this.dropped = dropped;
+            this.backlog = backlog;
+            this.backlogSize = backlogSize;
+        }
+
+        @Override
+        public String toString() {
+            return "{received: " + received + ", dropped: " + dropped
+                    + ", backlog: " + backlog + ", backlog size: " + backlogSize + "}";
+        }
+    }
+
+    private class Sender {
+        final Queue<Envelope<Address, X>> queue = new ArrayDeque<>();
+        double size = 0;
+        long received = 0;
+        long dropped = 0;
+
+        // Whether this sender is waiting in line to be received from.
+        boolean ready = false;
+
+        Counters counters() {
+            return new Counters(received, dropped, queue.size(), size);
+        }
+    }
+
+    private final Map<Address, Sender> senders = new HashMap<>();
+
+    // Senders with messages waiting, in the order in which they will be received from.
+    private final Queue<Sender> ready = new ArrayDeque<>();
+
+    private final int maxMessages;
+    private final double maxSize;
+    private final RateLimitedSend.Size<X> size;
+
+    private boolean closed = false;
+
+    // maxMessages and maxSize are the limits for each sender. If size is null,
+    // only the number of messages is limited.
+    public FairInbox(int maxMessages, double maxSize, RateLimitedSend.Size<X> size) {
+        if (maxMessages < 1 || maxSize < 0) throw new IllegalArgumentException();
+
+        this.maxMessages = maxMessages;
+        this.maxSize = maxSize;
+        this.size = size;
+    }
+
+    public FairInbox(int maxMessages) {
+        this(maxMessages, 0, null);
+    }
+
+    private double size(X x) {
+        return size == null ? 0 : size.size(x);
+    }
+
+    @Override
+    protected synchronized boolean put(Address from, X x) {
+        if (from == null || x == null) throw new NullPointerException();
+
+        if (closed) return false;
+
+        Sender sender = senders.get(from);
+        if (sender == null) {
+            sender = new Sender();
+            senders.put(from, sender);
+        }
+
+        double s = size(x);
+        if (sender.queue.size() >= maxMessages || size != null && sender.size + s > maxSize) {
+            sender.dropped++;
+            return false;
+        }
+
+        sender.queue.add(new Envelope<>(from, x));
+        sender.size += s;
+        sender.received++;
+
+        if (!sender.ready) {
+            sender.ready = true;
+            ready.add(sender);
+        }
+
+        notifyAll();
+        return true;
+    }
+
+    // Take a message from the next sender in line, who goes to the back
+    // of the line if he has more.
+    private Envelope<Address, X> next() {
+        Sender sender = ready.poll();
+        if (sender == null) return null;
+
+        Envelope<Address, X> e = sender.queue.remove();
+        sender.size -= size(e.payload);
+
+        if (sender.queue.isEmpty()) {
+            sender.ready = false;
+            sender.size = 0;
+        } else {
+            ready.add(sender);
+        }
+
+        return e;
+    }
+
+    @Override
+    public synchronized Envelope<Address, X> receive() throws InterruptedException {
+        while (ready.isEmpty()) {
+            if (closed) return null;
+
+            wait();
+        }
+
+        return next();
+    }
+
+    @Override
+    public synchronized Envelope<Address, X> receive(long l, TimeUnit u) throws InterruptedException {
+        long deadline = System.nanoTime() + u.toNanos(l);
+
+        while (ready.isEmpty()) {
+            if (closed) return null;
+
+            long wait = deadline - System.nanoTime();
+            if (wait <= 0) return null;
+
+            TimeUnit.NANOSECONDS.timedWait(this, wait);
+        }
+
+        return next();
+    }
+
+    @Override
+    public synchronized Envelope<Address, X> poll() {
+        return next();
+    }
+
+    @Override
+    public synchronized boolean finished() {
+        return closed && ready.isEmpty();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+
+        wake();
+    }
+
+    @Override
+    public synchronized boolean closed() {
+        return closed;
+    }
+
+    // The counters for a single sender, or null if nothing has been sent from him.
+    public synchronized Counters counters(Address from) {
+        Sender sender = senders.get(from);
+        if (sender == null) return null;
+
+        return sender.counters();
+    }
+
+    public synchronized Map<Address, Counters> counters() {
+        Map<Address, Counters> counters = new LinkedHashMap<>();
+        for (Map.Entry<Address, Sender> e : senders.entrySet()) {
+            counters.put(e.getKey(), e.getValue().counters());
+        }
+
+        return counters;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "FairInbox" + counters();
+    }
+}
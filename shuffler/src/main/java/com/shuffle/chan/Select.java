@@ -0,0 +1,155 @@
+package com.shuffle.chan;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits on several channels at once, like the select statement in golang. A thread
+ * that selects does not poll and no other threads are created; instead, every source
+ * wakes up whoever is selecting on it when a message arrives or when it is closed.
+ */
+public class Select {
+
+    // A source of messages that can be selected on.
+    public interface Selectable<X> extends Receive<X> {
+
+        // Take a message without waiting. Returns null if none is ready.
+        X poll();
+
+        // Whether the source is closed and has nothing left in it.
+        boolean finished();
+
+        void register(Select select);
+
+        void unregister(Select select);
+    }
+
+    // The Selects that are waiting on a source.
+    public static class Waiters {
+        private final CopyOnWriteArrayList<Select> waiting = new CopyOnWriteArrayList<>();
+
+        public void add(Select select) {
+            waiting.add(select);
+        }
+
+        public void remove(Select select) {
+            waiting.remove(select);
+        }
+
+        // Should be called after a message is put in the source or the source is closed.
+        public void wake() {
+            for (Select select : waiting) {
+                select.wake();
+            }
+        }
+    }
+
+    // The source that fired and what it gave. If the source was closed, value is null.
+    public static class Selection {
+        public final int index;
+        public final Selectable<?> from;
+        public final Object value;
+
+        private Selection(int index, Selectable<?> from, Object value) {
+            this.index = index;
+            this.from = from;
+            this.value = value;
+        }
+
+        // The value, if it came from the given source.
+        @SuppressWarnings("unchecked")
+        public <X> X get(Selectable<X> source) {
+            return source == from ? (X) value : null;
+        }
+
+        @Override
+        public String toString() {
+            return "Selection[" + index + ", " + value + "]";
+        }
+    }
+
+    private boolean woken = false;
+
+    private Select() {
+
+    }
+
+    private synchronized void wake() {
+        woken = true;
+        notifyAll();
+    }
+
+    // Wait to be woken up. Returns false if the deadline passed first.
+    private synchronized boolean await(boolean timed, long deadline) throws InterruptedException {
+        while (!woken) {
+            if (!timed) {
+                wait();
+                continue;
+            }
+
+            long wait = deadline - System.nanoTime();
+            if (wait <= 0) return false;
+
+            TimeUnit.NANOSECONDS.timedWait(this, wait);
+        }
+
+        woken = false;
+        return true;
+    }
+
+    // Take the first message that is ready, or note the first source to have been closed.
+    private static Selection ready(Selectable<?>[] sources) {
+        for (int i = 0; i < sources.length; i++) {
+            Object x = sources[i].poll();
+            if (x != null) {
+                return new Selection(i, sources[i], x);
+            }
+
+            if (sources[i].finished()) {
+                return new Selection(i, sources[i], null);
+            }
+        }
+
+        return null;
+    }
+
+    private static Selection select(boolean timed, long deadline, Selectable<?>[] sources)
+            throws InterruptedException {
+
+        if (sources.length == 0) throw new IllegalArgumentException();
+
+        Selection s = ready(sources);
+        if (s != null) return s;
+
+        Select select = new Select();
+        for (Selectable<?> source : sources) {
+            source.register(select);
+        }
+
+        try {
+            while (true) {
+                // Anything that arrives after this point will wake us up.
+                s = ready(sources);
+                if (s != null) return s;
+
+                if (!select.await(timed, deadline)) return null;
+            }
+        } finally {
+            for (Selectable<?> source : sources) {
+                source.unregister(select);
+            }
+        }
+    }
+
+    // Wait until one of the sources has a message or is closed.
+    public static Selection select(Selectable<?>... sources) throws InterruptedException {
+        return select(false, 0, sources);
+    }
+
+    // Returns null if nothing happens before the time is up.
+    public static Selection select(long l, TimeUnit u, Selectable<?>... sources)
+            throws InterruptedException {
+
+        return select(true, System.nanoTime() + u.toNanos(l), sources);
+    }
+}
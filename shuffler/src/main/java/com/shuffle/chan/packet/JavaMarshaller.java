@@ -35,7 +35,7 @@ public class JavaMarshaller<X extends Serializable> implements
     @Override
     public X unmarshall(Bytestring string) throws FormatException {
 
-        ByteArrayInputStream b = new ByteArrayInputStream(string.bytes);
+        ByteArrayInputStream b = new ByteArrayInputStream(string.bytes());
         Object obj = null;
         try {
             ObjectInputStream o = new ObjectInputStream(b);
@@ -7,12 +7,15 @@ import java.io.IOException;
 import java.io.Serializable;
 
 /**
- * OutgoingPacketSend creates packets with the correct sequence numbers.
+ * OutgoingPacketSend creates packets with the correct sequence numbers. It can also send
+ * broadcast packets that have already been signed, in which case it only fills in the
+ * recipient and sequence number.
  *
  * Created by Daniel Krawisz on 5/24/16.
  */
 public class OutgoingPacketSend<Address extends Serializable, X extends Serializable> implements Send<X> {
     private final Send<Packet<Address, X>> send;
+    private final Send<Signed<Packet<Address, X>>> signed; // May be null.
 
     private final Bytestring session;
     private final Address from, to;
@@ -21,9 +24,20 @@ public class OutgoingPacketSend<Address extends Serializable, X extends Serializ
     boolean closed = false;
 
     public OutgoingPacketSend(Send<Packet<Address, X>> send, Bytestring session, Address from, Address to) {
+        this(send, null, session, from, to);
+    }
+
+    public OutgoingPacketSend(
+            Send<Packet<Address, X>> send,
+            Send<Signed<Packet<Address, X>>> signed,
+            Bytestring session,
+            Address from,
+            Address to) {
+
         if (send == null || session == null || from == null || to == null) throw new NullPointerException();
 
         this.send = send;
+        this.signed = signed;
         this.session = session;
         this.from = from;
         this.to = to;
@@ -42,6 +56,25 @@ public class OutgoingPacketSend<Address extends Serializable, X extends Serializ
         return sent;
     }
 
+    // Send a broadcast packet that has already been signed.
+    public boolean send(Signed<Packet<Address, X>> broadcast) throws InterruptedException, IOException {
+        if (closed || signed == null) return false;
+
+        if (!broadcast.message.broadcast || !session.equals(broadcast.message.session)
+                || !from.equals(broadcast.message.from)) {
+
+            throw new IllegalArgumentException();
+        }
+
+        boolean sent = signed.send(Signed.addressed(broadcast, to, sequenceNumber));
+
+        if (sent) {
+            sequenceNumber++;
+        }
+
+        return sent;
+    }
+
     @Override
     public void close() {
         if (!closed) {
@@ -5,17 +5,27 @@ import com.shuffle.p2p.Bytestring;
 import java.io.Serializable;
 
 /**
+ * A packet is addressed to a single recipient and signed by its sender. A broadcast packet
+ * is signed once and then sent to many recipients, so its recipient and sequence number are
+ * an envelope that is not covered by the signature. Marshallers used for signing should
+ * marshall the unaddressed form of a broadcast packet.
+ *
  * Created by Daniel Krawisz on 5/24/16.
  */
 public class Packet<Address extends Serializable, X extends Serializable> implements Serializable {
     public final Bytestring session;
     public final Address from;
-    public final Address to;
+    public final Address to; // Null for a broadcast packet that has not been addressed yet.
     public final int sequenceNumber;
     public final X payload;
+    public final boolean broadcast;
 
     public Packet(Bytestring session, Address from, Address to, int sequenceNumber, X payload) {
-        if (session == null || from == null || to == null || payload == null)
+        this(session, from, to, sequenceNumber, payload, false);
+    }
+
+    public Packet(Bytestring session, Address from, Address to, int sequenceNumber, X payload, boolean broadcast) {
+        if (session == null || from == null || payload == null || to == null && !broadcast)
             throw new NullPointerException();
 
         this.session = session;
@@ -23,16 +33,38 @@ public class Packet<Address extends Serializable, X extends Serializable> implem
         this.to = to;
         this.sequenceNumber = sequenceNumber;
         this.payload = payload;
+        this.broadcast = broadcast;
+    }
+
+    // Make a broadcast packet that can be signed once and sent to everyone.
+    public static <Address extends Serializable, X extends Serializable> Packet<Address, X> broadcast(
+            Bytestring session, Address from, X payload) {
+
+        return new Packet<>(session, from, null, 0, payload, true);
+    }
+
+    // The part of the packet that is covered by the signature.
+    public Packet<Address, X> unaddressed() {
+        if (!broadcast || to == null && sequenceNumber == 0) return this;
+
+        return broadcast(session, from, payload);
+    }
+
+    // Fill in the envelope of a broadcast packet.
+    public Packet<Address, X> addressed(Address to, int sequenceNumber) {
+        if (!broadcast) throw new IllegalArgumentException();
+
+        return new Packet<>(session, from, to, sequenceNumber, payload, true);
     }
 
     @Override
     public String toString() {
-        return "Packet[session: " + session + ", from: \"" + from + "\", to: \"" + to + "\", number: " + sequenceNumber + ", payload: " + payload + "]";
+        return "Packet[session: " + session + ", from: \"" + from + "\", to: \"" + to + "\", number: " + sequenceNumber + ", payload: " + payload + (broadcast ? ", broadcast" : "") + "]";
     }
 
     @Override
     public int hashCode() {
-        return session.hashCode() + 17 * (from.hashCode() + 17 * (to.hashCode() + 17 * (sequenceNumber + 17 * payload.hashCode())));
+        return session.hashCode() + 17 * (from.hashCode() + 17 * ((to == null ? 0 : to.hashCode()) + 17 * (sequenceNumber + 17 * payload.hashCode())));
     }
 
     @Override
@@ -41,7 +73,9 @@ public class Packet<Address extends Serializable, X extends Serializable> implem
 
         Packet p = (Packet)o;
 
-        return session.equals(p.session) && from.equals(p.from) && to.equals(p.to)
-                && sequenceNumber == p.sequenceNumber && payload.equals(p.payload);
+        return session.equals(p.session) && from.equals(p.from)
+                && (to == null ? p.to == null : to.equals(p.to))
+                && sequenceNumber == p.sequenceNumber && payload.equals(p.payload)
+                && broadcast == p.broadcast;
     }
 }
@@ -14,11 +14,17 @@ public class Signed<X> implements Serializable {
     public final X message;
     public final Bytestring signature;
 
-    Signed(X message, Bytestring signature) {
+    // The bytes that were actually signed, if known. They are kept so that the message
+    // need not be marshalled again in order to be sent or verified. Since the field is
+    // transient it can only be filled in locally, by signing or by verifying a signature.
+    public final transient Bytestring marshalled;
+
+    Signed(X message, Bytestring signature, Bytestring marshalled) {
         if (message == null || signature == null) throw new NullPointerException();
 
         this.message = message;
         this.signature = signature;
+        this.marshalled = marshalled;
     }
 
     public Signed(Bytestring message, Bytestring signature, VerificationKey key, Marshaller<X> m) throws FormatException {
@@ -30,6 +36,28 @@ public class Signed<X> implements Serializable {
 
         this.signature = signature;
         this.message = m.unmarshall(message);
+        this.marshalled = message;
+    }
+
+    // For when the message has already been read from the signed bytes.
+    public Signed(Bytestring message, Bytestring signature, VerificationKey key, X x) {
+        if (message == null || signature == null || key == null || x == null) throw new NullPointerException();
+
+        if (!key.verify(message, signature)) {
+            throw new IllegalArgumentException();
+        }
+
+        this.signature = signature;
+        this.message = x;
+        this.marshalled = message;
+    }
+
+    // Fill in the recipient and sequence number of a signed broadcast packet. Since these are
+    // not covered by the signature, it remains valid.
+    public static <Address extends Serializable, X extends Serializable> Signed<Packet<Address, X>> addressed(
+            Signed<Packet<Address, X>> broadcast, Address to, int sequenceNumber) {
+
+        return new Signed<>(broadcast.message.addressed(to, sequenceNumber), broadcast.signature, broadcast.marshalled);
     }
 
     @Override
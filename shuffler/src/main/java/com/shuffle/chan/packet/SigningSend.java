@@ -31,13 +31,19 @@ public class SigningSend<X> implements Send<X> {
         this.key = key;
     }
 
+    // Sign a message without sending it anywhere. Returns null if it cannot be signed.
+    public static <X> Signed<X> sign(X x, Marshaller<X> marshaller, SigningKey key) throws IOException {
+        Bytestring b = marshaller.marshall(x);
+        if (b == null) return null;
+        Bytestring s = key.sign(b);
+        if (s == null) return null;
+        return new Signed<>(x, s, b);
+    }
+
     @Override
     public boolean send(X x) throws InterruptedException, IOException {
-        Bytestring b;
-        b = marshaller.marshall(x);
-        if (b == null) return false;
-        Bytestring s = key.sign(b);
-        return s != null && session.send(new Signed<>(x, s));
+        Signed<X> s = sign(x, marshaller, key);
+        return s != null && session.send(s);
 
     }
 
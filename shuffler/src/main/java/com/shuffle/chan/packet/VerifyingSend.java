@@ -32,7 +32,12 @@ public class VerifyingSend<X> implements Send<Signed<X>> {
 
     @Override
     public boolean send(Signed<X> x) throws InterruptedException, IOException {
-        return x != null && key.verify(marshaller.marshall(x.message), x.signature) && send.send(x);
+        if (x == null) return false;
+
+        // Don't marshall the message again if we already have the bytes that were signed.
+        Bytestring b = x.marshalled != null ? x.marshalled : marshaller.marshall(x.message);
+
+        return b != null && key.verify(b, x.signature) && send.send(x);
 
     }
 
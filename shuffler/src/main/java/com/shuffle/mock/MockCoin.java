@@ -27,12 +27,15 @@ import java.io.ObjectInputStream;
 import java.io.Reader;
 import java.io.Serializable;
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -96,7 +99,7 @@ public class MockCoin implements com.shuffle.sim.MockCoin {
 
             ObjectInputStream str;
             try {
-                str = new ObjectInputStream(new ByteArrayInputStream(b.bytes));
+                str = new ObjectInputStream(new ByteArrayInputStream(b.bytes()));
                 return (MockTransaction) str.readObject();
             } catch (IOException | ClassNotFoundException e) {
                 throw new FormatException("Cannot read " + b + " as MockTransaction.");
@@ -177,7 +180,7 @@ public class MockCoin implements com.shuffle.sim.MockCoin {
 
         @Override
         public boolean addInputScript(Bytestring b) throws FormatException {
-            MockSigningKey sk = new MockSigningKey(new String(b.bytes));
+            MockSigningKey sk = new MockSigningKey(new String(b.bytes()));
 
             for (Output o : inputs) {
                 SigningKey s = signatures.get(o);
@@ -393,6 +396,27 @@ public class MockCoin implements com.shuffle.sim.MockCoin {
         return sent.get(output);
     }
 
+    @Override
+    public Set<Address> insufficientFunds(Collection<Address> addrs, long amount) {
+        Set<Address> insufficient = new HashSet<>();
+        for (Address addr : addrs) {
+            if (!sufficientFunds(addr, amount)) insufficient.add(addr);
+        }
+        return insufficient;
+    }
+
+    @Override
+    public Map<Address, Transaction> getConflictingTransactions(
+            Transaction transaction, Collection<Address> addrs, long amount) {
+
+        Map<Address, Transaction> conflicts = new HashMap<>();
+        for (Address addr : addrs) {
+            Transaction t = getConflictingTransaction(transaction, addr, amount);
+            if (t != null) conflicts.put(addr, t);
+        }
+        return conflicts;
+    }
+
     @Override
     public Transaction getSpendingTransaction(Address addr, long amount) {
         Output output = blockchain.get(addr);
@@ -11,9 +11,11 @@ package com.shuffle.mock;
 import com.shuffle.bitcoin.Address;
 import com.shuffle.bitcoin.DecryptionKey;
 import com.shuffle.bitcoin.EncryptionKey;
+import com.shuffle.p2p.Bytestring;
 import com.shuffle.protocol.FormatException;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 
 /**
  * It's a pretend decryption key for testing purposes.
@@ -51,8 +53,25 @@ public class MockDecryptionKey implements DecryptionKey, Serializable {
         return m + "~decrypt[" + index + "]";
     }
 
+    @Override
+    public Bytestring decrypt(Bytestring m) {
+        return new Bytestring(decrypt(new String(m.bytes(), StandardCharsets.ISO_8859_1))
+                .getBytes(StandardCharsets.ISO_8859_1));
+    }
+
     @Override
     public String toString() {
         return "dk[" + index + "]";
     }
+
+    @Override
+    public int hashCode() {
+        return index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o != null
+                && o instanceof MockDecryptionKey && index == ((MockDecryptionKey) o).index;
+    }
 }
@@ -10,8 +10,10 @@ package com.shuffle.mock;
 
 import com.shuffle.bitcoin.Address;
 import com.shuffle.bitcoin.EncryptionKey;
+import com.shuffle.p2p.Bytestring;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.regex.Pattern;
 
 /**
@@ -40,6 +42,13 @@ public class MockEncryptionKey implements EncryptionKey, Serializable {
         return m + "~encrypt[" + index + "]";
     }
 
+    @Override
+    // Same as above, reading the bytes as latin-1 so that any byte string comes back intact.
+    public Bytestring encrypt(Bytestring m) {
+        return new Bytestring(encrypt(new String(m.bytes(), StandardCharsets.ISO_8859_1))
+                .getBytes(StandardCharsets.ISO_8859_1));
+    }
+
     @Override
     public String toString() {
         return "ek[" + index + "]";
@@ -17,6 +17,14 @@ import java.io.IOException;
  */
 public class MockProtobuf extends Protobuf {
 
+    // Mock keys are written as, for example, vk[n], but can also be read from just n.
+    private static String index(String prefix, String str) {
+        if (str.startsWith(prefix + "[") && str.endsWith("]")) {
+            return str.substring(prefix.length() + 1, str.length() - 1);
+        }
+        return str;
+    }
+
     @Override
     // Unmarshall an address from its string representation.
     public Address unmarshallAdress(String str) {
@@ -26,19 +34,19 @@ public class MockProtobuf extends Protobuf {
     @Override
     // Unmarshall an encryption key from a string.
     public EncryptionKey unmarshallEncryptionKey(String str) {
-        return new MockEncryptionKey(str);
+        return new MockEncryptionKey(index("ek", str));
     }
 
     @Override
     // Unmarshall a decryption key.
     public DecryptionKey unmarshallDecryptionKey(String privString, String pubString) {
-        return new MockDecryptionKey(privString);
+        return new MockDecryptionKey(index("dk", privString));
     }
 
     @Override
     // Unmarshall a verification key.
     public VerificationKey unmarshallVerificationKey(String str) {
-        return new MockVerificationKey(str);
+        return new MockVerificationKey(index("vk", str));
     }
 
     @Override
@@ -58,7 +66,7 @@ public class MockProtobuf extends Protobuf {
 
             @Override
             public Address unmarshall(Bytestring string) throws FormatException {
-                return unmarshallAdress(new String(string.bytes));
+                return unmarshallAdress(new String(string.bytes()));
             }
         };
     }
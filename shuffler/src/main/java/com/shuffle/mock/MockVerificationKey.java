@@ -33,7 +33,7 @@ public class MockVerificationKey implements VerificationKey, Serializable {
 
     @Override
     public boolean verify(Bytestring payload, Bytestring signature) {
-        return Arrays.equals(signature.bytes, new MockSigningKey(index).sign(payload).bytes);
+        return Arrays.equals(signature.bytes(), new MockSigningKey(index).sign(payload).bytes());
     }
 
     @Override
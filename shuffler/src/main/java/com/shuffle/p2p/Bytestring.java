@@ -16,6 +16,8 @@ package com.shuffle.p2p;
 
 import org.apache.commons.codec.binary.Hex;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
@@ -28,25 +30,76 @@ import java.util.List;
  * Created by Daniel Krawisz on 12/19/15.
  */
 public class Bytestring implements Serializable {
-    public final byte[] bytes;
+    // A Bytestring may be a view of part of an array that it shares with other
+    // Bytestrings, so the array must never be modified.
+    private final byte[] array;
+    private final int offset;
+    private final int length;
+
+    // Computed when it is first needed. Zero means not yet computed.
+    private transient int hash = 0;
 
     public Bytestring(byte[] bytes) {
-        this.bytes = bytes;
+        if (bytes == null) throw new NullPointerException();
+
+        this.array = bytes;
+        this.offset = 0;
+        this.length = bytes.length;
+    }
+
+    private Bytestring(byte[] array, int offset, int length) {
+        this.array = array;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public byte get(int i) {
+        if (i < 0 || i >= length) throw new IndexOutOfBoundsException();
+
+        return array[offset + i];
+    }
+
+    // The bytes as an array. The array is only copied if this is a view of part of it.
+    public byte[] bytes() {
+        if (offset == 0 && length == array.length) {
+            return array;
+        }
+
+        return Arrays.copyOfRange(array, offset, offset + length);
+    }
+
+    // A Bytestring that does not share its array with any other.
+    public Bytestring copy() {
+        return new Bytestring(Arrays.copyOfRange(array, offset, offset + length));
+    }
+
+    // A read-only view of the bytes which does not copy them.
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(array, offset, length).slice().asReadOnlyBuffer();
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(array, offset, length);
     }
 
     public Bytestring prepend(Bytestring pre) {
-        ByteBuffer target = ByteBuffer.wrap(new byte[bytes.length + pre.bytes.length]);
-        target.put(pre.bytes);
-        target.put(bytes);
-        return new Bytestring(target.array());
+        byte[] target = new byte[length + pre.length];
+        System.arraycopy(pre.array, pre.offset, target, 0, pre.length);
+        System.arraycopy(array, offset, target, pre.length, length);
+        return new Bytestring(target);
     }
 
     public Bytestring append(Bytestring post) {
         return post.prepend(this);
     }
 
-    private Bytestring cp9(int last, int next) {
-        return new Bytestring(Arrays.copyOfRange(bytes, last, next));
+    // Bytes from last to next, which shares the array of this Bytestring.
+    private Bytestring slice(int last, int next) {
+        return new Bytestring(array, offset + last, next - last);
     }
 
     public Bytestring[] chop(int[] where) {
@@ -60,33 +113,33 @@ public class Bytestring implements Serializable {
                 throw new IllegalArgumentException("chop locations have to be positive and increasing");
             }
 
-            if (next >= bytes.length) {
+            if (next >= length) {
                 throw new IllegalArgumentException("trying to chop beyond the end?");
             }
 
-            Bytestring section = cp9(last, next);
+            Bytestring section = slice(last, next);
             l.add(section);
-            i += section.bytes.length;
+            i += section.length;
 
             last = next;
         }
 
-        if (i < bytes.length) {
-            l.add(cp9(last, bytes.length));
+        if (i < length) {
+            l.add(slice(last, length));
         }
 
         return l.toArray(new Bytestring[l.size()]);
     }
 
     public Bytestring xor(Bytestring b) {
-        if (bytes.length != b.bytes.length) {
+        if (length != b.length) {
             throw new IllegalArgumentException("different lengths not allowed");
         }
 
-        byte[] newBytes = new byte[bytes.length];
+        byte[] newBytes = new byte[length];
 
-        for (int i = 0; i < bytes.length; i++) {
-            newBytes[i] = (byte)(bytes[i] ^ b.bytes[i]);
+        for (int i = 0; i < length; i++) {
+            newBytes[i] = (byte)(array[offset + i] ^ b.array[b.offset + i]);
         }
 
         return new Bytestring(newBytes);
@@ -94,51 +147,113 @@ public class Bytestring implements Serializable {
 
     public Bytestring drop(int a) {
         if (a < 0) {
-            return take(0, bytes.length + a);
+            return take(0, length + a);
         } else {
-            return take(a, bytes.length);
+            return take(a, length);
         }
     }
 
     public Bytestring take(int a, int b) {
         int from, to;
         if (a < 0) {
-            from = bytes.length - a;
+            from = length - a;
         } else {
             from = a;
         }
 
         if (b < 0) {
-            to = bytes.length - b;
+            to = length - b;
         } else {
             to = b;
         }
 
-        if (to <= from || to > bytes.length || from > bytes.length) {
+        if (to <= from || to > length || from > length) {
             throw new IllegalArgumentException();
         }
 
-        return new Bytestring(Arrays.copyOfRange(bytes, from, to));
+        return slice(from, to);
     }
 
     @Override
     public boolean equals(Object o) {
-        return o instanceof Bytestring && Arrays.equals(bytes, ((Bytestring) o).bytes);
+        if (this == o) return true;
+
+        if (!(o instanceof Bytestring)) return false;
+
+        Bytestring b = (Bytestring) o;
+        if (length != b.length) return false;
+
+        for (int i = 0; i < length; i++) {
+            if (array[offset + i] != b.array[b.offset + i]) return false;
+        }
 
+        return true;
     }
 
+    // Bytestrings are used as keys for session ids, signatures and hashes, which would
+    // collide a lot if we just added the bytes, so we use the 32 bit Murmur3 hash.
     @Override
     public int hashCode() {
-        int code = 0;
-        for (int i : bytes) {
-            code += i;
+        int h = hash;
+        if (h != 0) {
+            return h;
         }
 
-        return code;
+        final int c1 = 0xcc9e2d51;
+        final int c2 = 0x1b873593;
+
+        int end = offset + (length & ~3);
+        int i = offset;
+        for (; i < end; i += 4) {
+            int k = (array[i] & 0xff) | (array[i + 1] & 0xff) << 8
+                    | (array[i + 2] & 0xff) << 16 | array[i + 3] << 24;
+
+            k *= c1;
+            k = Integer.rotateLeft(k, 15);
+            k *= c2;
+
+            h ^= k;
+            h = Integer.rotateLeft(h, 13);
+            h = h * 5 + 0xe6546b64;
+        }
+
+        int k = 0;
+        switch (length & 3) {
+            case 3:
+                k ^= (array[i + 2] & 0xff) << 16;
+            case 2:
+                k ^= (array[i + 1] & 0xff) << 8;
+            case 1:
+                k ^= array[i] & 0xff;
+                k *= c1;
+                k = Integer.rotateLeft(k, 15);
+                k *= c2;
+                h ^= k;
+        }
+
+        h ^= length;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+
+        // The result is only cached if it is not zero, which is rare.
+        hash = h;
+        return h;
     }
 
     @Override
     public String toString() {
-        return "Bytestring[" + Hex.encodeHexString(bytes) + "]";
+        return "Bytestring[" + Hex.encodeHexString(bytes()) + "]";
+    }
+
+    // A view is serialized without the rest of the array that it shares.
+    private Object writeReplace() {
+        if (offset == 0 && length == array.length) {
+            return this;
+        }
+
+        return copy();
     }
 }
@@ -9,19 +9,24 @@
 package com.shuffle.p2p;
 
 import com.shuffle.bitcoin.Crypto;
+import com.shuffle.chan.BasicInbox;
 import com.shuffle.chan.Inbox;
 import com.shuffle.chan.Send;
 
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.LinkedList;
-import java.util.Map;
-import java.util.Queue;
-import java.util.Set;
+import java.util.List;
 import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A class for setting up Network objects. It manages setting up all all the necessary
@@ -31,113 +36,61 @@ import java.util.TreeSet;
  */
 public class Connect<Identity, P extends Serializable> implements Connection<Identity> {
 
-    // The list of peers will be altered by two threads; the one for initiating connections
-    // and the one for receiving connections. We set it in its own class to allow for some
-    // synchronized functions.
-    private class Peers {
-
-        // The list of peers which we have not connected with yet.
-        private final Queue<Identity> unconnected = new LinkedList<>();
-        private final Set<Identity> remaining = new TreeSet<>();
-
-        private final Collector<Identity, P> collector;
-
-        private Peers(Collector<Identity, P> collector) {
-            this.collector = collector;
+    // The number of peers that we try to connect to at the same time by default.
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    // How long to wait in milliseconds before trying a peer again for the first time.
+    // The wait is doubled after every failure up to MAX_BACKOFF.
+    public static final long DEFAULT_BACKOFF = 50;
+    private static final long MAX_BACKOFF = 5000;
+
+    // How often to check whether everyone has connected to us while we wait.
+    private static final long POLL = 10;
+
+    // Keeps trying to connect to a single peer until a session with it exists, either
+    // because we opened it or because the peer connected to us. Returns false if the
+    // number of failures goes over maxRetries. Failures before the time given by until
+    // are not counted.
+    private class Dial implements Callable<Boolean> {
+        private final Identity identity;
+        private final int maxRetries;
+        private final long until;
+
+        private Dial(Identity identity, int maxRetries, long until) {
+            this.identity = identity;
+            this.maxRetries = maxRetries;
+            this.until = until;
         }
 
-        public void queue(Identity identity) {
-            if (identity == null) {
-                throw new NullPointerException();
-            }
-
-            if (remaining.contains(identity)) return;
-
-            unconnected.add(identity);
-            remaining.add(identity);
-        }
-
-        public Identity peek() {
-            return unconnected.peek();
-        }
-
-        boolean rotate() {
-            Identity identity = unconnected.poll();
-            if (identity == null) {
-                return false;
-            }
-
-            unconnected.add(identity);
-            return true;
-        }
-
-        private boolean connect(Session<Identity, P> session) throws InterruptedException {
-            Identity addr = session.peer().identity();
-
-            return remaining.remove(addr) && collector.put(session);
-
-        }
-
-        public synchronized boolean openSession(
-                Identity identity,
-                Peer<Identity, P> peer) throws InterruptedException, IOException {
-
-            Send<P> processor = collector.inbox.receivesFrom(identity);
-            if (processor != null) {
-                Session<Identity, P> session =
-                        peer.openSession(processor);
+        @Override
+        public Boolean call() throws InterruptedException {
+            long wait = backoff;
+            int failures = 0;
 
-                if (session != null) {
-                    remove();
-                    connect(session);
+            while (true) {
+                if (connected(identity)) {
                     return true;
-                } else {
-                    processor.close();
-                    return false;
                 }
-            }
-            return false;
-        }
-
-        boolean connected(Identity identity) {
-            return collector.connected.containsKey(identity);
-        }
-
-        // Removes the first element from the list.
-        void remove() {
-            unconnected.remove();
-        }
-
-        @Override
-        public String toString() {
-            return unconnected.toString();
-        }
-    }
 
-    // Keep track of the number of connection attempt retries for each address.
-    private class Retries {
-        final Map<Identity, Integer> retries = new HashMap<>();
-
-        public int retries(Identity identity) {
-            Integer r = retries.get(identity);
-            if (r == null) {
-                retries.put(identity, 0);
-                return 0;
-            }
+                try {
+                    if (openSession(identity)) {
+                        return true;
+                    }
+                } catch (IOException e) {
+                    // The peer may not be listening yet, so this is just another failure.
+                }
 
-            return r;
-        }
+                if (System.currentTimeMillis() >= until) {
+                    failures++;
+                }
 
-        public int increment(Identity identity) {
-            Integer r = retries.get(identity);
+                if (failures > maxRetries) {
+                    return connected(identity);
+                }
 
-            if (r == null) {
-                r = 0;
+                Thread.sleep(wait);
+                wait = Math.min(wait * 2, MAX_BACKOFF);
             }
-            r++;
-
-            retries.put(identity, r);
-            return r;
         }
     }
 
@@ -146,6 +99,9 @@ public class Connect<Identity, P extends Serializable> implements Connection<Ide
     private final Collector<Identity, P> collector;
     private final Crypto crypto;
 
+    private final int parallelism;
+    private final long backoff;
+
     private boolean finished = false;
 
     public Connect(Channel<Identity, P> channel, Crypto crypto)
@@ -157,22 +113,89 @@ public class Connect<Identity, P extends Serializable> implements Connection<Ide
     public Connect(Channel<Identity, P> channel, Crypto crypto, int capacity)
             throws InterruptedException, IOException {
 
-        if (channel == null || crypto == null) throw new NullPointerException();
+        this(channel, crypto, capacity, DEFAULT_PARALLELISM, DEFAULT_BACKOFF);
+    }
+
+    public Connect(
+            Channel<Identity, P> channel,
+            Crypto crypto,
+            int capacity,
+            int parallelism,
+            long backoff) throws InterruptedException, IOException {
 
-        collector = new Collector<>(new Inbox<Identity, P>(capacity));
+        this(channel, crypto, new BasicInbox<Identity, P>(capacity), parallelism, backoff);
+    }
+
+    // All messages received from peers will be put in the given inbox.
+    public Connect(
+            Channel<Identity, P> channel,
+            Crypto crypto,
+            Inbox<Identity, P> inbox,
+            int parallelism,
+            long backoff) throws InterruptedException, IOException {
+
+        if (channel == null || crypto == null || inbox == null) throw new NullPointerException();
+
+        if (parallelism < 1 || backoff < 0) throw new IllegalArgumentException();
+
+        collector = new Collector<>(inbox);
 
         connection = channel.open(collector);
         if (connection == null ) throw new IllegalArgumentException();
 
         this.channel = channel;
         this.crypto = crypto;
+        this.parallelism = parallelism;
+        this.backoff = backoff;
+    }
+
+    private boolean connected(Identity identity) {
+        return collector.connected.containsKey(identity);
+    }
+
+    private boolean openSession(Identity identity) throws InterruptedException, IOException {
+        Peer<Identity, P> peer = channel.getPeer(identity);
+
+        if (peer == null) {
+            // TODO clean up properly and fail more gracefully.
+            throw new NullPointerException();
+        }
+
+        Send<P> processor = collector.inbox.receivesFrom(identity);
+        if (processor == null) {
+            return false;
+        }
+
+        Session<Identity, P> session = peer.openSession(processor);
+        if (session == null) {
+            processor.close();
+            return false;
+        }
+
+        // If the peer connected to us in the meantime, the collector closes this
+        // session and keeps the other one.
+        collector.put(session);
+        return true;
     }
 
     // Connect to all peers; remote peers can be initiating connections to us as well.
+    // Up to parallelism peers are dialed at once, and each peer may fail up to
+    // maxRetries times before we give up.
     public Collector<Identity, P> connect(
             SortedSet<Identity> addrs,
             int maxRetries) throws IOException, InterruptedException {
 
+        return connect(addrs, maxRetries, 0);
+    }
+
+    // Like connect above, but peers may also fail any number of times before the given
+    // time in milliseconds. This allows us to begin connecting before other peers are
+    // expected to be online.
+    public Collector<Identity, P> connect(
+            SortedSet<Identity> addrs,
+            int maxRetries,
+            long until) throws IOException, InterruptedException {
+
         if (addrs == null) throw new NullPointerException();
 
         if (finished) {
@@ -180,14 +203,13 @@ public class Connect<Identity, P extends Serializable> implements Connection<Ide
             return null;
         }
 
-        Peers peers = new Peers(collector);
-
         // Randomly arrange the list of peers.
         // First, put all peers in an array.
         ArrayList<Identity> identities = new ArrayList<>();
         identities.addAll(addrs);
 
-        // Then randomly select them one at a time and put them in peers.
+        // Then randomly select them one at a time and put them in order.
+        List<Identity> order = new LinkedList<>();
         for (int rmax = addrs.size() - 1; rmax >= 0; rmax--) {
             int rand = crypto.getRandom(rmax);
             Identity addr = identities.get(rand);
@@ -196,50 +218,38 @@ public class Connect<Identity, P extends Serializable> implements Connection<Ide
             // we are always selecting randomly from a set of unselected peers.
             identities.set(rand, identities.get(rmax));
 
-            // Don't try to connect to myself.
-            //if (addr.equals(me)) continue;
-
-            peers.queue(addr);
+            order.add(addr);
         }
 
-        final Retries retries = new Retries();
-
-        while (true) {
-            Identity identity = peers.peek();
-            if (identity == null) {
-                break;
-            }
-
-            if (peers.connected(identity)) {
-                peers.remove();
-                continue;
-            }
-
-            Peer<Identity, P> peer = channel.getPeer(identity);
-
-            if (peer == null) {
-                // TODO clean up properly and fail more gracefully.
-                throw new NullPointerException();
-            }
-
-            if (peers.openSession(identity, peer)) {
-                continue;
-            }
+        if (!order.isEmpty()) {
+            ExecutorService dialers = Executors.newFixedThreadPool(
+                    Math.min(parallelism, order.size()));
+            CompletionService<Boolean> dials = new ExecutorCompletionService<>(dialers);
 
-            int r = retries.increment(peer.identity());
-
-            if (r > maxRetries) {
-                // Maximum number of retries has prevented us from making all connections.
-                // TODO In some instances, it should be possible to run coin shuffle with fewer
-                // players, so we should still return the network object.
-                connection.close();
-                return null;
-            }
+            try {
+                for (Identity identity : order) {
+                    dials.submit(new Dial(identity, maxRetries, until));
+                }
 
-            // We were not able to connect to this peer this time,
-            // so we move on to the next one for now.
-            if (!peers.rotate()) {
-                break;
+                int remaining = order.size();
+                while (remaining > 0 && !collector.connected.keySet().containsAll(addrs)) {
+                    Future<Boolean> dial = dials.poll(POLL, TimeUnit.MILLISECONDS);
+                    if (dial == null) {
+                        continue;
+                    }
+
+                    remaining--;
+
+                    if (!succeeded(dial)) {
+                        // Maximum number of retries has prevented us from making all connections.
+                        // TODO In some instances, it should be possible to run coin shuffle with fewer
+                        // players, so we should still return the network object.
+                        connection.close();
+                        return null;
+                    }
+                }
+            } finally {
+                dialers.shutdownNow();
             }
         }
 
@@ -247,6 +257,17 @@ public class Connect<Identity, P extends Serializable> implements Connection<Ide
         return collector;
     }
 
+    private static boolean succeeded(Future<Boolean> dial) throws InterruptedException {
+        try {
+            return dial.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new RuntimeException(cause);
+        }
+    }
+
     @Override
     public void close() {
         connection.close();
@@ -0,0 +1,120 @@
+package com.shuffle.p2p;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Reads the frames that are sent over tcp, each of which is a TcpChannel.Header
+ * followed by a payload. Bytes can be given in pieces of any size, and each payload
+ * is read straight into the array that is returned as its Bytestring.
+ */
+class FrameReader {
+    // The largest payload that we will read by default.
+    public static final int DEFAULT_MAX_FRAME_SIZE = 1 << 24;
+
+    // The size of the buffers that bytes are read into from sockets.
+    static final int BUFFER_SIZE = 1 << 16;
+
+    // Direct buffers for reading from sockets, which are expensive to make.
+    private static final Queue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+
+    // Take a buffer from the pool, ready to be read into.
+    static ByteBuffer take() {
+        ByteBuffer buffer = pool.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+
+        buffer.clear();
+        return buffer;
+    }
+
+    // Return a buffer to the pool.
+    static void give(ByteBuffer buffer) {
+        if (buffer != null && buffer.isDirect() && buffer.capacity() == BUFFER_SIZE) {
+            pool.add(buffer);
+        }
+    }
+
+    private final TcpChannel.Header header;
+    private final int maxFrameSize;
+
+    // The frame that is being read.
+    private final byte[] head;
+    private int headRead = 0;
+    private byte[] payload = null;
+    private int payloadRead = 0;
+
+    FrameReader(TcpChannel.Header header, int maxFrameSize) {
+        if (header == null) throw new NullPointerException();
+        if (maxFrameSize < 0) throw new IllegalArgumentException();
+
+        this.header = header;
+        this.maxFrameSize = maxFrameSize;
+        head = new byte[header.headerLength()];
+    }
+
+    // Take bytes from the buffer, which must be ready to be read from, until a whole
+    // frame has been read. Returns null if the buffer runs out first, in which case the
+    // partial frame is kept until more bytes are given.
+    Bytestring next(ByteBuffer buffer) throws IOException {
+        if (payload == null) {
+            int n = Math.min(head.length - headRead, buffer.remaining());
+            buffer.get(head, headRead, n);
+            headRead += n;
+
+            if (headRead < head.length) {
+                return null;
+            }
+
+            int length = header.payloadLength(head);
+            if (length < 0 || length > maxFrameSize) {
+                throw new IOException("Invalid frame length " + length);
+            }
+
+            // Otherwise we would read empty frames forever without consuming anything.
+            if (length == 0 && head.length == 0) {
+                throw new IOException("Empty frames are not allowed without a header.");
+            }
+
+            payload = new byte[length];
+            payloadRead = 0;
+        }
+
+        int n = Math.min(payload.length - payloadRead, buffer.remaining());
+        buffer.get(payload, payloadRead, n);
+        payloadRead += n;
+
+        if (payloadRead < payload.length) {
+            return null;
+        }
+
+        Bytestring frame = new Bytestring(payload);
+        payload = null;
+        headRead = 0;
+        return frame;
+    }
+
+    // Read from a blocking channel until a whole frame has arrived, using the given buffer
+    // for whatever is read beyond it. Returns null at the end of the stream.
+    Bytestring read(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+        while (true) {
+            // The buffer is kept ready to be read from between calls.
+            Bytestring frame = next(buffer);
+            if (frame != null) {
+                return frame;
+            }
+
+            buffer.clear();
+            int read = in.read(buffer);
+            buffer.flip();
+
+            if (read < 0) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,726 @@
+package com.shuffle.p2p;
+
+import com.shuffle.chan.Send;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A tcp channel that does not need a thread for every connection. Every session is
+ * handled by a single event loop with non-blocking reads and writes, and the event loop
+ * may be shared between many channels. Messages are framed with TcpChannel.Header, so
+ * this channel can talk to a TcpChannel on the other end.
+ *
+ * The event loop only reads and writes bytes. Messages that have been read are given to
+ * their receivers on worker threads, so a receiver that is slow or that fails cannot hold
+ * up any other session.
+ */
+public class NioTcpChannel implements Channel<InetSocketAddress, Bytestring> {
+
+    /**
+     * A thread that waits on a selector and handles all sockets registered with it.
+     */
+    public static class EventLoop implements Runnable {
+        private Selector selector = null;
+
+        // Things to be done on the event loop thread, such as registering new sockets.
+        private final Queue<Task> tasks = new ConcurrentLinkedQueue<>();
+
+        // Where received messages are given to their receivers. Idle threads go away
+        // on their own, so nothing needs to be shut down.
+        private final ExecutorService workers = Executors.newCachedThreadPool(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "tcp receiver");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+
+        // Start the thread if it has not been started yet.
+        private synchronized Selector selector() throws IOException {
+            if (selector == null || !selector.isOpen()) {
+                selector = Selector.open();
+                Thread thread = new Thread(this, "tcp event loop");
+                thread.setDaemon(true);
+                thread.start();
+            }
+
+            return selector;
+        }
+
+        // Run something on the event loop thread.
+        private void execute(Task task) throws IOException {
+            Selector selector = selector();
+            tasks.add(task);
+            selector.wakeup();
+        }
+
+        // Whether the loop that was started with this selector should keep going.
+        private synchronized boolean running(Selector selector) {
+            return this.selector == selector;
+        }
+
+        // Stop the event loop thread and close everything that it is handling. The loop
+        // starts again if it is used again afterwards.
+        public void close() {
+            Selector selector;
+            synchronized (this) {
+                selector = this.selector;
+                this.selector = null;
+            }
+
+            if (selector != null) {
+                selector.wakeup();
+            }
+        }
+
+        @Override
+        public void run() {
+            Selector selector;
+            synchronized (this) {
+                selector = this.selector;
+            }
+
+            try {
+                while (running(selector)) {
+                    selector.select();
+
+                    runTasks(selector);
+
+                    for (SelectionKey key : selector.selectedKeys()) {
+                        ready(key);
+                    }
+                    selector.selectedKeys().clear();
+                }
+            } catch (IOException | ClosedSelectorException e) {
+                // The loop is over.
+            } finally {
+                stop(selector);
+            }
+        }
+
+        private void runTasks(Selector selector) {
+            Task task;
+            while ((task = tasks.poll()) != null) {
+                try {
+                    task.run(selector);
+                } catch (RuntimeException e) {
+                    // Whatever the task was for is lost, but nothing else is.
+                }
+            }
+        }
+
+        // A handler that fails is closed by itself so that the loop can go on.
+        private static void ready(SelectionKey key) {
+            Handler handler = (Handler) key.attachment();
+            try {
+                handler.ready(key);
+            } catch (RuntimeException e) {
+                handler.close();
+            }
+        }
+
+        // Close everything that was registered with the selector, including whatever
+        // was still waiting to be registered.
+        private void stop(Selector selector) {
+            try {
+                runTasks(selector);
+
+                for (SelectionKey key : new ArrayList<>(selector.keys())) {
+                    ((Handler) key.attachment()).close();
+                }
+            } catch (ClosedSelectorException e) {
+                // Nothing left to close.
+            }
+
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+
+            }
+        }
+    }
+
+    // Something to be done on the event loop thread.
+    private interface Task {
+        void run(Selector selector);
+    }
+
+    // Something that is waiting on the event loop.
+    private interface Handler {
+        void ready(SelectionKey key);
+
+        void close();
+    }
+
+    // How many messages a session may have waiting for its receiver before we stop
+    // reading from it. Reading starts again when half of them have been taken.
+    private static final int MAX_QUEUED = 64;
+
+    // Put after the last message of a session to tell the worker to close the receiver.
+    private static final Bytestring END = new Bytestring(new byte[0]);
+
+    // A particular header format that is used for this particular channel.
+    private final TcpChannel.Header header;
+
+    private final EventLoop loop;
+
+    // Whether the event loop was made for this channel alone, in which case it is
+    // stopped when the connection is closed.
+    private final boolean ownLoop;
+
+    private final int port;
+    private final InetSocketAddress me;
+
+    // Frames with longer payloads than this are rejected and their sessions closed.
+    private final int maxFrameSize;
+
+    private final TcpChannel.Options options;
+
+    // Only one object representing each peer is allowed at a time.
+    private final Map<InetSocketAddress, NioPeer> peers = new HashMap<>();
+
+    // The sessions which are currently open.
+    private final Map<InetSocketAddress, NioSession> openSessions = new ConcurrentHashMap<>();
+
+    private NioConnection connection = null;
+
+    private final Object lock = new Object();
+
+    private NioTcpChannel(
+            TcpChannel.Header header,
+            InetSocketAddress me,
+            EventLoop loop,
+            boolean ownLoop,
+            int maxFrameSize,
+            TcpChannel.Options options) {
+
+        if (header == null || me == null || loop == null || options == null) {
+            throw new NullPointerException();
+        }
+
+        if (maxFrameSize < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.header = header;
+        this.me = me;
+        this.port = me.getPort();
+        this.loop = loop;
+        this.ownLoop = ownLoop;
+        this.maxFrameSize = maxFrameSize;
+        this.options = options;
+    }
+
+    public NioTcpChannel(
+            TcpChannel.Header header,
+            InetSocketAddress me,
+            EventLoop loop,
+            int maxFrameSize,
+            TcpChannel.Options options) {
+
+        this(header, me, loop, false, maxFrameSize, options);
+    }
+
+    public NioTcpChannel(
+            TcpChannel.Header header,
+            InetSocketAddress me,
+            EventLoop loop,
+            int maxFrameSize) {
+
+        this(header, me, loop, maxFrameSize, TcpChannel.defaultOptions());
+    }
+
+    public NioTcpChannel(TcpChannel.Header header, InetSocketAddress me, EventLoop loop) {
+        this(header, me, loop, FrameReader.DEFAULT_MAX_FRAME_SIZE);
+    }
+
+    public NioTcpChannel(InetSocketAddress me, EventLoop loop, TcpChannel.Options options) {
+        this(TcpChannel.defaultHeader(), me, loop, FrameReader.DEFAULT_MAX_FRAME_SIZE, options);
+    }
+
+    public NioTcpChannel(InetSocketAddress me, EventLoop loop) {
+        this(TcpChannel.defaultHeader(), me, loop);
+    }
+
+    public NioTcpChannel(InetSocketAddress me) {
+        this(TcpChannel.defaultHeader(), me, new EventLoop(), true,
+                FrameReader.DEFAULT_MAX_FRAME_SIZE, TcpChannel.defaultOptions());
+    }
+
+    private class NioPeer extends FundamentalPeer<InetSocketAddress, Bytestring> {
+
+        NioPeer(InetSocketAddress identity) {
+            super(identity);
+        }
+
+        @Override
+        public synchronized Session<InetSocketAddress, Bytestring> openSession(
+                Send<Bytestring> send
+        ) throws IOException {
+
+            if (send == null) throw new NullPointerException();
+
+            synchronized (lock) {
+                if (connection == null) {
+                    return null;
+                }
+            }
+
+            if (currentSession != null && !currentSession.closed()) {
+                return null;
+            }
+
+            InetSocketAddress identity = identity();
+            if (identity.getAddress() == null || openSessions.containsKey(identity)) {
+                return null;
+            }
+
+            SocketChannel socket = SocketChannel.open();
+            options.apply(socket.socket());
+            socket.connect(identity);
+            NioSession session = new NioSession(this, socket);
+            if (!session.start(send)) {
+                return null;
+            }
+
+            return session;
+        }
+    }
+
+    // Encapsulates a particular tcp session.
+    private class NioSession implements Session<InetSocketAddress, Bytestring>, Handler {
+        private final NioPeer peer;
+        private final SocketChannel socket;
+
+        // Where received messages go.
+        private Send<Bytestring> receiver = null;
+
+        private SelectionKey key = null;
+        private boolean closed = false;
+
+        // Whether we have stopped reading until the receiver catches up.
+        private boolean paused = false;
+
+        // Messages which could not be written immediately.
+        private final Queue<ByteBuffer[]> pending = new LinkedList<>();
+
+        // The frame that is being read.
+        private final FrameReader frames = new FrameReader(header, maxFrameSize);
+
+        // Messages which have been read but not yet given to the receiver, and how many.
+        private final Queue<Bytestring> received = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger(0);
+
+        // Gives received messages to the receiver on a worker thread. Only one of these
+        // runs at a time for each session, so messages arrive one by one and in order.
+        private final Runnable receive = new Runnable() {
+            // Set once the receiver has failed or been closed.
+            private boolean done = false;
+
+            @Override
+            public void run() {
+                int left;
+                do {
+                    Bytestring msg = received.poll();
+
+                    if (msg == END) {
+                        done = true;
+                        receiver.close();
+                    } else if (!done) {
+                        try {
+                            receiver.send(msg);
+                        } catch (IOException | InterruptedException | RuntimeException e) {
+                            done = true;
+                            close();
+                        }
+                    }
+
+                    left = queued.decrementAndGet();
+                    if (left <= MAX_QUEUED / 2) {
+                        resume();
+                    }
+                } while (left > 0);
+            }
+        };
+
+        NioSession(NioPeer peer, SocketChannel socket) throws IOException {
+            this.peer = peer;
+            this.socket = socket;
+            socket.configureBlocking(false);
+        }
+
+        // Register the session as open and begin reading from it.
+        boolean start(Send<Bytestring> receiver) throws IOException {
+            InetSocketAddress identity = peer.identity();
+
+            synchronized (lock) {
+                if (connection == null || openSessions.containsKey(identity)) {
+                    socket.close();
+                    return false;
+                }
+
+                openSessions.put(identity, this);
+                peer.currentSession = this;
+            }
+
+            this.receiver = receiver;
+
+            loop.execute(new Task() {
+                @Override
+                public void run(Selector selector) {
+                    register(selector);
+                }
+            });
+
+            return true;
+        }
+
+        private synchronized void register(Selector selector) {
+            if (closed) return;
+
+            try {
+                key = socket.register(selector, interest(), this);
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        // What the event loop should wait for on this socket.
+        private int interest() {
+            return (paused ? 0 : SelectionKey.OP_READ)
+                    | (pending.isEmpty() ? 0 : SelectionKey.OP_WRITE);
+        }
+
+        // Stop reading until the receiver has caught up. If it already has, then it has
+        // already tried to resume, so we must not pause.
+        private synchronized void pause() {
+            if (closed || queued.get() <= MAX_QUEUED / 2) return;
+
+            paused = true;
+            key.interestOps(interest());
+        }
+
+        private synchronized void resume() {
+            if (closed || !paused) return;
+
+            paused = false;
+            if (key != null) {
+                key.interestOps(interest());
+                key.selector().wakeup();
+            }
+        }
+
+        // Give a message to the receiver on a worker thread.
+        private void deliver(Bytestring msg) {
+            received.add(msg);
+            if (queued.getAndIncrement() == 0) {
+                loop.workers.execute(receive);
+            }
+        }
+
+        @Override
+        public synchronized boolean send(Bytestring message) throws IOException {
+            if (closed) {
+                return false;
+            }
+
+            ByteBuffer[] frame = new ByteBuffer[]{
+                    ByteBuffer.wrap(header.makeHeader(message.length()).bytes()),
+                    message.asByteBuffer()};
+
+            if (pending.isEmpty()) {
+                try {
+                    socket.write(frame);
+                } catch (IOException e) {
+                    close();
+                    throw e;
+                }
+
+                if (written(frame)) {
+                    return true;
+                }
+            }
+
+            // Whatever could not be written now will be written when the socket is ready.
+            pending.add(frame);
+            if (key != null) {
+                key.interestOps(interest());
+                key.selector().wakeup();
+            }
+
+            return true;
+        }
+
+        private boolean written(ByteBuffer[] frame) {
+            return !frame[0].hasRemaining() && !frame[1].hasRemaining();
+        }
+
+        // Called by the event loop.
+        @Override
+        public void ready(SelectionKey key) {
+            if (key.isWritable()) {
+                write();
+            }
+
+            if (key.isValid() && key.isReadable()) {
+                read();
+            }
+        }
+
+        private synchronized void write() {
+            try {
+                while (!pending.isEmpty()) {
+                    ByteBuffer[] frame = pending.peek();
+                    socket.write(frame);
+
+                    if (!written(frame)) {
+                        return;
+                    }
+
+                    pending.remove();
+                }
+
+                key.interestOps(interest());
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        // Read whatever is available into a pooled buffer. Nothing is held between events
+        // except for the part of a frame that has already been read and the messages that
+        // are waiting for the receiver.
+        private void read() {
+            ByteBuffer buffer = FrameReader.take();
+            try {
+                while (true) {
+                    buffer.clear();
+                    int read = socket.read(buffer);
+                    buffer.flip();
+
+                    Bytestring msg;
+                    while ((msg = frames.next(buffer)) != null) {
+                        deliver(msg);
+                    }
+
+                    if (read < 0) {
+                        close();
+                        return;
+                    }
+
+                    if (read == 0) {
+                        return;
+                    }
+
+                    if (queued.get() >= MAX_QUEUED) {
+                        pause();
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                close();
+            } finally {
+                FrameReader.give(buffer);
+            }
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+
+                if (key != null) {
+                    key.cancel();
+                }
+
+                try {
+                    socket.close();
+                } catch (IOException ignored) {
+
+                }
+
+                pending.clear();
+            }
+
+            openSessions.remove(peer.identity(), this);
+            synchronized (peer) {
+                if (peer.currentSession == this) {
+                    peer.currentSession = null;
+                }
+            }
+
+            // The receiver is closed after it has been given everything that was read.
+            if (receiver != null) {
+                deliver(END);
+            }
+        }
+
+        @Override
+        public synchronized boolean closed() {
+            return closed;
+        }
+
+        @Override
+        public Peer<InetSocketAddress, Bytestring> peer() {
+            return peer;
+        }
+    }
+
+    // Accepts new connections.
+    private class NioConnection implements Connection<InetSocketAddress>, Handler {
+        private final Listener<InetSocketAddress, Bytestring> listener;
+        private final ServerSocketChannel server;
+        private boolean closed = false;
+
+        private NioConnection(
+                Listener<InetSocketAddress, Bytestring> listener,
+                ServerSocketChannel server) {
+
+            this.listener = listener;
+            this.server = server;
+        }
+
+        @Override
+        public void ready(SelectionKey key) {
+            SocketChannel client;
+            try {
+                client = server.accept();
+            } catch (IOException e) {
+                close();
+                return;
+            }
+
+            if (client == null) return;
+
+            try {
+                options.apply(client.socket());
+
+                // Determine the identity of this connection.
+                InetSocketAddress identity = (InetSocketAddress) client.getRemoteAddress();
+
+                NioPeer peer;
+                synchronized (peers) {
+                    peer = peers.get(identity);
+                    if (peer == null) {
+                        peer = new NioPeer(identity);
+                        peers.put(identity, peer);
+                    }
+                }
+
+                NioSession session = new NioSession(peer, client);
+                Send<Bytestring> send = listener.newSession(session);
+
+                if (send == null || !session.start(send)) {
+                    client.close();
+                }
+            } catch (IOException | InterruptedException | RuntimeException e) {
+                try {
+                    client.close();
+                } catch (IOException ignored) {
+
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            synchronized (lock) {
+                if (closed) return;
+                closed = true;
+                connection = null;
+            }
+
+            try {
+                server.close();
+            } catch (IOException ignored) {
+
+            }
+
+            for (NioSession session : openSessions.values()) {
+                session.close();
+            }
+
+            if (ownLoop) {
+                loop.close();
+            }
+        }
+
+        @Override
+        public boolean closed() {
+            synchronized (lock) {
+                return closed;
+            }
+        }
+    }
+
+    @Override
+    public Connection<InetSocketAddress> open(
+            Listener<InetSocketAddress, Bytestring> listener
+    ) throws IOException {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+
+        synchronized (lock) {
+            if (connection != null) return null;
+
+            final ServerSocketChannel server = ServerSocketChannel.open();
+            options.apply(server.socket());
+            server.bind(new InetSocketAddress(port));
+            server.configureBlocking(false);
+
+            final NioConnection conn = new NioConnection(listener, server);
+            connection = conn;
+
+            loop.execute(new Task() {
+                @Override
+                public void run(Selector selector) {
+                    try {
+                        server.register(selector, SelectionKey.OP_ACCEPT, conn);
+                    } catch (IOException e) {
+                        conn.close();
+                    }
+                }
+            });
+
+            return conn;
+        }
+    }
+
+    @Override
+    public Peer<InetSocketAddress, Bytestring> getPeer(InetSocketAddress you) {
+
+        if (you.equals(me)) return null;
+
+        synchronized (peers) {
+            NioPeer peer = peers.get(you);
+            if (peer == null) {
+                peer = new NioPeer(you);
+                peers.put(you, peer);
+            }
+
+            return peer;
+        }
+    }
+}
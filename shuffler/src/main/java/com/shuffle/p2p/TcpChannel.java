@@ -2,13 +2,18 @@ package com.shuffle.p2p;
 
 import com.shuffle.chan.Send;
 
+import java.io.BufferedOutputStream;
 import java.io.InputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.net.SocketException;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -57,6 +62,58 @@ public class TcpChannel implements Channel<InetSocketAddress, Bytestring> {
         return new DefaultHeader();
     }
 
+    // Settings for the sockets used by a channel. A buffer size of zero leaves the
+    // size up to the operating system.
+    public static class Options {
+        public final boolean tcpNoDelay;
+        public final boolean keepAlive;
+        public final int sendBufferSize;
+        public final int receiveBufferSize;
+
+        public Options(
+                boolean tcpNoDelay,
+                boolean keepAlive,
+                int sendBufferSize,
+                int receiveBufferSize) {
+
+            if (sendBufferSize < 0 || receiveBufferSize < 0) {
+                throw new IllegalArgumentException();
+            }
+
+            this.tcpNoDelay = tcpNoDelay;
+            this.keepAlive = keepAlive;
+            this.sendBufferSize = sendBufferSize;
+            this.receiveBufferSize = receiveBufferSize;
+        }
+
+        void apply(Socket socket) throws SocketException {
+            socket.setTcpNoDelay(tcpNoDelay);
+            socket.setKeepAlive(keepAlive);
+
+            if (sendBufferSize > 0) {
+                socket.setSendBufferSize(sendBufferSize);
+            }
+
+            if (receiveBufferSize > 0) {
+                socket.setReceiveBufferSize(receiveBufferSize);
+            }
+        }
+
+        // Accepted sockets take their receive buffer from the server socket, which must
+        // be set before it is bound for windows larger than 64k to be used.
+        void apply(ServerSocket server) throws SocketException {
+            if (receiveBufferSize > 0) {
+                server.setReceiveBufferSize(receiveBufferSize);
+            }
+        }
+    }
+
+    // Messages in the protocol are small and each one is waited for by the other
+    // players, so Nagle's algorithm is turned off by default.
+    public static Options defaultOptions() {
+        return new Options(true, false, 0, 0);
+    }
+
     // A particular header format that is used for this particular channel.
     private final Header header;
 
@@ -177,7 +234,9 @@ public class TcpChannel implements Channel<InetSocketAddress, Bytestring> {
                 return null;
             }
 
-            Socket socket = new Socket(identity.getAddress(), identity.getPort());
+            Socket socket = new Socket();
+            options.apply(socket);
+            socket.connect(identity);
 
             return new TcpSession(socket);
         }
@@ -213,6 +272,10 @@ public class TcpChannel implements Channel<InetSocketAddress, Bytestring> {
             Socket socket;
             InputStream in;
 
+            // Header and payload are collected here so that a message is usually
+            // written to the socket all at once.
+            OutputStream out;
+
             TcpSession(Socket socket) throws IOException {
                 if (socket == null) {
                     throw new NullPointerException();
@@ -220,6 +283,7 @@ public class TcpChannel implements Channel<InetSocketAddress, Bytestring> {
 
                 this.socket = socket;
                 in = socket.getInputStream();
+                out = new BufferedOutputStream(socket.getOutputStream(), FrameReader.BUFFER_SIZE);
             }
 
             @Override
@@ -232,8 +296,9 @@ public class TcpChannel implements Channel<InetSocketAddress, Bytestring> {
                 }
 
                 try {
-                    socket.getOutputStream().write(header.makeHeader(message.bytes.length).bytes);
-                    socket.getOutputStream().write(message.bytes);
+                    out.write(header.makeHeader(message.length()).bytes());
+                    message.writeTo(out);
+                    out.flush();
                 } catch (IOException e) {
                     socket = null;
                     throw e;
@@ -256,6 +321,7 @@ public class TcpChannel implements Channel<InetSocketAddress, Bytestring> {
                 }
                 socket = null;
                 in = null;
+                out = null;
                 TcpPeer.this.currentSession = null;
                 openSessions.remove(TcpPeer.this.identity());
             }
@@ -274,36 +340,38 @@ public class TcpChannel implements Channel<InetSocketAddress, Bytestring> {
 
     private class TcpReceiver implements Runnable {
         final TcpPeer.TcpSession session;
-        final InputStream in;
+        final ReadableByteChannel in;
         final Send<Bytestring> send;
+        final FrameReader frames = new FrameReader(header, maxFrameSize);
 
         private TcpReceiver(TcpPeer.TcpSession session, Send<Bytestring> send) {
             this.session = session;
-            this.in = session.in;
+            this.in = session.socket.getChannel() != null
+                    ? session.socket.getChannel() : Channels.newChannel(session.in);
             this.send = send;
         }
 
         @Override
         public void run() {
-            while (true) {
-                try {
-                    byte[] head = new byte[header.headerLength()];
-                    in.read(head);
+            ByteBuffer buffer = FrameReader.take();
+            buffer.flip();
 
-                    byte[] msg = new byte[header.payloadLength(head)];
-                    int total = in.read(msg);
+            try {
+                while (true) {
+                    // A frame may arrive in many pieces, so keep reading until it is whole.
+                    Bytestring msg = frames.read(in, buffer);
 
-                    if (total < msg.length) {
-                        session.close();
+                    if (msg == null) {
                         break;
                     }
 
-                    send.send(new Bytestring(msg));
-
-                } catch (IOException | InterruptedException e) {
-                    session.close();
-                    break;
+                    send.send(msg);
                 }
+            } catch (IOException | InterruptedException ignored) {
+
+            } finally {
+                session.close();
+                FrameReader.give(buffer);
             }
 
             send.close();
@@ -326,6 +394,7 @@ public class TcpChannel implements Channel<InetSocketAddress, Bytestring> {
                 try {
                     // New connection found.
                     Socket client = server.accept();
+                    options.apply(client);
 
                     // Determine the identity of this connection.
                     InetSocketAddress identity =
@@ -355,6 +424,11 @@ public class TcpChannel implements Channel<InetSocketAddress, Bytestring> {
     private final int port;
     private final InetSocketAddress me;
 
+    // Frames with longer payloads than this are rejected and their sessions closed.
+    private final int maxFrameSize;
+
+    private final Options options;
+
     private ServerSocket server;
     private boolean running = false;
 
@@ -362,15 +436,38 @@ public class TcpChannel implements Channel<InetSocketAddress, Bytestring> {
 
     public TcpChannel(
             Header header,
-            InetSocketAddress me) {
+            InetSocketAddress me,
+            int maxFrameSize,
+            Options options) {
 
-        if (header == null || me == null) {
+        if (header == null || me == null || options == null) {
             throw new NullPointerException();
         }
 
+        if (maxFrameSize < 0) {
+            throw new IllegalArgumentException();
+        }
+
         this.me = me;
         this.header = header;
         this.port = me.getPort();
+        this.maxFrameSize = maxFrameSize;
+        this.options = options;
+    }
+
+    public TcpChannel(
+            Header header,
+            InetSocketAddress me,
+            int maxFrameSize) {
+
+        this(header, me, maxFrameSize, defaultOptions());
+    }
+
+    public TcpChannel(
+            Header header,
+            InetSocketAddress me) {
+
+        this(header, me, FrameReader.DEFAULT_MAX_FRAME_SIZE);
     }
 
     public TcpChannel(InetSocketAddress me) {
@@ -418,7 +515,9 @@ public class TcpChannel implements Channel<InetSocketAddress, Bytestring> {
             if (running) return null;
 
             if (server == null) {
-                server = new ServerSocket(port);
+                server = new ServerSocket();
+                options.apply(server);
+                server.bind(new InetSocketAddress(port));
             }
 
             running = true;
@@ -0,0 +1,489 @@
+/**
+ *
+ * Copyright © 2016 Mycelium.
+ * Use of this source code is governed by an ISC
+ * license that can be found in the LICENSE file.
+ *
+ */
+
+package com.shuffle.player;
+
+import com.shuffle.bitcoin.Address;
+import com.shuffle.bitcoin.DecryptionKey;
+import com.shuffle.bitcoin.EncryptionKey;
+import com.shuffle.bitcoin.VerificationKey;
+import com.shuffle.chan.packet.Marshaller;
+import com.shuffle.chan.packet.Packet;
+import com.shuffle.chan.packet.Signed;
+import com.shuffle.p2p.Bytestring;
+import com.shuffle.protocol.FormatException;
+import com.shuffle.protocol.blame.Blame;
+import com.shuffle.protocol.blame.Reason;
+import com.shuffle.protocol.message.Phase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.LinkedList;
+import java.util.Queue;
+
+/**
+ * A compact binary format for messages between players. Every field is written by
+ * hand with a length prefix where necessary, so nothing goes through java serialization.
+ *
+ * Keys, addresses and transactions are read from their string representations by the
+ * same methods that the protobuf format uses.
+ */
+public class BinaryShuffleMarshaller implements Messages.ShuffleMarshaller {
+
+    // Tags for the values an atom can hold.
+    private static final byte ADDRESS = 1;
+    private static final byte ENCRYPTION_KEY = 2;
+    private static final byte HASH = 3;
+    private static final byte SIGNATURE = 4;
+    private static final byte STRING = 5;
+    private static final byte BLAME = 6;
+    private static final byte CIPHERTEXT = 7;
+
+    // Flags for which optional fields of a blame message are present.
+    private static final int ACCUSED = 1;
+    private static final int PRIVATE_KEY = 2;
+    private static final int TRANSACTION = 4;
+    private static final int INVALID = 8;
+    private static final int PACKETS = 16;
+
+    private static final Phase[] phases = Phase.values();
+    private static final Reason[] reasons = Reason.values();
+
+    private final Protobuf keys;
+
+    public final Marshaller<Message.Atom> atomMarshaller = new AtomMarshaller();
+    public final Marshaller<Address> addressMarshaller = new AddressMarshaller();
+    public final Marshaller<Packet<VerificationKey, P>> packetMarshaller = new PacketMarshaller();
+    public final Marshaller<Signed<Packet<VerificationKey, P>>> signedMarshaller = new SignedMarshaller();
+
+    public BinaryShuffleMarshaller(Protobuf keys) {
+        if (keys == null) throw new NullPointerException();
+
+        this.keys = keys;
+    }
+
+    // See Protobuf.intern.
+    public void intern(VerificationKey vk) {
+        keys.intern(vk);
+    }
+
+    @Override
+    public Marshaller<Message.Atom> atomMarshaller() {
+        return atomMarshaller;
+    }
+
+    @Override
+    public Marshaller<Address> addressMarshaller() {
+        return addressMarshaller;
+    }
+
+    @Override
+    public Marshaller<Packet<VerificationKey, P>> packetMarshaller() {
+        return packetMarshaller;
+    }
+
+    @Override
+    public Marshaller<Signed<Packet<VerificationKey, P>>> signedMarshaller() {
+        return signedMarshaller;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] b) throws IOException {
+        out.writeInt(b.length);
+        out.write(b);
+    }
+
+    private static void writeBytes(DataOutputStream out, Bytestring b) throws IOException {
+        out.writeInt(b.length());
+        b.writeTo(out);
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        writeBytes(out, s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException, FormatException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new FormatException("Invalid length " + length);
+        }
+
+        byte[] b = new byte[length];
+        in.readFully(b);
+        return b;
+    }
+
+    private static String readString(DataInputStream in) throws IOException, FormatException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static Phase readPhase(DataInputStream in) throws IOException, FormatException {
+        int phase = in.readByte();
+        if (phase < 0 || phase >= phases.length) {
+            throw new FormatException("Invalid phase " + phase);
+        }
+        return phases[phase];
+    }
+
+    private VerificationKey readVerificationKey(DataInputStream in) throws IOException, FormatException {
+        String str = readString(in);
+        try {
+            return keys.readVerificationKey(str);
+        } catch (IllegalArgumentException e) {
+            throw new FormatException("Could not read " + str + " as verification key.");
+        }
+    }
+
+    private void writeAtoms(DataOutputStream out, Message.Atom atom) throws IOException {
+        int count = 0;
+        for (Message.Atom a = atom; a != null; a = a.next) {
+            count++;
+        }
+        out.writeInt(count);
+
+        for (Message.Atom a = atom; a != null; a = a.next) {
+            if (a.addr != null) {
+                out.writeByte(ADDRESS);
+                writeString(out, a.addr.toString());
+            } else if (a.ek != null) {
+                out.writeByte(ENCRYPTION_KEY);
+                writeString(out, a.ek.toString());
+            } else if (a.secureHash != null) {
+                out.writeByte(HASH);
+                writeBytes(out, a.secureHash.hashed);
+            } else if (a.sig != null) {
+                out.writeByte(SIGNATURE);
+                writeBytes(out, a.sig);
+            } else if (a.string != null) {
+                out.writeByte(STRING);
+                writeString(out, a.string);
+            } else if (a.blame != null) {
+                out.writeByte(BLAME);
+                writeBlame(out, a.blame);
+            } else if (a.ciphertext != null) {
+                out.writeByte(CIPHERTEXT);
+                writeBytes(out, a.ciphertext.bytes);
+            } else {
+                throw new IllegalArgumentException("Atom cannot be empty.");
+            }
+        }
+    }
+
+    private Message.Atom readAtoms(DataInputStream in) throws IOException, FormatException {
+        int count = in.readInt();
+        if (count < 0 || count > in.available()) {
+            throw new FormatException("Invalid number of atoms " + count);
+        }
+
+        Object[] values = new Object[count];
+        for (int i = 0; i < count; i++) {
+            byte tag = in.readByte();
+            switch (tag) {
+                case ADDRESS: {
+                    values[i] = keys.unmarshallAdress(readString(in));
+                    break;
+                }
+                case ENCRYPTION_KEY: {
+                    String str = readString(in);
+                    try {
+                        values[i] = keys.readEncryptionKey(str);
+                    } catch (IllegalArgumentException | GeneralSecurityException e) {
+                        throw new FormatException("Could not read " + str + " as encryption key.");
+                    }
+                    break;
+                }
+                case HASH: {
+                    values[i] = new Message.SecureHash(new Bytestring(readBytes(in)));
+                    break;
+                }
+                case SIGNATURE: {
+                    values[i] = new Bytestring(readBytes(in));
+                    break;
+                }
+                case STRING: {
+                    values[i] = readString(in);
+                    break;
+                }
+                case BLAME: {
+                    values[i] = readBlame(in);
+                    break;
+                }
+                case CIPHERTEXT: {
+                    values[i] = new Message.Ciphertext(new Bytestring(readBytes(in)));
+                    break;
+                }
+                default: {
+                    throw new FormatException("Invalid atom tag " + tag);
+                }
+            }
+        }
+
+        // Build the chain from the back so that nothing has to be copied.
+        Message.Atom atom = null;
+        for (int i = count - 1; i >= 0; i--) {
+            atom = Message.Atom.make(values[i], atom);
+        }
+        return atom;
+    }
+
+    private void writeBlame(DataOutputStream out, Blame b) throws IOException {
+        int flags = (b.accused != null ? ACCUSED : 0)
+                | (b.privateKey != null ? PRIVATE_KEY : 0)
+                | (b.t != null ? TRANSACTION : 0)
+                | (b.invalid != null ? INVALID : 0)
+                | (b.packets != null ? PACKETS : 0);
+
+        out.writeByte(b.reason.ordinal());
+        out.writeByte(flags);
+
+        if (b.accused != null) {
+            writeString(out, b.accused.toString());
+        }
+
+        if (b.privateKey != null) {
+            writeString(out, b.privateKey.toString());
+            writeString(out, b.privateKey.EncryptionKey().toString());
+        }
+
+        if (b.t != null) {
+            writeBytes(out, b.t.serialize());
+        }
+
+        if (b.invalid != null) {
+            writeBytes(out, b.invalid);
+        }
+
+        if (b.packets != null) {
+            out.writeInt(b.packets.size());
+            for (com.shuffle.protocol.message.Packet p : b.packets) {
+                if (!(p instanceof Messages.SignedPacket)) {
+                    throw new IllegalArgumentException("Unknown packet format.");
+                }
+
+                writeBytes(out, signedMarshaller.marshall(((Messages.SignedPacket) p).packet));
+            }
+        }
+    }
+
+    private Blame readBlame(DataInputStream in) throws IOException, FormatException {
+        int r = in.readByte();
+        if (r < 0 || r >= reasons.length) {
+            throw new FormatException("Invalid blame reason " + r);
+        }
+
+        int flags = in.readByte();
+
+        VerificationKey accused = null;
+        if ((flags & ACCUSED) != 0) {
+            accused = readVerificationKey(in);
+        }
+
+        DecryptionKey key = null;
+        if ((flags & PRIVATE_KEY) != 0) {
+            String priv = readString(in);
+            String pub = readString(in);
+            try {
+                key = keys.unmarshallDecryptionKey(priv, pub);
+            } catch (IllegalArgumentException e) {
+                throw new FormatException("Could not read " + priv + " as decryption key.");
+            }
+        }
+
+        com.shuffle.bitcoin.Transaction t = null;
+        if ((flags & TRANSACTION) != 0) {
+            t = keys.unmarshallTransaction(readBytes(in));
+        }
+
+        Bytestring invalid = null;
+        if ((flags & INVALID) != 0) {
+            invalid = new Bytestring(readBytes(in));
+        }
+
+        Queue<com.shuffle.protocol.message.Packet> packets = null;
+        if ((flags & PACKETS) != 0) {
+            int count = in.readInt();
+            if (count < 0 || count > in.available()) {
+                throw new FormatException("Invalid number of packets " + count);
+            }
+
+            packets = new LinkedList<>();
+            for (int i = 0; i < count; i++) {
+                packets.add(new Messages.SignedPacket(
+                        signedMarshaller.unmarshall(new Bytestring(readBytes(in)))));
+            }
+        }
+
+        return new Blame(reasons[r], accused, t, key, invalid, packets);
+    }
+
+    private void writePacket(DataOutputStream out, Packet<VerificationKey, P> p) throws IOException {
+        Object msg = p.payload.message;
+
+        if (msg == null || !(msg instanceof Message)) {
+            throw new IllegalArgumentException("Null or unknown Message format.");
+        }
+
+        writeBytes(out, p.session);
+        writeString(out, p.from.toString());
+
+        // The recipient and sequence number of a broadcast packet are not
+        // covered by the signature, so they are written outside the packet.
+        out.writeBoolean(p.broadcast);
+        if (!p.broadcast) {
+            writeString(out, p.to.toString());
+            out.writeInt(p.sequenceNumber);
+        }
+
+        out.writeByte(p.payload.phase.ordinal());
+        writeAtoms(out, ((Message) msg).atoms());
+    }
+
+    private Packet<VerificationKey, P> readPacket(DataInputStream in) throws IOException, FormatException {
+        Bytestring session = new Bytestring(readBytes(in));
+        VerificationKey from = readVerificationKey(in);
+
+        boolean broadcast = in.readBoolean();
+        VerificationKey to = null;
+        int number = 0;
+        if (!broadcast) {
+            to = readVerificationKey(in);
+            number = in.readInt();
+        }
+
+        Phase phase = readPhase(in);
+        P payload = new P(phase, new Message(readAtoms(in), null));
+
+        if (in.available() != 0) {
+            throw new FormatException("Unexpected bytes after packet.");
+        }
+
+        if (broadcast) {
+            return Packet.broadcast(session, from, payload);
+        }
+
+        return new Packet<>(session, from, to, number, payload);
+    }
+
+    class AtomMarshaller implements Marshaller<Message.Atom> {
+
+        @Override
+        public Bytestring marshall(Message.Atom atom) throws IOException {
+            ByteArrayOutputStream b = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(b);
+            writeAtoms(out, atom);
+            out.flush();
+            return new Bytestring(b.toByteArray());
+        }
+
+        @Override
+        public Message.Atom unmarshall(Bytestring string) throws FormatException {
+            try {
+                return readAtoms(new DataInputStream(new ByteArrayInputStream(string.bytes())));
+            } catch (IOException e) {
+                throw new FormatException("Could not read " + string + " as Atom.");
+            }
+        }
+    }
+
+    class AddressMarshaller implements Marshaller<Address> {
+
+        @Override
+        public Bytestring marshall(Address address) {
+            return new Bytestring(address.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Address unmarshall(Bytestring string) throws FormatException {
+            return keys.unmarshallAdress(new String(string.bytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    class PacketMarshaller implements Marshaller<Packet<VerificationKey, P>> {
+
+        @Override
+        public Bytestring marshall(Packet<VerificationKey, P> p) throws IOException {
+            ByteArrayOutputStream b = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(b);
+            writePacket(out, p);
+            out.flush();
+            return new Bytestring(b.toByteArray());
+        }
+
+        @Override
+        public Packet<VerificationKey, P> unmarshall(Bytestring string) throws FormatException {
+            try {
+                return readPacket(new DataInputStream(new ByteArrayInputStream(string.bytes())));
+            } catch (IOException e) {
+                throw new FormatException("Could not read " + string + " as Packet.");
+            }
+        }
+    }
+
+    // The packet is written exactly as it was signed, followed by the signature and,
+    // for broadcast packets, the recipient and sequence number.
+    class SignedMarshaller implements Marshaller<Signed<Packet<VerificationKey, P>>> {
+
+        @Override
+        public Bytestring marshall(Signed<Packet<VerificationKey, P>> s) throws IOException {
+            Bytestring packet = s.marshalled != null ? s.marshalled : packetMarshaller.marshall(s.message);
+
+            ByteArrayOutputStream b = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(b);
+            writeBytes(out, packet);
+            writeBytes(out, s.signature);
+
+            boolean envelope = s.message.broadcast && s.message.to != null;
+            out.writeBoolean(envelope);
+            if (envelope) {
+                writeString(out, s.message.to.toString());
+                out.writeInt(s.message.sequenceNumber);
+            }
+
+            out.flush();
+            return new Bytestring(b.toByteArray());
+        }
+
+        @Override
+        public Signed<Packet<VerificationKey, P>> unmarshall(Bytestring string) throws FormatException {
+            try {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(string.bytes()));
+
+                byte[] bytes = readBytes(in);
+                Bytestring signature = new Bytestring(readBytes(in));
+
+                Packet<VerificationKey, P> packet =
+                        readPacket(new DataInputStream(new ByteArrayInputStream(bytes)));
+
+                Signed<Packet<VerificationKey, P>> signed;
+                try {
+                    signed = new Signed<>(new Bytestring(bytes), signature, packet.from, packet);
+                } catch (IllegalArgumentException e) {
+                    throw new FormatException("Invalid signature on " + packet);
+                }
+
+                boolean envelope = in.readBoolean();
+                if (envelope != packet.broadcast) {
+                    throw new FormatException("Only broadcast packets have an envelope.");
+                }
+
+                if (!envelope) {
+                    return signed;
+                }
+
+                VerificationKey to = readVerificationKey(in);
+                return Signed.addressed(signed, to, in.readInt());
+            } catch (IOException e) {
+                throw new FormatException("Could not read " + string + " as Signed.");
+            }
+        }
+    }
+}
@@ -5,6 +5,11 @@ import com.shuffle.bitcoin.VerificationKey;
 import com.shuffle.chan.packet.JavaMarshaller;
 import com.shuffle.chan.packet.Marshaller;
 import com.shuffle.chan.packet.Packet;
+import com.shuffle.chan.packet.Signed;
+import com.shuffle.p2p.Bytestring;
+import com.shuffle.protocol.FormatException;
+
+import java.io.IOException;
 
 /**
  * Created by Daniel Krawisz on 7/16/16.
@@ -22,6 +27,24 @@ public class JavaShuffleMarshaller implements Messages.ShuffleMarshaller {
 
     @Override
     public Marshaller<Packet<VerificationKey, P>> packetMarshaller() {
+        final Marshaller<Packet<VerificationKey, P>> m = new JavaMarshaller<>();
+
+        // Broadcast packets are signed without their recipient and sequence number.
+        return new Marshaller<Packet<VerificationKey, P>>() {
+            @Override
+            public Bytestring marshall(Packet<VerificationKey, P> p) throws IOException {
+                return m.marshall(p.unaddressed());
+            }
+
+            @Override
+            public Packet<VerificationKey, P> unmarshall(Bytestring string) throws FormatException {
+                return m.unmarshall(string);
+            }
+        };
+    }
+
+    @Override
+    public Marshaller<Signed<Packet<VerificationKey, P>>> signedMarshaller() {
         return new JavaMarshaller<>();
     }
 }
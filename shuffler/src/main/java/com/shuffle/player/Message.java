@@ -10,8 +10,13 @@ import com.shuffle.protocol.blame.Blame;
 import com.shuffle.protocol.message.Phase;
 
 import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of coin shuffle messages.
@@ -24,7 +29,7 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
         public final Bytestring hashed;
 
         public SecureHash(MessageDigest digest, Marshaller<Atom> m, Atom toHash) throws FormatException, IOException {
-            digest.update(m.marshall(toHash).bytes);
+            digest.update(m.marshall(toHash).bytes());
 
             hashed = new Bytestring(digest.digest());
 
@@ -52,6 +57,35 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
 
             return hashed.equals(mockHashed.hashed);
         }
+
+        @Override
+        public int hashCode() {
+            return hashed.hashCode();
+        }
+    }
+
+    // An address wrapped in zero or more layers of encryption.
+    public static class Ciphertext implements Serializable {
+        public final Bytestring bytes;
+
+        public Ciphertext(Bytestring bytes) {
+            if (bytes == null) throw new NullPointerException();
+
+            this.bytes = bytes;
+        }
+
+        public String toString() {
+            return "ciphertext[" + bytes + "]";
+        }
+
+        public boolean equals(Object o) {
+            return o instanceof Ciphertext && bytes.equals(((Ciphertext) o).bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return bytes.hashCode();
+        }
     }
 
     public static class Atom implements Serializable {
@@ -61,9 +95,13 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
         public final Bytestring sig;
         public final String string;
         public final Blame blame;
+        public final Ciphertext ciphertext;
 
         public final Atom next;
 
+        // Cached hash of the chain beginning with this atom; zero if not yet computed.
+        private transient int hash;
+
         public Atom(
                 Address addr,
                 EncryptionKey ek,
@@ -71,6 +109,7 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
                 Bytestring sig,
                 String string,
                 Blame blame,
+                Ciphertext ciphertext,
                 //com.shuffle.protocol.message.Packet packet,
                 Atom next
         ) {
@@ -79,7 +118,7 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
             {
                 if (addr != null) {
                     if (ek != null || sig != null || secureHash != null
-                            || blame != null || string != null) {
+                            || blame != null || string != null || ciphertext != null) {
 
                         throw new IllegalArgumentException();
                     }
@@ -87,34 +126,42 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
                 }
 
                 if (ek != null) {
-                    if (sig != null || secureHash != null || string != null || blame != null) {
+                    if (sig != null || secureHash != null || string != null || blame != null
+                            || ciphertext != null) {
                         throw new IllegalArgumentException();
                     }
                     break format;
                 }
 
                 if (sig != null) {
-                    if (secureHash != null || string != null || blame != null) {
+                    if (secureHash != null || string != null || blame != null || ciphertext != null) {
                         throw new IllegalArgumentException();
                     }
                     break format;
                 }
 
                 if (secureHash != null) {
-                    if (string != null || blame != null) {
+                    if (string != null || blame != null || ciphertext != null) {
                         throw new IllegalArgumentException();
                     }
                     break format;
                 }
 
                 if (string != null) {
-                    if (blame != null) {
+                    if (blame != null || ciphertext != null) {
                         throw new IllegalArgumentException();
                     }
                     break format;
                 }
 
                 if (blame != null) {
+                    if (ciphertext != null) {
+                        throw new IllegalArgumentException();
+                    }
+                    break format;
+                }
+
+                if (ciphertext != null) {
                     break format;
                 }
 
@@ -127,27 +174,31 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
             this.secureHash = secureHash;
             this.string = string;
             this.blame = blame;
+            this.ciphertext = ciphertext;
             this.next = next;
         }
 
         public static Atom make(Object o, Atom next) {
             if (o instanceof Address) {
-                return new Atom((Address) o, null, null, null, null, null, next);
+                return new Atom((Address) o, null, null, null, null, null, null, next);
             }
             if (o instanceof EncryptionKey) {
-                return new Atom(null, (EncryptionKey) o, null, null, null, null, next);
+                return new Atom(null, (EncryptionKey) o, null, null, null, null, null, next);
             }
             if (o instanceof SecureHash) {
-                return new Atom(null, null, (SecureHash) o, null, null, null, next);
+                return new Atom(null, null, (SecureHash) o, null, null, null, null, next);
             }
             if (o instanceof Bytestring) {
-                return new Atom(null, null, null, (Bytestring) o, null, null, next);
+                return new Atom(null, null, null, (Bytestring) o, null, null, null, next);
             }
             if (o instanceof String) {
-                return new Atom(null, null, null, null, (String)o, null, next);
+                return new Atom(null, null, null, null, (String)o, null, null, next);
             }
             if (o instanceof Blame) {
-                return new Atom(null, null, null, null, null, (Blame) o, next);
+                return new Atom(null, null, null, null, null, (Blame) o, null, next);
+            }
+            if (o instanceof Ciphertext) {
+                return new Atom(null, null, null, null, null, null, (Ciphertext) o, next);
             }
 
             throw new IllegalArgumentException();
@@ -157,12 +208,37 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
             return make(o, null);
         }
 
-        private static Atom attach(Atom a, Atom o) {
-            if (a == null) {
-                return o;
-            }
+        // The value held by this atom.
+        Object value() {
+            if (addr != null) return addr;
+            if (ek != null) return ek;
+            if (secureHash != null) return secureHash;
+            if (sig != null) return sig;
+            if (string != null) return string;
+            if (ciphertext != null) return ciphertext;
+            return blame;
+        }
 
-            return new Atom(a.addr, a.ek, a.secureHash, a.sig, a.string, a.blame, attach(a.next, o));
+        // Compares only the values of the two atoms, not the rest of the chain.
+        private boolean valueEquals(Atom a) {
+            return (a.sig == null && sig == null || sig != null && sig.equals(a.sig))
+                    && (a.ek == null && ek == null || ek != null && ek.equals(a.ek))
+                    && (a.addr == null && addr == null || addr != null && addr.equals(a.addr))
+                    && (a.blame == null && blame == null || blame != null && blame.equals(a.blame))
+                    && (a.secureHash == null && secureHash == null || secureHash != null && secureHash.equals(a.secureHash))
+                    && (a.string == null && string == null || string != null && string.equals(a.string))
+                    && (a.ciphertext == null && ciphertext == null || ciphertext != null && ciphertext.equals(a.ciphertext));
+        }
+
+        private int valueHash() {
+            int hash = addr == null ? 0 : addr.hashCode();
+            hash = hash * 15 + (ek == null ? 0 : ek.hashCode());
+            hash = hash * 15 + (sig == null ? 0 : sig.hashCode());
+            hash = hash * 15 + (secureHash == null ? 0 : secureHash.hashCode());
+            hash = hash * 15 + (string == null ? 0 : string.hashCode());
+            hash = hash * 15 + (blame == null ? 0 : blame.hashCode());
+            hash = hash * 15 + (ciphertext == null ? 0 : ciphertext.hashCode());
+            return hash;
         }
 
         @Override
@@ -177,49 +253,87 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
 
             Atom a = (Atom) o;
 
-            return this == a || a.sig == sig
-                    && (a.ek == null && ek == null || ek != null && ek.equals(a.ek))
-                    && (a.addr == null && addr == null || addr != null && addr.equals(a.addr))
-                    && (a.blame == null && blame == null || blame != null && blame.equals(a.blame))
-                    && (a.secureHash == null && secureHash == null || secureHash != null && secureHash.equals(a.secureHash))
-                    && (a.string == null && string == null || string != null && string.equals(a.string))
-                    && (a.next == null && next == null || next != null && next.equals(a.next));
+            if (this == a) {
+                return true;
+            }
+
+            // Chains are immutable and their hashes are cached, so this is usually the
+            // quickest way to find out that they are different.
+            if (hashCode() != a.hashCode()) {
+                return false;
+            }
+
+            Atom b = this;
+            while (a != b) {
+                if (a == null || b == null || !b.valueEquals(a)) {
+                    return false;
+                }
+
+                a = a.next;
+                b = b.next;
+            }
+
+            return true;
         }
 
         @Override
         public int hashCode() {
-            int hash = addr == null ? 0 : addr.hashCode();
-            hash = hash * 15 + (ek == null ? 0 : ek.hashCode());
-            hash = hash * 15 + (sig == null ? 0 : sig.hashCode());
-            hash = hash * 15 + (this.secureHash == null ? 0 : this.secureHash.hashCode());
-            hash = hash * 15 + (blame == null ? 0 : blame.hashCode());
-            hash = hash * 15 + (next == null ? 0 : next.hashCode());
-            return hash;
+            int h = hash;
+            if (h != 0) {
+                return h;
+            }
+
+            // The hash of the chain is the sum of the hashes of its atoms times successive
+            // powers of 15, so it can be computed going forward without recursion. We can stop
+            // as soon as we reach an atom whose hash is already known.
+            int power = 1;
+            for (Atom a = this; a != null; a = a.next) {
+                if (a.hash != 0) {
+                    h += power * a.hash;
+                    break;
+                }
+
+                h += power * a.valueHash();
+                power *= 15;
+            }
+
+            hash = h;
+            return h;
         }
 
         @Override
         public String toString() {
-            String str = "";
+            StringBuilder str = new StringBuilder();
 
-            if (addr != null) str += ("\"" + addr.toString() + "\"");
+            for (Atom a = this; a != null; a = a.next) {
+                if (a != this) str.append("⊕");
 
-            if (ek != null) str += ("\"" + ek.toString() + "\"");
+                if (a.addr != null) str.append("\"").append(a.addr.toString()).append("\"");
 
-            if (sig != null) str += sig.toString();
+                if (a.ek != null) str.append("\"").append(a.ek.toString()).append("\"");
 
-            if (secureHash != null) str += secureHash.toString();
+                if (a.sig != null) str.append(a.sig.toString());
 
-            if (string != null) str += ("\"" + string + "\"");
+                if (a.secureHash != null) str.append(a.secureHash.toString());
 
-            if (blame != null) str += blame.toString();
+                if (a.string != null) str.append("\"").append(a.string).append("\"");
 
-            if (next != null) str += "⊕" + next.toString();
+                if (a.blame != null) str.append(a.blame.toString());
 
-            return str;
+                if (a.ciphertext != null) str.append(a.ciphertext.toString());
+            }
+
+            return str.toString();
         }
     }
 
-    public final Atom atoms;
+    // A message is stored either as a chain of atoms or as the first length elements of a
+    // list that may be shared with messages which extend this one. The list lets attach run
+    // in amortized constant time instead of copying the whole chain. The chain is built from
+    // the list the first time it is needed.
+    private Atom atoms;
+    private final transient List<Object> elements;
+    private final transient int length;
 
     // If this message can be sent, then this is the network by
     // which it is sent. Otherwise, it's null.
@@ -227,64 +341,129 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
 
     public Message(Messages messages) {
 
-        atoms = null;
-        this.messages = messages;
+        this(null, messages);
     }
 
     public Message(Atom atom, Messages messages) {
 
         atoms = atom;
+        elements = null;
+        length = 0;
         this.messages = messages;
     }
 
+    private Message(List<Object> elements, int length, Messages messages) {
+
+        atoms = null;
+        this.elements = elements;
+        this.length = length;
+        this.messages = messages;
+    }
+
+    // The chain of atoms in this message.
+    public Atom atoms() {
+        if (atoms != null || elements == null || length == 0) {
+            return atoms;
+        }
+
+        Atom chain = null;
+        synchronized (elements) {
+            for (int i = length - 1; i >= 0; i--) {
+                chain = Atom.make(elements.get(i), chain);
+            }
+        }
+
+        // Atoms are immutable, so it does not matter if two threads both build the chain.
+        atoms = chain;
+        return chain;
+    }
+
+    private Message append(Object o) {
+        List<Object> list;
+
+        if (elements != null) {
+            synchronized (elements) {
+                // If nobody has extended this message yet, we can just add to the end of
+                // the list without copying anything.
+                if (elements.size() == length) {
+                    elements.add(o);
+                    return new Message(elements, length + 1, messages);
+                }
+
+                list = new ArrayList<>(elements.subList(0, length));
+            }
+        } else {
+            list = new ArrayList<>();
+            for (Atom a = atoms; a != null; a = a.next) {
+                list.add(a.value());
+            }
+        }
+
+        list.add(o);
+        return new Message(list, list.size(), messages);
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        atoms();
+        out.defaultWriteObject();
+    }
+
     @Override
     public boolean isEmpty() {
-        return atoms == null;
+        return elements == null ? atoms == null : length == 0;
     }
 
     @Override
     public com.shuffle.protocol.message.Message attach(EncryptionKey ek) {
         if (ek == null) throw new NullPointerException();
 
-        return new Message(Atom.attach(atoms, Atom.make(ek)), messages);
+        return append(ek);
     }
 
     @Override
     public com.shuffle.protocol.message.Message attach(Address addr) {
         if (addr == null) throw new NullPointerException();
 
-        return new Message(Atom.attach(atoms, Atom.make(addr)), messages);
+        return append(addr);
     }
 
     @Override
     public com.shuffle.protocol.message.Message attach(String str) {
         if (str == null) throw new NullPointerException();
 
-        return new Message(Atom.attach(atoms, Atom.make(str)), messages);
+        return append(str);
     }
 
     @Override
     public com.shuffle.protocol.message.Message attach(Bytestring sig) {
         if (sig == null) throw new NullPointerException();
 
-        return new Message(Atom.attach(atoms, Atom.make(sig)), messages);
+        return append(sig);
     }
 
     @Override
     public com.shuffle.protocol.message.Message attach(Blame blame) {
         if (blame == null) throw new NullPointerException();
 
-        return new Message(Atom.attach(atoms, Atom.make(blame)), messages);
+        return append(blame);
+    }
+
+    @Override
+    public com.shuffle.protocol.message.Message attachCiphertext(Bytestring c) {
+        if (c == null) throw new NullPointerException();
+
+        return append(new Ciphertext(c));
     }
 
     public com.shuffle.protocol.message.Message hashed() throws FormatException, IOException {
 
         return new Message(Atom.make(
-                new SecureHash(messages.sha256, messages.atomMarshaller, this.atoms)), messages);
+                new SecureHash(messages.sha256, messages.atomMarshaller, atoms())), messages);
     }
 
     @Override
     public EncryptionKey readEncryptionKey() throws FormatException {
+        Atom atoms = atoms();
         if (atoms == null || atoms.ek == null) throw new FormatException("Encryption key not found.");
 
         return atoms.ek;
@@ -292,9 +471,15 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
 
     @Override
     public Address readAddress() throws FormatException {
+        Atom atoms = atoms();
         if (atoms == null) throw new FormatException("Address not found");
         if (atoms.addr != null) return atoms.addr;
-        else if (atoms.string == null) throw new FormatException("Address not found.");
+
+        // An onion with all its layers removed is an address.
+        if (atoms.ciphertext != null)
+            return messages.addressMarshaller.unmarshall(atoms.ciphertext.bytes);
+
+        if (atoms.string == null) throw new FormatException("Address not found.");
 
         // Attempt to read string as an address.
         return messages.addressMarshaller.unmarshall(new Bytestring(atoms.string.getBytes()));
@@ -302,6 +487,7 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
 
     @Override
     public String readString() throws FormatException {
+        Atom atoms = atoms();
         if (atoms == null || atoms.string == null)
             throw new FormatException("String not found.");
 
@@ -310,13 +496,23 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
 
     @Override
     public Blame readBlame() throws FormatException {
+        Atom atoms = atoms();
         if (atoms == null || atoms.blame == null) throw new FormatException("Blame not found");
 
         return atoms.blame;
     }
 
+    @Override
+    public Bytestring readCiphertext() throws FormatException {
+        Atom atoms = atoms();
+        if (atoms == null || atoms.ciphertext == null) throw new FormatException("Ciphertext not found");
+
+        return atoms.ciphertext.bytes;
+    }
+
     @Override
     public Bytestring readSignature() throws FormatException {
+        Atom atoms = atoms();
         if (atoms == null || atoms.sig == null) throw new FormatException("Signature not found");
 
         return atoms.sig;
@@ -324,7 +520,7 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
 
     @Override
     public com.shuffle.protocol.message.Message rest() throws FormatException {
-
+        Atom atoms = atoms();
         if (atoms == null) throw new FormatException("Rest called on last element.");
 
         return new Message(atoms.next, messages);
@@ -339,6 +535,15 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
         return messages.send(this, phase, to);
     }
 
+    @Override
+    public Map<VerificationKey, com.shuffle.protocol.message.Packet> broadcast(
+            Phase phase, Collection<VerificationKey> to) throws InterruptedException, IOException {
+
+        if (messages == null) return null;
+
+        return messages.broadcast(this, phase, to);
+    }
+
     @Override
     public boolean equals(Object o) {
 
@@ -346,14 +551,16 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
 
         if (!(o instanceof Message)) return false;
 
-        Message mock = (Message) o;
+        Atom atoms = atoms();
+        Atom other = ((Message) o).atoms();
 
-        return ((atoms == null && mock.atoms == null)
-                || (atoms != null && atoms.equals(mock.atoms)));
+        return ((atoms == null && other == null)
+                || (atoms != null && atoms.equals(other)));
     }
 
     @Override
     public int hashCode() {
+        Atom atoms = atoms();
         if (atoms == null) return 0;
 
         int hash = 0;
@@ -363,6 +570,7 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
 
     @Override
     public String toString() {
+        Atom atoms = atoms();
         if (atoms == null) return "[]";
 
         return atoms.toString();
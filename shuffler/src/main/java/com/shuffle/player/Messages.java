@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +46,7 @@ public class Messages implements MessageFactory {
         Marshaller<Message.Atom> atomMarshaller();
         Marshaller<Address> addressMarshaller();
         Marshaller<Packet<VerificationKey, P>> packetMarshaller();
+        Marshaller<Signed<Packet<VerificationKey, P>>> signedMarshaller();
     }
 
     /**
@@ -119,10 +121,10 @@ public class Messages implements MessageFactory {
     }
 
     private class Outgoing {
-        public final Send<P> out;
+        public final OutgoingPacketSend<VerificationKey, P> out;
         private final HistorySend<Signed<Packet<VerificationKey, P>>> h;
 
-        Outgoing(Send<P> out, HistorySend<Signed<Packet<VerificationKey, P>>> h, VerificationKey k) {
+        Outgoing(OutgoingPacketSend<VerificationKey, P> out, HistorySend<Signed<Packet<VerificationKey, P>>> h, VerificationKey k) {
 
             if (k == null || out == null || h == null) throw new NullPointerException();
 
@@ -153,6 +155,7 @@ public class Messages implements MessageFactory {
     public final MessageDigest sha256;
     public final Marshaller<Message.Atom> atomMarshaller;
     public final Marshaller<Address> addressMarshaller;
+    private final Marshaller<Packet<VerificationKey, P>> packetMarshaller;
 
     public Messages(Bytestring session,
                     SigningKey me,
@@ -173,6 +176,7 @@ public class Messages implements MessageFactory {
         this.atomMarshaller = m.atomMarshaller();
         this.addressMarshaller = m.addressMarshaller();
         Marshaller<Packet<VerificationKey, P>> pm = m.packetMarshaller();
+        this.packetMarshaller = pm;
 
         VerificationKey vk = me.VerificationKey();
 
@@ -183,7 +187,7 @@ public class Messages implements MessageFactory {
 
             HistorySend<Signed<Packet<VerificationKey, P>>> h = new HistorySend<>(z.getValue());
             Send<Packet<VerificationKey, P>> signer = new SigningSend<>(h, pm, me);
-            Send<P> p = new OutgoingPacketSend<>(signer, session, vk, k);
+            OutgoingPacketSend<VerificationKey, P> p = new OutgoingPacketSend<>(signer, h, session, vk, k);
 
             this.net.put(k, new Outgoing(p, h, vk));
         }
@@ -192,7 +196,8 @@ public class Messages implements MessageFactory {
         HistorySend<Signed<Packet<VerificationKey, P>>> h = new HistorySend<>(
                 new IgnoreSend<Signed<Packet<VerificationKey, P>>>());
 
-        Send<P> p = new OutgoingPacketSend<>(new SigningSend<>(h, pm, me), session, vk, vk);
+        OutgoingPacketSend<VerificationKey, P> p
+                = new OutgoingPacketSend<>(new SigningSend<>(h, pm, me), h, session, vk, vk);
         this.net.put(vk, new Outgoing(p, h, vk));
     }
 
@@ -240,4 +245,30 @@ public class Messages implements MessageFactory {
 
         return new SignedPacket(x.last());
     }
+
+    // Send a message to many players at once. The message is marshalled and signed only once.
+    public Map<VerificationKey, com.shuffle.protocol.message.Packet> broadcast(
+            Message m, Phase phase, Collection<VerificationKey> to)
+            throws InterruptedException, IOException {
+
+        Map<VerificationKey, com.shuffle.protocol.message.Packet> sent = new HashMap<>();
+
+        Signed<Packet<VerificationKey, P>> signed = SigningSend.sign(
+                Packet.broadcast(session, me.VerificationKey(), new P(phase, m)),
+                packetMarshaller, me);
+
+        if (signed == null) return sent;
+
+        for (VerificationKey k : to) {
+            Outgoing x = m.messages.net.get(k);
+
+            if (x == null) continue;
+
+            if (x.out.send(signed)) {
+                sent.put(k, new SignedPacket(x.last()));
+            }
+        }
+
+        return sent;
+    }
 }
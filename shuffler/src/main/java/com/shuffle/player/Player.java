@@ -17,6 +17,10 @@ import com.shuffle.bitcoin.Transaction;
 import com.shuffle.bitcoin.VerificationKey;
 import com.shuffle.chan.BasicChan;
 import com.shuffle.chan.Chan;
+import com.shuffle.chan.FairInbox;
+import com.shuffle.chan.RateLimitedSend;
+import com.shuffle.chan.Select;
+import com.shuffle.chan.Send;
 import com.shuffle.chan.packet.Packet;
 import com.shuffle.chan.packet.Signed;
 import com.shuffle.monad.Summable;
@@ -25,6 +29,7 @@ import com.shuffle.p2p.Bytestring;
 import com.shuffle.p2p.Channel;
 import com.shuffle.p2p.Collector;
 import com.shuffle.p2p.Connect;
+import com.shuffle.p2p.Session;
 import com.shuffle.protocol.CoinShuffle;
 import com.shuffle.protocol.FormatException;
 import com.shuffle.protocol.InvalidParticipantSetException;
@@ -74,6 +79,9 @@ class Player {
 
     private final long time; // The time at which the join is scheduled to happen.
 
+    // Whether to connect to the other players before the scheduled time rather than after.
+    private final boolean warmup;
+
     private final long amount;
     private final Address anon;
     private final Address change;
@@ -96,7 +104,8 @@ class Player {
          Crypto crypto,
          Channel<VerificationKey, Signed<Packet<VerificationKey, P>>> channel,
          Messages.ShuffleMarshaller m,
-         PrintStream stream
+         PrintStream stream,
+         boolean warmup
     ) {
         if (sk == null || coin == null || session == null || addrs == null
                 || crypto == null || anon == null || channel == null) {
@@ -114,12 +123,39 @@ class Player {
         this.addrs = addrs;
         this.m = m;
         this.stream = stream;
+        this.warmup = warmup;
     }
 
+    // The most messages and bytes that may be waiting from any one peer. Honest
+    // players never come close to these.
+    private static final int MAX_MESSAGES = 100;
+    private static final double MAX_BYTES = 1 << 22;
+
     public Running start() throws IOException, InterruptedException {
         if (running != null) return running;
 
-        return new Running(new Connect<>(channel, crypto));
+        FairInbox<VerificationKey, Signed<Packet<VerificationKey, P>>> inbox = new FairInbox<>(
+                MAX_MESSAGES, MAX_BYTES,
+                new RateLimitedSend.Size<Signed<Packet<VerificationKey, P>>>() {
+                    @Override
+                    public double size(Signed<Packet<VerificationKey, P>> s) {
+                        if (s.marshalled != null) {
+                            return s.marshalled.length();
+                        }
+
+                        // Java serialization does not keep the signed bytes, so
+                        // we have to marshall the packet again to measure it.
+                        try {
+                            return m.signedMarshaller().marshall(s).length();
+                        } catch (IOException e) {
+                            // We can't tell how big it is, so don't let it in.
+                            return Double.POSITIVE_INFINITY;
+                        }
+                    }
+                });
+
+        return new Running(new Connect<>(channel, crypto, inbox,
+                Connect.DEFAULT_PARALLELISM, Connect.DEFAULT_BACKOFF), inbox);
     }
 
     public class Running {
@@ -127,8 +163,27 @@ class Player {
         // Wait until the appointed time.
         final Connect<VerificationKey, Signed<Packet<VerificationKey, P>>> connect;
 
-        Running(Connect<VerificationKey, Signed<Packet<VerificationKey, P>>> connect) {
+        // Where messages from other players go.
+        final FairInbox<VerificationKey, Signed<Packet<VerificationKey, P>>> inbox;
+
+        Running(
+                Connect<VerificationKey, Signed<Packet<VerificationKey, P>>> connect,
+                FairInbox<VerificationKey, Signed<Packet<VerificationKey, P>>> inbox) {
             this.connect = connect;
+            this.inbox = inbox;
+        }
+
+        // Whether all sessions are still open. This only notices sessions that have been
+        // closed, either by us or by the peer. A peer that disappeared without closing its
+        // end is not noticed until we send it something.
+        private boolean healthy(Collector<VerificationKey, Signed<Packet<VerificationKey, P>>> collector) {
+            for (Send<Signed<Packet<VerificationKey, P>>> s : collector.connected.values()) {
+                if (s instanceof Session && ((Session) s).closed()) {
+                    return false;
+                }
+            }
+
+            return true;
         }
 
         private @Nonnull Report playInner(Chan<Phase> ch) throws InterruptedException {
@@ -138,27 +193,59 @@ class Player {
             connectTo.addAll(addrs);
             connectTo.remove(sk.VerificationKey());
 
-            long wait = time - System.currentTimeMillis();
+            // Milliseconds spent connecting to the other players.
+            long connectTime = -1;
 
             // Run the protocol.
             try {
-                Thread.sleep(wait);
+                final Collector<VerificationKey, Signed<Packet<VerificationKey, P>>> collector;
 
-                // Begin connecting to all peers.
-                final Collector<VerificationKey, Signed<Packet<VerificationKey, P>>> collector
-                        = connect.connect(connectTo, 3);
+                if (warmup) {
+                    // Connect while we wait so that the protocol can begin on time. Peers
+                    // which are not online yet may be retried until the scheduled time.
+                    long begin = System.currentTimeMillis();
+                    collector = connect.connect(connectTo, 3, time);
+                    connectTime = System.currentTimeMillis() - begin;
 
-                if (collector == null) return Report.invalidInitialState("Could not connect to peers.");
+                    if (collector == null) {
+                        return Report.invalidInitialState("Could not connect to peers.", connectTime);
+                    }
+
+                    long wait = time - System.currentTimeMillis();
+                    if (wait > 0) {
+                        Thread.sleep(wait);
+                    }
+
+                    // Make sure that nobody dropped out while we were waiting.
+                    if (!healthy(collector)) {
+                        return Report.invalidInitialState(
+                                "Lost connection to peers before the protocol began.", connectTime);
+                    }
+                } else {
+                    long wait = time - System.currentTimeMillis();
+                    if (wait > 0) {
+                        Thread.sleep(wait);
+                    }
+
+                    // Begin connecting to all peers.
+                    long begin = System.currentTimeMillis();
+                    collector = connect.connect(connectTo, 3);
+                    connectTime = System.currentTimeMillis() - begin;
+
+                    if (collector == null) {
+                        return Report.invalidInitialState("Could not connect to peers.", connectTime);
+                    }
+                }
 
                 // If the protocol returns correctly without throwing a Matrix, then
                 // it has been successful.
                 Messages messages = new Messages(session, sk, collector.connected, collector.inbox, m);
                 CoinShuffle cs = new CoinShuffle(messages, crypto, coin);
-                return Report.success(cs.runProtocol(amount, sk, addrs, anon, change, ch));
+                return Report.success(cs.runProtocol(amount, sk, addrs, anon, change, ch), connectTime);
             } catch (Matrix m) {
-                return Report.failure(m, addrs);
+                return Report.failure(m, addrs, connectTime);
             } catch (TimeoutException e) {
-                return Report.timeout(e);
+                return Report.timeout(e, connectTime);
             } catch (CoinNetworkException
                     | IOException
                     | InvalidParticipantSetException
@@ -168,7 +255,7 @@ class Player {
                     | ExecutionException e) {
 
                 stream.println("  Player " + sk.VerificationKey() + " reports error " +  e.getMessage());
-                return Report.error(e.getMessage());
+                return Report.error(e.getMessage(), connectTime);
             }
 
         }
@@ -187,11 +274,11 @@ class Player {
                 // if (funds < amount) {
                 if (!coin.sufficientFunds(addr, amount)) {
                     connect.close();
-                    return Report.invalidInitialState("Insufficient funds! Address " + addr + " holds only " + funds + "; need at least " + amount);
+                    return Report.invalidInitialState("Insufficient funds! Address " + addr + " holds only " + funds + "; need at least " + amount, -1);
                 }
 
-                final Chan<Phase> ch = new BasicChan<>(2);
-                final Chan<Report> r = new BasicChan<>(2);
+                final BasicChan<Phase> ch = new BasicChan<>(2);
+                final BasicChan<Report> r = new BasicChan<>(2);
 
                 stream.println("  Player " + sk.VerificationKey() + " begins " + session);
 
@@ -200,7 +287,7 @@ class Player {
                     public void run() {
                         try {
                             r.send(playInner(ch));
-                        } catch (InterruptedException | NullPointerException | IOException e) {
+                        } catch (InterruptedException | NullPointerException e) {
                             throw new RuntimeException(e);
                         } finally {
                             ch.close();
@@ -211,16 +298,33 @@ class Player {
                 }).start();
 
                 while (true) {
-                    Phase phase = ch.receive();
-                    if (phase == null) break;
-                    stream.println("  Player " + sk.VerificationKey() + " reaches phase " + phase);
-                }
+                    Select.Selection next = Select.select(ch, r);
+
+                    Phase phase = next.get(ch);
+                    if (phase != null) {
+                        stream.println("  Player " + sk.VerificationKey() + " reaches phase " + phase);
+                        continue;
+                    }
 
-                return r.receive();
+                    if (next.from == r) {
+                        return next.get(r);
+                    }
+
+                    // No more phases, so the report is on its way.
+                    return r.receive();
+                }
             } catch (CoinNetworkException e) {
-                return Report.error(e.getMessage());
+                return Report.error(e.getMessage(), -1);
             } finally {
                 connect.close();
+
+                for (Map.Entry<VerificationKey, FairInbox.Counters> e : inbox.counters().entrySet()) {
+                    if (e.getValue().dropped > 0) {
+                        stream.println("  Player " + sk.VerificationKey() + " dropped messages from "
+                                + e.getKey() + ": " + e.getValue());
+                    }
+                }
+
                 stream.println("  Player " + sk.VerificationKey() + " shuts down.");
             }
         }
@@ -300,56 +404,66 @@ class Player {
         public final Matrix blame;
         public final String otherError;
 
-        private Report(Transaction t) {
+        // Milliseconds spent connecting to the other players, or -1 if we did not get that far.
+        public final long connectTime;
+
+        private Report(Transaction t, long connectTime) {
             this.t = t;
             this.timeout = null;
             this.blame = null;
             otherError = null;
+            this.connectTime = connectTime;
         }
 
-        private Report(TimeoutException timeout) {
+        private Report(TimeoutException timeout, long connectTime) {
             this.t = null;
             this.timeout = timeout;
             this.blame = null;
             otherError = null;
+            this.connectTime = connectTime;
         }
 
-        private Report(Matrix blame) {
+        private Report(Matrix blame, long connectTime) {
             this.blame = blame;
             timeout = null;
             t = null;
             otherError = null;
+            this.connectTime = connectTime;
         }
 
-        private Report(String other) {
+        private Report(String other, long connectTime) {
             otherError = other;
             timeout = null;
             t = null;
             blame = null;
+            this.connectTime = connectTime;
         }
 
         @Override
         public String toString() {
+            String connected = connectTime < 0 ? "" : " (connected in " + connectTime + " ms)";
+
             if (t != null) {
-                return "Successful round; transaction is " + t;
+                return "Successful round; transaction is " + t + connected;
             }
             if (blame != null) {
-                return "Unsuccessful round; blame is " + blame;
+                return "Unsuccessful round; blame is " + blame + connected;
             }
             if (timeout != null) {
-                return "Unsuccessful round; timeout error " + timeout;
+                return "Unsuccessful round; timeout error " + timeout + connected;
             }
             if (otherError != null) {
-                return otherError;
+                return otherError + connected;
             }
             throw new NullPointerException();
         }
 
-        public static Report success(Transaction t) {
-            return new Report(t);
+        public static Report success(Transaction t, long connectTime) {
+            return new Report(t, connectTime);
         }
 
-        public static Report failure(Matrix blame, SortedSet<VerificationKey> identities) {
+        public static Report failure(
+                Matrix blame, SortedSet<VerificationKey> identities, long connectTime) {
 
 
             // The eliminated players.
@@ -448,21 +562,21 @@ class Player {
                 // TODO How could this happen and what to do about it?
             }
 
-            return new Report(blame);
+            return new Report(blame, connectTime);
         }
 
-        public static Report timeout(TimeoutException e) {
-            return new Report(e);
+        public static Report timeout(TimeoutException e, long connectTime) {
+            return new Report(e, connectTime);
         }
 
         // Used when the protocol cannot even begin.
-        public static Report invalidInitialState(String error) {
-            return new Report(error);
+        public static Report invalidInitialState(String error, long connectTime) {
+            return new Report(error, connectTime);
         }
 
         // Used when the protocol cannot even begin.
-        public static Report error(String error) {
-            return new Report(error);
+        public static Report error(String error, long connectTime) {
+            return new Report(error, connectTime);
         }
     }
 }
@@ -1,7 +1,10 @@
 package com.shuffle.player;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
 import com.shuffle.bitcoin.Address;
 import com.shuffle.bitcoin.DecryptionKey;
 import com.shuffle.bitcoin.EncryptionKey;
@@ -17,12 +20,16 @@ import com.shuffle.protocol.blame.Blame;
 import com.shuffle.protocol.blame.Reason;
 import com.shuffle.protocol.message.Phase;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Created by Daniel Krawisz on 7/2/16.
@@ -44,6 +51,80 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
     // Unmarshall a Transaction
     public abstract Transaction unmarshallTransaction(byte[] bytes) throws FormatException;
 
+    // The most keys of each kind that we remember besides the participants'. Anyone can
+    // send us keys, so we can't keep all of them.
+    private static final int MAX_INTERNED = 1024;
+
+    // The keys of the players we expect to hear from. These are never forgotten, however
+    // many other keys anyone sends us.
+    private final Map<String, VerificationKey> participants = new ConcurrentHashMap<>();
+
+    // Other keys that we have already read, by the string they were read from. The same keys
+    // come in with nearly every packet, so this way each is only parsed once and always comes
+    // out as the same object. There should be one Protobuf per session.
+    private final Map<String, VerificationKey> verificationKeys = interned();
+    private final Map<String, EncryptionKey> encryptionKeys = interned();
+
+    private static <K> Map<String, K> interned() {
+        return new LinkedHashMap<String, K>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, K> eldest) {
+                return size() > MAX_INTERNED;
+            }
+        };
+    }
+
+    // Whatever is read later from the same string will be this object. Should be called
+    // with the keys of the players we expect to hear from.
+    public final void intern(VerificationKey vk) {
+        if (vk == null) throw new NullPointerException();
+
+        participants.put(vk.toString(), vk);
+    }
+
+    // Read a verification key, or look it up if we have read it before.
+    public final VerificationKey readVerificationKey(String str) {
+        VerificationKey participant = participants.get(str);
+        if (participant != null) return participant;
+
+        synchronized (verificationKeys) {
+            VerificationKey vk = verificationKeys.get(str);
+            if (vk != null) return vk;
+        }
+
+        // Parse outside the lock so that a new key doesn't hold up everybody else.
+        VerificationKey vk = unmarshallVerificationKey(str);
+
+        synchronized (verificationKeys) {
+            // Another thread may have read the same key in the meantime.
+            VerificationKey other = verificationKeys.get(str);
+            if (other != null) return other;
+
+            verificationKeys.put(str, vk);
+            return vk;
+        }
+    }
+
+    // Read an encryption key, or look it up if we have read it before.
+    public final EncryptionKey readEncryptionKey(String str)
+            throws InvalidKeySpecException, NoSuchAlgorithmException {
+
+        synchronized (encryptionKeys) {
+            EncryptionKey ek = encryptionKeys.get(str);
+            if (ek != null) return ek;
+        }
+
+        EncryptionKey ek = unmarshallEncryptionKey(str);
+
+        synchronized (encryptionKeys) {
+            EncryptionKey other = encryptionKeys.get(str);
+            if (other != null) return other;
+
+            encryptionKeys.put(str, ek);
+            return ek;
+        }
+    }
+
     public static Proto.Signed.Builder marshallSignedPacket(com.shuffle.protocol.message.Packet p) {
         if (p == null || !(p instanceof Messages.SignedPacket)) {
             throw new IllegalArgumentException("Unknown implementation of Packet.");
@@ -92,16 +173,23 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
         }
 
         Proto.Packet.Builder pb = Proto.Packet.newBuilder()
-                .setSession(ByteString.copyFrom(p.session.bytes))
-                .setTo(Proto.VerificationKey.newBuilder()
-                        .setKey(p.to.toString()))
+                .setSession(ByteString.copyFrom(p.session.asByteBuffer()))
                 .setFrom(Proto.VerificationKey.newBuilder()
                         .setKey(p.from.toString()))
-                .setNumber(p.sequenceNumber)
                 .setPhase(phase)
                 .setMessage(mb);
 
-        Message.Atom atom = ((Message)msg).atoms;
+        // The recipient and sequence number of a broadcast packet go in the
+        // envelope so that they are not covered by the signature.
+        if (p.broadcast) {
+            pb.setBroadcast(true);
+        } else {
+            pb.setTo(Proto.VerificationKey.newBuilder()
+                    .setKey(p.to.toString()))
+                    .setNumber(p.sequenceNumber);
+        }
+
+        Message.Atom atom = ((Message)msg).atoms();
         if (atom != null) {
             pb.setMessage(marshallAtom(atom));
         }
@@ -121,11 +209,14 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
                     ByteString.copyFrom(atom.secureHash.toString().getBytes())));
         } else if (atom.sig != null) {
             ab.setSignature(Proto.Signature.newBuilder().setSignature(
-                    ByteString.copyFrom(atom.sig.bytes)));
+                    ByteString.copyFrom(atom.sig.asByteBuffer())));
         } else if (atom.string != null) {
             ab.setStr(atom.string);
         } else if (atom.blame != null) {
             ab.setBlame(marshallBlame(atom.blame));
+        } else if (atom.ciphertext != null) {
+            ab.setCiphertext(Proto.Ciphertext.newBuilder().setCiphertext(
+                    ByteString.copyFrom(atom.ciphertext.bytes.asByteBuffer())));
         } else {
             throw new IllegalArgumentException("Atom cannot be empty.");
         }
@@ -138,8 +229,41 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
     }
 
     public static Proto.Signed.Builder marshallSignedPacket(Signed<com.shuffle.chan.packet.Packet<VerificationKey, P>> p) {
-        return Proto.Signed.newBuilder().setPacket(marshallPacket(p.message)).setSignature(
-                Proto.Signature.newBuilder().setSignature(ByteString.copyFrom(p.signature.bytes)));
+        Proto.Signed.Builder sb = Proto.Signed.newBuilder().setPacket(signedPacket(p)).setSignature(
+                marshallSignature(p));
+
+        Proto.Envelope.Builder envelope = marshallEnvelope(p);
+        if (envelope != null) {
+            sb.setEnvelope(envelope);
+        }
+
+        return sb;
+    }
+
+    // The packet exactly as it was signed, if we have those bytes, so that
+    // the signature can still be checked by whoever reads it.
+    private static Proto.Packet.Builder signedPacket(Signed<com.shuffle.chan.packet.Packet<VerificationKey, P>> p) {
+        if (p.marshalled != null) {
+            try {
+                return Proto.Packet.parseFrom(p.marshalled.bytes()).toBuilder();
+            } catch (InvalidProtocolBufferException e) {
+                // The packet was signed in some other format.
+            }
+        }
+
+        return marshallPacket(p.message);
+    }
+
+    private static Proto.Signature.Builder marshallSignature(Signed<?> p) {
+        return Proto.Signature.newBuilder().setSignature(ByteString.copyFrom(p.signature.asByteBuffer()));
+    }
+
+    private static Proto.Envelope.Builder marshallEnvelope(Signed<com.shuffle.chan.packet.Packet<VerificationKey, P>> p) {
+        if (!p.message.broadcast || p.message.to == null) return null;
+
+        return Proto.Envelope.newBuilder()
+                .setTo(Proto.VerificationKey.newBuilder().setKey(p.message.to.toString()))
+                .setNumber(p.message.sequenceNumber);
     }
 
     public static Proto.Blame.Builder marshallBlame(Blame b) {
@@ -180,17 +304,19 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
         }
 
         if (b.t != null) {
-            bb.setTransaction(Proto.Transaction.newBuilder().setTransaction(ByteString.copyFrom(b.t.serialize().bytes)));
+            bb.setTransaction(Proto.Transaction.newBuilder().setTransaction(ByteString.copyFrom(b.t.serialize().asByteBuffer())));
         }
 
         if (b.invalid != null) {
-            bb.setInvalid(Proto.Invalid.newBuilder().setInvalid(ByteString.copyFrom(b.invalid.bytes)));
+            bb.setInvalid(Proto.Invalid.newBuilder().setInvalid(ByteString.copyFrom(b.invalid.asByteBuffer())));
         }
 
         if (b.packets != null) {
+            Proto.Packets.Builder pb = Proto.Packets.newBuilder();
             for (com.shuffle.protocol.message.Packet p : b.packets) {
-                bb.setPackets(Proto.Packets.newBuilder().addPacket(marshallSignedPacket(p)));
+                pb.addPacket(marshallSignedPacket(p));
             }
+            bb.setPackets(pb);
         }
 
         return bb;
@@ -201,41 +327,48 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
         Object o;
         // Only one field is allowed to be set in the Atom.
         if (!atom.getStr().equals("")) {
-            if (atom.hasAddress() || atom.hasKey() || atom.hasSignature() || atom.hasBlame()) {
+            if (atom.hasAddress() || atom.hasKey() || atom.hasSignature() || atom.hasBlame()
+                    || atom.hasCiphertext()) {
                 throw new FormatException("Atom contains more than one value.");
             }
 
             o = atom.getStr();
         } else if (atom.hasAddress()) {
-            if (atom.hasKey() || atom.hasHash() || atom.hasSignature() || atom.hasBlame()) {
+            if (atom.hasKey() || atom.hasHash() || atom.hasSignature() || atom.hasBlame()
+                    || atom.hasCiphertext()) {
                 throw new FormatException("Atom contains more than one value.");
             }
 
             o = unmarshallAdress(atom.getAddress().getAddress());
         } else if (atom.hasKey()) {
-            if (atom.hasHash() || atom.hasSignature() || atom.hasBlame()) {
+            if (atom.hasHash() || atom.hasSignature() || atom.hasBlame() || atom.hasCiphertext()) {
                 throw new FormatException("Atom contains more than one value.");
             }
 
             try {
-                o = unmarshallEncryptionKey(atom.getKey().getKey());
+                o = readEncryptionKey(atom.getKey().getKey());
             } catch (NumberFormatException
                     | NoSuchAlgorithmException
                     | InvalidKeySpecException e) {
                 throw new FormatException("Could not read " + atom.getKey().getKey() + " as number.");
             }
         } else if (atom.hasHash()) {
-            if (atom.hasSignature() || atom.hasBlame()) {
+            if (atom.hasSignature() || atom.hasBlame() || atom.hasCiphertext()) {
                 throw new FormatException("Atom contains more than one value.");
             }
 
             o = new Message.SecureHash(new Bytestring(atom.getHash().getHash().toByteArray()));
         } else if (atom.hasSignature()) {
-            if (atom.hasBlame()) throw new FormatException("Atom contains more than one value.");
+            if (atom.hasBlame() || atom.hasCiphertext())
+                throw new FormatException("Atom contains more than one value.");
 
             o = new Bytestring(atom.getSignature().getSignature().toByteArray());
         } else if (atom.hasBlame()) {
+            if (atom.hasCiphertext()) throw new FormatException("Atom contains more than one value.");
+
             o = unmarshallBlame(atom.getBlame());
+        } else if (atom.hasCiphertext()) {
+            o = new Message.Ciphertext(new Bytestring(atom.getCiphertext().getCiphertext().toByteArray()));
         } else {
             throw new FormatException("Atom contains no values.");
         }
@@ -294,7 +427,7 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
         VerificationKey accused = null;
         if (blame.hasAccused()) {
             try {
-                accused = unmarshallVerificationKey(blame.getAccused().getKey());
+                accused = readVerificationKey(blame.getAccused().getKey());
             } catch (NumberFormatException e) {
                 throw new FormatException(e.getMessage());
             }
@@ -338,19 +471,61 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
     }
 
     public final Signed<com.shuffle.chan.packet.Packet<VerificationKey, P>> unmarshallSignedPacket(Proto.Signed sp) throws FormatException {
-        if (!(sp.hasSignature() && sp.hasPacket() && sp.getPacket().hasFrom())) {
+        if (!(sp.hasSignature() && sp.hasPacket())) {
             throw new FormatException("All entries in Signed must be filled:" + sp);
         }
 
-        return new Signed<>(
-                new Bytestring(sp.getPacket().toByteArray()),
-                new Bytestring(sp.getSignature().getSignature().toByteArray()),
-                unmarshallVerificationKey(sp.getPacket().getFrom().getKey()),
-                packetMarshaller);
+        return unmarshallSignedPacket(
+                sp.getPacket().toByteArray(),
+                sp.getSignature(),
+                sp.hasEnvelope() ? sp.getEnvelope() : null);
+    }
+
+    // Read a signed packet given the bytes of the packet exactly as they were signed.
+    private Signed<com.shuffle.chan.packet.Packet<VerificationKey, P>> unmarshallSignedPacket(
+            byte[] bytes,
+            Proto.Signature signature,
+            Proto.Envelope envelope) throws FormatException {
+
+        Proto.Packet p;
+        try {
+            p = Proto.Packet.parseFrom(bytes);
+        } catch (InvalidProtocolBufferException e) {
+            throw new FormatException("Could not read " + Arrays.toString(bytes) + " as Packet.");
+        }
+
+        if (!p.hasFrom()) {
+            throw new FormatException("All entries in Signed must be filled:" + p);
+        }
+
+        VerificationKey from = readVerificationKey(p.getFrom().getKey());
+        com.shuffle.chan.packet.Packet<VerificationKey, P> packet = unmarshallPacket(p);
+
+        Signed<com.shuffle.chan.packet.Packet<VerificationKey, P>> signed;
+        try {
+            signed = new Signed<>(
+                    new Bytestring(bytes),
+                    new Bytestring(signature.getSignature().toByteArray()),
+                    from, packet);
+        } catch (IllegalArgumentException e) {
+            throw new FormatException("Invalid signature on " + p);
+        }
+
+        if (!signed.message.broadcast) {
+            return signed;
+        }
+
+        if (!(envelope != null && envelope.hasTo())) {
+            throw new FormatException("Broadcast packet must have an envelope:" + p);
+        }
+
+        return Signed.addressed(signed,
+                readVerificationKey(envelope.getTo().getKey()),
+                envelope.getNumber());
     }
 
     public final com.shuffle.chan.packet.Packet<VerificationKey, P> unmarshallPacket(Proto.Packet p) throws FormatException {
-        if (!(p.hasFrom() && p.hasTo() && p.hasMessage())) {
+        if (!(p.hasFrom() && (p.hasTo() || p.getBroadcast()) && p.hasMessage())) {
             throw new FormatException("All entries in Packet must be filled: " + p);
         }
 
@@ -385,21 +560,31 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
             }
         }
 
+        Bytestring session = new Bytestring(p.getSession().toByteArray());
+        VerificationKey from = readVerificationKey(p.getFrom().getKey());
+        P payload = new P(phase, new Message(unmarshallAtom(p.getMessage()), null));
+
+        if (p.getBroadcast()) {
+            return com.shuffle.chan.packet.Packet.broadcast(session, from, payload);
+        }
+
         return new com.shuffle.chan.packet.Packet<>(
-                new Bytestring(p.getSession().toByteArray()),
-                unmarshallVerificationKey(p.getFrom().getKey()),
-                unmarshallVerificationKey(p.getTo().getKey()),
+                session,
+                from,
+                readVerificationKey(p.getTo().getKey()),
                 p.getNumber(),
-                new P(phase, new Message(unmarshallAtom(p.getMessage()), null)));
+                payload);
 
     }
 
     public final Marshaller<Packet<VerificationKey, P>> packetMarshaller;
     public final Marshaller<Message.Atom> atomMarshaller;
+    public final Marshaller<Signed<Packet<VerificationKey, P>>> signedMarshaller;
 
     public Protobuf() {
         packetMarshaller = new PacketMarshaller();
         atomMarshaller = new AtomMarshaller();
+        signedMarshaller = new SignedMarshaller();
 
     }
 
@@ -413,6 +598,11 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
         return packetMarshaller;
     }
 
+    @Override
+    public Marshaller<Signed<Packet<VerificationKey, P>>> signedMarshaller() {
+        return signedMarshaller;
+    }
+
     class AtomMarshaller implements Marshaller<Message.Atom> {
 
         @Override
@@ -425,9 +615,9 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
 
             Proto.Message atom;
             try {
-                atom = Proto.Message.parseFrom(string.bytes);
+                atom = Proto.Message.parseFrom(string.bytes());
             } catch (InvalidProtocolBufferException e) {
-                throw new FormatException("Could not read " + Arrays.toString(string.bytes));
+                throw new FormatException("Could not read " + Arrays.toString(string.bytes()));
             }
 
             return unmarshallAtom(atom);
@@ -444,10 +634,78 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
         @Override
         public com.shuffle.chan.packet.Packet<VerificationKey, P> unmarshall(Bytestring string) throws FormatException {
             try {
-                return unmarshallPacket(Proto.Packet.parseFrom(string.bytes));
+                return unmarshallPacket(Proto.Packet.parseFrom(string.bytes()));
             } catch (InvalidProtocolBufferException e) {
                 throw new FormatException("Could not read " + string + " as Packet.");
             }
         }
     }
+
+    // Writes a Proto.Signed in which the packet is copied from the bytes that were signed
+    // rather than marshalled again, and reads it back without re-encoding the packet to
+    // check the signature.
+    class SignedMarshaller implements Marshaller<Signed<Packet<VerificationKey, P>>> {
+
+        @Override
+        public Bytestring marshall(Signed<Packet<VerificationKey, P>> s) throws IOException {
+            Bytestring packet = s.marshalled != null ? s.marshalled : packetMarshaller.marshall(s.message);
+            if (packet == null) return null;
+
+            ByteArrayOutputStream b = new ByteArrayOutputStream();
+            CodedOutputStream out = CodedOutputStream.newInstance(b);
+
+            out.writeByteArray(Proto.Signed.PACKET_FIELD_NUMBER, packet.bytes());
+            out.writeMessage(Proto.Signed.SIGNATURE_FIELD_NUMBER, marshallSignature(s).build());
+
+            Proto.Envelope.Builder envelope = marshallEnvelope(s);
+            if (envelope != null) {
+                out.writeMessage(Proto.Signed.ENVELOPE_FIELD_NUMBER, envelope.build());
+            }
+
+            out.flush();
+            return new Bytestring(b.toByteArray());
+        }
+
+        @Override
+        public Signed<Packet<VerificationKey, P>> unmarshall(Bytestring string) throws FormatException {
+            byte[] packet = null;
+            Proto.Signature signature = null;
+            Proto.Envelope envelope = null;
+
+            try {
+                CodedInputStream in = CodedInputStream.newInstance(string.bytes());
+
+                while (true) {
+                    int tag = in.readTag();
+                    if (tag == 0) break;
+
+                    switch (WireFormat.getTagFieldNumber(tag)) {
+                        case Proto.Signed.PACKET_FIELD_NUMBER: {
+                            packet = in.readByteArray();
+                            break;
+                        }
+                        case Proto.Signed.SIGNATURE_FIELD_NUMBER: {
+                            signature = Proto.Signature.parseFrom(in.readBytes());
+                            break;
+                        }
+                        case Proto.Signed.ENVELOPE_FIELD_NUMBER: {
+                            envelope = Proto.Envelope.parseFrom(in.readBytes());
+                            break;
+                        }
+                        default: {
+                            in.skipField(tag);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new FormatException("Could not read " + string + " as Signed.");
+            }
+
+            if (packet == null || signature == null) {
+                throw new FormatException("All entries in Signed must be filled:" + string);
+            }
+
+            return unmarshallSignedPacket(packet, signature, envelope);
+        }
+    }
 }
@@ -15,7 +15,6 @@ import com.shuffle.bitcoin.impl.AddressImpl;
 import com.shuffle.bitcoin.impl.CryptoProtobuf;
 import com.shuffle.bitcoin.impl.SigningKeyImpl;
 import com.shuffle.bitcoin.impl.VerificationKeyImpl;
-import com.shuffle.chan.packet.JavaMarshaller;
 import com.shuffle.chan.packet.Packet;
 import com.shuffle.chan.packet.Signed;
 import com.shuffle.mock.InsecureRandom;
@@ -36,6 +35,7 @@ import com.shuffle.p2p.Channel;
 import com.shuffle.p2p.MappedChannel;
 import com.shuffle.p2p.MarshallChannel;
 import com.shuffle.p2p.Multiplexer;
+import com.shuffle.p2p.NioTcpChannel;
 import com.shuffle.p2p.TcpChannel;
 import com.shuffle.protocol.FormatException;
 
@@ -180,6 +180,12 @@ public class Shuffle {
         parser.accepts("report", "Path to store report file.")
                 .withRequiredArg().ofType(String.class);
 
+        parser.accepts("warmup",
+                "Connect to peers before the scheduled time so that the protocol can begin on time.");
+
+        parser.accepts("keypool", "Number of decryption keys to generate ahead of time.")
+                .withRequiredArg().ofType(Integer.class).defaultsTo(2);
+
         return parser;
     }
 
@@ -194,11 +200,15 @@ public class Shuffle {
     Map<VerificationKey, Either<InetSocketAddress, Integer>> peers = new HashMap<>();
     SortedSet<VerificationKey> keys = new TreeSet<>();
     public final String report; // Where to save the report.
+    public final boolean warmup; // Whether to connect before the scheduled time.
 
     public final ExecutorService executor;
 
     private final MockNetwork<Integer, Signed<Packet<VerificationKey, P>>> mock = new MockNetwork<>();
 
+    // All local players share one thread for their tcp connections.
+    private final NioTcpChannel.EventLoop loop = new NioTcpChannel.EventLoop();
+
     public Shuffle(OptionSet options, PrintStream stream)
             throws IllegalArgumentException, ParseException, UnknownHostException, FormatException, NoSuchAlgorithmException, AddressFormatException, MalformedURLException, BitcoinCrypto.Exception {
 
@@ -255,6 +265,8 @@ public class Shuffle {
             report = null;
         }
 
+        warmup = options.has("warmup");
+
         // Detect the nature of the cryptocoin network we will use.
         final String query = (String)options.valueOf("query");
         final NetworkParameters netParams;
@@ -393,6 +405,13 @@ public class Shuffle {
                         m = new CryptoProtobuf();
                     }
                     break;
+                case "binary":
+                    if (mockCrypto) {
+                        m = new BinaryShuffleMarshaller(new MockProtobuf());
+                    } else {
+                        m = new BinaryShuffleMarshaller(new CryptoProtobuf());
+                    }
+                    break;
                 default:
                     throw new IllegalArgumentException();
             }
@@ -402,6 +421,16 @@ public class Shuffle {
             m = new CryptoProtobuf();
         }
 
+        // Make decryption keys in the background so that we don't have to wait for one
+        // when a round begins.
+        if (crypto instanceof BitcoinCrypto) {
+            int keyPool = (Integer)options.valueOf("keypool");
+            if (keyPool < 0) {
+                throw new IllegalArgumentException("keypool must not be negative.");
+            }
+            ((BitcoinCrypto) crypto).setKeyPoolDepth(keyPool);
+        }
+
         amount = (Long)options.valueOf("amount");
         if (amount <= MIN_AMMOUNT) {
             throw new IllegalArgumentException("Amount is too small. ");
@@ -464,6 +493,7 @@ public class Shuffle {
             }
             peers.put(vk, address);
             keys.add(vk);
+            intern(m, vk);
         }
 
         executor = Executors.newFixedThreadPool(10);
@@ -621,22 +651,35 @@ public class Shuffle {
         }
 
         keys.add(vk);
+        intern(m, vk);
         peers.put(vk, new Either<InetSocketAddress, Integer>(null, id));
 
         Channel<VerificationKey, Signed<Packet<VerificationKey, P>>> channel =
             new MappedChannel<>(
                 new Multiplexer<>(
                     new MarshallChannel<>(
-                        new TcpChannel(
-                            new InetSocketAddress(InetAddress.getLocalHost(), (int)port)),
-                            new JavaMarshaller<Signed<Packet<VerificationKey, P>>>()),
+                        new NioTcpChannel(
+                            new InetSocketAddress(InetAddress.getLocalHost(), (int)port), loop,
+                            // Sessions opened early may sit idle until the protocol begins.
+                            new TcpChannel.Options(true, warmup, 0, 0)),
+                            m.signedMarshaller()),
                         mock.node(id)),
                     peers);
 
         return new Player(
                 sk, session, anonAddress,
                 changeAddress, keys, time,
-                amount, coin, crypto, channel, m, System.out);
+                amount, coin, crypto, channel, m, System.out, warmup);
+    }
+
+    // Keys that we receive from the other players will be read as the same objects
+    // that we have for them here.
+    private static void intern(Messages.ShuffleMarshaller m, VerificationKey vk) {
+        if (m instanceof Protobuf) {
+            ((Protobuf) m).intern(vk);
+        } else if (m instanceof BinaryShuffleMarshaller) {
+            ((BinaryShuffleMarshaller) m).intern(vk);
+        }
     }
 
     private static JSONArray readJSONArray(String ar) {
@@ -699,6 +742,7 @@ public class Shuffle {
 
     public void close() {
         executor.shutdownNow();
+        loop.close();
     }
 
     public static void main(String[] opts) throws IOException {
@@ -350,6 +350,31 @@ public final class Proto {
      * <code>optional .Signature signature = 2;</code>
      */
     com.shuffle.player.proto.Proto.SignatureOrBuilder getSignatureOrBuilder();
+
+    /**
+     * <pre>
+     * Only for broadcast packets.
+     * </pre>
+     *
+     * <code>optional .Envelope envelope = 3;</code>
+     */
+    boolean hasEnvelope();
+    /**
+     * <pre>
+     * Only for broadcast packets.
+     * </pre>
+     *
+     * <code>optional .Envelope envelope = 3;</code>
+     */
+    com.shuffle.player.proto.Proto.Envelope getEnvelope();
+    /**
+     * <pre>
+     * Only for broadcast packets.
+     * </pre>
+     *
+     * <code>optional .Envelope envelope = 3;</code>
+     */
+    com.shuffle.player.proto.Proto.EnvelopeOrBuilder getEnvelopeOrBuilder();
   }
   /**
    * Protobuf type {@code Signed}
@@ -414,6 +439,19 @@ public final class Proto {
                 signature_ = subBuilder.buildPartial();
               }
 
+              break;
+            }
+            case 26: {
+              com.shuffle.player.proto.Proto.Envelope.Builder subBuilder = null;
+              if (envelope_ != null) {
+                subBuilder = envelope_.toBuilder();
+              }
+              envelope_ = input.readMessage(com.shuffle.player.proto.Proto.Envelope.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(envelope_);
+                envelope_ = subBuilder.buildPartial();
+              }
+
               break;
             }
           }
@@ -481,6 +519,39 @@ public final class Proto {
       return getSignature();
     }
 
+    public static final int ENVELOPE_FIELD_NUMBER = 3;
+    private com.shuffle.player.proto.Proto.Envelope envelope_;
+    /**
+     * <pre>
+     * Only for broadcast packets.
+     * </pre>
+     *
+     * <code>optional .Envelope envelope = 3;</code>
+     */
+    public boolean hasEnvelope() {
+      return envelope_ != null;
+    }
+    /**
+     * <pre>
+     * Only for broadcast packets.
+     * </pre>
+     *
+     * <code>optional .Envelope envelope = 3;</code>
+     */
+    public com.shuffle.player.proto.Proto.Envelope getEnvelope() {
+      return envelope_ == null ? com.shuffle.player.proto.Proto.Envelope.getDefaultInstance() : envelope_;
+    }
+    /**
+     * <pre>
+     * Only for broadcast packets.
+     * </pre>
+     *
+     * <code>optional .Envelope envelope = 3;</code>
+     */
+    public com.shuffle.player.proto.Proto.EnvelopeOrBuilder getEnvelopeOrBuilder() {
+      return getEnvelope();
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -499,6 +570,9 @@ public final class Proto {
       if (signature_ != null) {
         output.writeMessage(2, getSignature());
       }
+      if (envelope_ != null) {
+        output.writeMessage(3, getEnvelope());
+      }
     }
 
     public int getSerializedSize() {
@@ -514,6 +588,10 @@ public final class Proto {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(2, getSignature());
       }
+      if (envelope_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getEnvelope());
+      }
       memoizedSize = size;
       return size;
     }
@@ -643,6 +721,12 @@ public final class Proto {
           signature_ = null;
           signatureBuilder_ = null;
         }
+        if (envelopeBuilder_ == null) {
+          envelope_ = null;
+        } else {
+          envelope_ = null;
+          envelopeBuilder_ = null;
+        }
         return this;
       }
 
@@ -675,6 +759,11 @@ public final class Proto {
         } else {
           result.signature_ = signatureBuilder_.build();
         }
+        if (envelopeBuilder_ == null) {
+          result.envelope_ = envelope_;
+        } else {
+          result.envelope_ = envelopeBuilder_.build();
+        }
         onBuilt();
         return result;
       }
@@ -696,6 +785,9 @@ public final class Proto {
         if (other.hasSignature()) {
           mergeSignature(other.getSignature());
         }
+        if (other.hasEnvelope()) {
+          mergeEnvelope(other.getEnvelope());
+        }
         onChanged();
         return this;
       }
@@ -955,6 +1047,159 @@ public final class Proto {
         }
         return signatureBuilder_;
       }
+
+      private com.shuffle.player.proto.Proto.Envelope envelope_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Envelope, com.shuffle.player.proto.Proto.Envelope.Builder, com.shuffle.player.proto.Proto.EnvelopeOrBuilder> envelopeBuilder_;
+      /**
+       * <pre>
+       * Only for broadcast packets.
+       * </pre>
+       *
+       * <code>optional .Envelope envelope = 3;</code>
+       */
+      public boolean hasEnvelope() {
+        return envelopeBuilder_ != null || envelope_ != null;
+      }
+      /**
+       * <pre>
+       * Only for broadcast packets.
+       * </pre>
+       *
+       * <code>optional .Envelope envelope = 3;</code>
+       */
+      public com.shuffle.player.proto.Proto.Envelope getEnvelope() {
+        if (envelopeBuilder_ == null) {
+          return envelope_ == null ? com.shuffle.player.proto.Proto.Envelope.getDefaultInstance() : envelope_;
+        } else {
+          return envelopeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * Only for broadcast packets.
+       * </pre>
+       *
+       * <code>optional .Envelope envelope = 3;</code>
+       */
+      public Builder setEnvelope(com.shuffle.player.proto.Proto.Envelope value) {
+        if (envelopeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          envelope_ = value;
+          onChanged();
+        } else {
+          envelopeBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * Only for broadcast packets.
+       * </pre>
+       *
+       * <code>optional .Envelope envelope = 3;</code>
+       */
+      public Builder setEnvelope(
+          com.shuffle.player.proto.Proto.Envelope.Builder builderForValue) {
+        if (envelopeBuilder_ == null) {
+          envelope_ = builderForValue.build();
+          onChanged();
+        } else {
+          envelopeBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * Only for broadcast packets.
+       * </pre>
+       *
+       * <code>optional .Envelope envelope = 3;</code>
+       */
+      public Builder mergeEnvelope(com.shuffle.player.proto.Proto.Envelope value) {
+        if (envelopeBuilder_ == null) {
+          if (envelope_ != null) {
+            envelope_ =
+              com.shuffle.player.proto.Proto.Envelope.newBuilder(envelope_).mergeFrom(value).buildPartial();
+          } else {
+            envelope_ = value;
+          }
+          onChanged();
+        } else {
+          envelopeBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * Only for broadcast packets.
+       * </pre>
+       *
+       * <code>optional .Envelope envelope = 3;</code>
+       */
+      public Builder clearEnvelope() {
+        if (envelopeBuilder_ == null) {
+          envelope_ = null;
+          onChanged();
+        } else {
+          envelope_ = null;
+          envelopeBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * Only for broadcast packets.
+       * </pre>
+       *
+       * <code>optional .Envelope envelope = 3;</code>
+       */
+      public com.shuffle.player.proto.Proto.Envelope.Builder getEnvelopeBuilder() {
+        
+        onChanged();
+        return getEnvelopeFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * Only for broadcast packets.
+       * </pre>
+       *
+       * <code>optional .Envelope envelope = 3;</code>
+       */
+      public com.shuffle.player.proto.Proto.EnvelopeOrBuilder getEnvelopeOrBuilder() {
+        if (envelopeBuilder_ != null) {
+          return envelopeBuilder_.getMessageOrBuilder();
+        } else {
+          return envelope_ == null ?
+              com.shuffle.player.proto.Proto.Envelope.getDefaultInstance() : envelope_;
+        }
+      }
+      /**
+       * <pre>
+       * Only for broadcast packets.
+       * </pre>
+       *
+       * <code>optional .Envelope envelope = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Envelope, com.shuffle.player.proto.Proto.Envelope.Builder, com.shuffle.player.proto.Proto.EnvelopeOrBuilder> 
+          getEnvelopeFieldBuilder() {
+        if (envelopeBuilder_ == null) {
+          envelopeBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.Envelope, com.shuffle.player.proto.Proto.Envelope.Builder, com.shuffle.player.proto.Proto.EnvelopeOrBuilder>(
+                  getEnvelope(),
+                  getParentForChildren(),
+                  isClean());
+          envelope_ = null;
+        }
+        return envelopeBuilder_;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return this;
@@ -1065,6 +1310,15 @@ public final class Proto {
      * <code>optional .Message message = 6;</code>
      */
     com.shuffle.player.proto.Proto.MessageOrBuilder getMessageOrBuilder();
+
+    /**
+     * <pre>
+     * If true, to and number are in the envelope instead.
+     * </pre>
+     *
+     * <code>optional bool broadcast = 7;</code>
+     */
+    boolean getBroadcast();
   }
   /**
    * Protobuf type {@code Packet}
@@ -1081,6 +1335,7 @@ public final class Proto {
       session_ = com.google.protobuf.ByteString.EMPTY;
       number_ = 0;
       phase_ = 0;
+      broadcast_ = false;
     }
 
     @java.lang.Override
@@ -1163,6 +1418,11 @@ public final class Proto {
 
               break;
             }
+            case 56: {
+
+              broadcast_ = input.readBool();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -1283,6 +1543,19 @@ public final class Proto {
       return getMessage();
     }
 
+    public static final int BROADCAST_FIELD_NUMBER = 7;
+    private boolean broadcast_;
+    /**
+     * <pre>
+     * If true, to and number are in the envelope instead.
+     * </pre>
+     *
+     * <code>optional bool broadcast = 7;</code>
+     */
+    public boolean getBroadcast() {
+      return broadcast_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -1313,6 +1586,9 @@ public final class Proto {
       if (message_ != null) {
         output.writeMessage(6, getMessage());
       }
+      if (broadcast_ != false) {
+        output.writeBool(7, broadcast_);
+      }
     }
 
     public int getSerializedSize() {
@@ -1344,6 +1620,10 @@ public final class Proto {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(6, getMessage());
       }
+      if (broadcast_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(7, broadcast_);
+      }
       memoizedSize = size;
       return size;
     }
@@ -1485,6 +1765,8 @@ public final class Proto {
           message_ = null;
           messageBuilder_ = null;
         }
+        broadcast_ = false;
+
         return this;
       }
 
@@ -1525,6 +1807,7 @@ public final class Proto {
         } else {
           result.message_ = messageBuilder_.build();
         }
+        result.broadcast_ = broadcast_;
         onBuilt();
         return result;
       }
@@ -1558,6 +1841,9 @@ public final class Proto {
         if (other.hasMessage()) {
           mergeMessage(other.getMessage());
         }
+        if (other.getBroadcast() != false) {
+          setBroadcast(other.getBroadcast());
+        }
         onChanged();
         return this;
       }
@@ -2033,6 +2319,44 @@ public final class Proto {
         }
         return messageBuilder_;
       }
+
+      private boolean broadcast_ ;
+      /**
+       * <pre>
+       * If true, to and number are in the envelope instead.
+       * </pre>
+       *
+       * <code>optional bool broadcast = 7;</code>
+       */
+      public boolean getBroadcast() {
+        return broadcast_;
+      }
+      /**
+       * <pre>
+       * If true, to and number are in the envelope instead.
+       * </pre>
+       *
+       * <code>optional bool broadcast = 7;</code>
+       */
+      public Builder setBroadcast(boolean value) {
+        
+        broadcast_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * If true, to and number are in the envelope instead.
+       * </pre>
+       *
+       * <code>optional bool broadcast = 7;</code>
+       */
+      public Builder clearBroadcast() {
+        
+        broadcast_ = false;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return this;
@@ -2082,111 +2406,45 @@ public final class Proto {
 
   }
 
-  public interface MessageOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Message)
+  public interface EnvelopeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Envelope)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional .Address address = 1;</code>
-     */
-    boolean hasAddress();
-    /**
-     * <code>optional .Address address = 1;</code>
-     */
-    com.shuffle.player.proto.Proto.Address getAddress();
-    /**
-     * <code>optional .Address address = 1;</code>
-     */
-    com.shuffle.player.proto.Proto.AddressOrBuilder getAddressOrBuilder();
-
-    /**
-     * <code>optional .EncryptionKey key = 2;</code>
-     */
-    boolean hasKey();
-    /**
-     * <code>optional .EncryptionKey key = 2;</code>
-     */
-    com.shuffle.player.proto.Proto.EncryptionKey getKey();
-    /**
-     * <code>optional .EncryptionKey key = 2;</code>
-     */
-    com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder getKeyOrBuilder();
-
-    /**
-     * <code>optional .Hash hash = 3;</code>
-     */
-    boolean hasHash();
-    /**
-     * <code>optional .Hash hash = 3;</code>
-     */
-    com.shuffle.player.proto.Proto.Hash getHash();
-    /**
-     * <code>optional .Hash hash = 3;</code>
-     */
-    com.shuffle.player.proto.Proto.HashOrBuilder getHashOrBuilder();
-
-    /**
-     * <code>optional .Signature signature = 4;</code>
-     */
-    boolean hasSignature();
-    /**
-     * <code>optional .Signature signature = 4;</code>
-     */
-    com.shuffle.player.proto.Proto.Signature getSignature();
-    /**
-     * <code>optional .Signature signature = 4;</code>
-     */
-    com.shuffle.player.proto.Proto.SignatureOrBuilder getSignatureOrBuilder();
-
-    /**
-     * <code>optional string str = 5;</code>
-     */
-    java.lang.String getStr();
-    /**
-     * <code>optional string str = 5;</code>
-     */
-    com.google.protobuf.ByteString
-        getStrBytes();
-
-    /**
-     * <code>optional .Blame blame = 6;</code>
+     * <code>optional .VerificationKey to = 1;</code>
      */
-    boolean hasBlame();
+    boolean hasTo();
     /**
-     * <code>optional .Blame blame = 6;</code>
+     * <code>optional .VerificationKey to = 1;</code>
      */
-    com.shuffle.player.proto.Proto.Blame getBlame();
+    com.shuffle.player.proto.Proto.VerificationKey getTo();
     /**
-     * <code>optional .Blame blame = 6;</code>
+     * <code>optional .VerificationKey to = 1;</code>
      */
-    com.shuffle.player.proto.Proto.BlameOrBuilder getBlameOrBuilder();
+    com.shuffle.player.proto.Proto.VerificationKeyOrBuilder getToOrBuilder();
 
     /**
-     * <code>optional .Message next = 7;</code>
-     */
-    boolean hasNext();
-    /**
-     * <code>optional .Message next = 7;</code>
-     */
-    com.shuffle.player.proto.Proto.Message getNext();
-    /**
-     * <code>optional .Message next = 7;</code>
+     * <code>optional uint32 number = 2;</code>
      */
-    com.shuffle.player.proto.Proto.MessageOrBuilder getNextOrBuilder();
+    int getNumber();
   }
   /**
-   * Protobuf type {@code Message}
+   * <pre>
+   * The recipient and sequence number of a broadcast packet, which are not signed.
+   * </pre>
+   *
+   * Protobuf type {@code Envelope}
    */
-  public  static final class Message extends
+  public  static final class Envelope extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:Message)
-      MessageOrBuilder {
-    // Use Message.newBuilder() to construct.
-    private Message(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:Envelope)
+      EnvelopeOrBuilder {
+    // Use Envelope.newBuilder() to construct.
+    private Envelope(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private Message() {
-      str_ = "";
+    private Envelope() {
+      number_ = 0;
     }
 
     @java.lang.Override
@@ -2194,7 +2452,7 @@ public final class Proto {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private Message(
+    private Envelope(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2215,87 +2473,21 @@ public final class Proto {
               break;
             }
             case 10: {
-              com.shuffle.player.proto.Proto.Address.Builder subBuilder = null;
-              if (address_ != null) {
-                subBuilder = address_.toBuilder();
+              com.shuffle.player.proto.Proto.VerificationKey.Builder subBuilder = null;
+              if (to_ != null) {
+                subBuilder = to_.toBuilder();
               }
-              address_ = input.readMessage(com.shuffle.player.proto.Proto.Address.parser(), extensionRegistry);
+              to_ = input.readMessage(com.shuffle.player.proto.Proto.VerificationKey.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(address_);
-                address_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(to_);
+                to_ = subBuilder.buildPartial();
               }
 
               break;
             }
-            case 18: {
-              com.shuffle.player.proto.Proto.EncryptionKey.Builder subBuilder = null;
-              if (key_ != null) {
-                subBuilder = key_.toBuilder();
-              }
-              key_ = input.readMessage(com.shuffle.player.proto.Proto.EncryptionKey.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(key_);
-                key_ = subBuilder.buildPartial();
-              }
-
-              break;
-            }
-            case 26: {
-              com.shuffle.player.proto.Proto.Hash.Builder subBuilder = null;
-              if (hash_ != null) {
-                subBuilder = hash_.toBuilder();
-              }
-              hash_ = input.readMessage(com.shuffle.player.proto.Proto.Hash.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(hash_);
-                hash_ = subBuilder.buildPartial();
-              }
-
-              break;
-            }
-            case 34: {
-              com.shuffle.player.proto.Proto.Signature.Builder subBuilder = null;
-              if (signature_ != null) {
-                subBuilder = signature_.toBuilder();
-              }
-              signature_ = input.readMessage(com.shuffle.player.proto.Proto.Signature.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(signature_);
-                signature_ = subBuilder.buildPartial();
-              }
-
-              break;
-            }
-            case 42: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              str_ = s;
-              break;
-            }
-            case 50: {
-              com.shuffle.player.proto.Proto.Blame.Builder subBuilder = null;
-              if (blame_ != null) {
-                subBuilder = blame_.toBuilder();
-              }
-              blame_ = input.readMessage(com.shuffle.player.proto.Proto.Blame.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(blame_);
-                blame_ = subBuilder.buildPartial();
-              }
-
-              break;
-            }
-            case 58: {
-              com.shuffle.player.proto.Proto.Message.Builder subBuilder = null;
-              if (next_ != null) {
-                subBuilder = next_.toBuilder();
-              }
-              next_ = input.readMessage(com.shuffle.player.proto.Proto.Message.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(next_);
-                next_ = subBuilder.buildPartial();
-              }
+            case 16: {
 
+              number_ = input.readUInt32();
               break;
             }
           }
@@ -2311,174 +2503,44 @@ public final class Proto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shuffle.player.proto.Proto.internal_static_Message_descriptor;
+      return com.shuffle.player.proto.Proto.internal_static_Envelope_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shuffle.player.proto.Proto.internal_static_Message_fieldAccessorTable
+      return com.shuffle.player.proto.Proto.internal_static_Envelope_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shuffle.player.proto.Proto.Message.class, com.shuffle.player.proto.Proto.Message.Builder.class);
-    }
-
-    public static final int ADDRESS_FIELD_NUMBER = 1;
-    private com.shuffle.player.proto.Proto.Address address_;
-    /**
-     * <code>optional .Address address = 1;</code>
-     */
-    public boolean hasAddress() {
-      return address_ != null;
-    }
-    /**
-     * <code>optional .Address address = 1;</code>
-     */
-    public com.shuffle.player.proto.Proto.Address getAddress() {
-      return address_ == null ? com.shuffle.player.proto.Proto.Address.getDefaultInstance() : address_;
-    }
-    /**
-     * <code>optional .Address address = 1;</code>
-     */
-    public com.shuffle.player.proto.Proto.AddressOrBuilder getAddressOrBuilder() {
-      return getAddress();
-    }
-
-    public static final int KEY_FIELD_NUMBER = 2;
-    private com.shuffle.player.proto.Proto.EncryptionKey key_;
-    /**
-     * <code>optional .EncryptionKey key = 2;</code>
-     */
-    public boolean hasKey() {
-      return key_ != null;
-    }
-    /**
-     * <code>optional .EncryptionKey key = 2;</code>
-     */
-    public com.shuffle.player.proto.Proto.EncryptionKey getKey() {
-      return key_ == null ? com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance() : key_;
-    }
-    /**
-     * <code>optional .EncryptionKey key = 2;</code>
-     */
-    public com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder getKeyOrBuilder() {
-      return getKey();
-    }
-
-    public static final int HASH_FIELD_NUMBER = 3;
-    private com.shuffle.player.proto.Proto.Hash hash_;
-    /**
-     * <code>optional .Hash hash = 3;</code>
-     */
-    public boolean hasHash() {
-      return hash_ != null;
-    }
-    /**
-     * <code>optional .Hash hash = 3;</code>
-     */
-    public com.shuffle.player.proto.Proto.Hash getHash() {
-      return hash_ == null ? com.shuffle.player.proto.Proto.Hash.getDefaultInstance() : hash_;
-    }
-    /**
-     * <code>optional .Hash hash = 3;</code>
-     */
-    public com.shuffle.player.proto.Proto.HashOrBuilder getHashOrBuilder() {
-      return getHash();
-    }
-
-    public static final int SIGNATURE_FIELD_NUMBER = 4;
-    private com.shuffle.player.proto.Proto.Signature signature_;
-    /**
-     * <code>optional .Signature signature = 4;</code>
-     */
-    public boolean hasSignature() {
-      return signature_ != null;
-    }
-    /**
-     * <code>optional .Signature signature = 4;</code>
-     */
-    public com.shuffle.player.proto.Proto.Signature getSignature() {
-      return signature_ == null ? com.shuffle.player.proto.Proto.Signature.getDefaultInstance() : signature_;
-    }
-    /**
-     * <code>optional .Signature signature = 4;</code>
-     */
-    public com.shuffle.player.proto.Proto.SignatureOrBuilder getSignatureOrBuilder() {
-      return getSignature();
-    }
-
-    public static final int STR_FIELD_NUMBER = 5;
-    private volatile java.lang.Object str_;
-    /**
-     * <code>optional string str = 5;</code>
-     */
-    public java.lang.String getStr() {
-      java.lang.Object ref = str_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        str_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>optional string str = 5;</code>
-     */
-    public com.google.protobuf.ByteString
-        getStrBytes() {
-      java.lang.Object ref = str_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        str_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+              com.shuffle.player.proto.Proto.Envelope.class, com.shuffle.player.proto.Proto.Envelope.Builder.class);
     }
 
-    public static final int BLAME_FIELD_NUMBER = 6;
-    private com.shuffle.player.proto.Proto.Blame blame_;
+    public static final int TO_FIELD_NUMBER = 1;
+    private com.shuffle.player.proto.Proto.VerificationKey to_;
     /**
-     * <code>optional .Blame blame = 6;</code>
+     * <code>optional .VerificationKey to = 1;</code>
      */
-    public boolean hasBlame() {
-      return blame_ != null;
+    public boolean hasTo() {
+      return to_ != null;
     }
     /**
-     * <code>optional .Blame blame = 6;</code>
+     * <code>optional .VerificationKey to = 1;</code>
      */
-    public com.shuffle.player.proto.Proto.Blame getBlame() {
-      return blame_ == null ? com.shuffle.player.proto.Proto.Blame.getDefaultInstance() : blame_;
+    public com.shuffle.player.proto.Proto.VerificationKey getTo() {
+      return to_ == null ? com.shuffle.player.proto.Proto.VerificationKey.getDefaultInstance() : to_;
     }
     /**
-     * <code>optional .Blame blame = 6;</code>
+     * <code>optional .VerificationKey to = 1;</code>
      */
-    public com.shuffle.player.proto.Proto.BlameOrBuilder getBlameOrBuilder() {
-      return getBlame();
+    public com.shuffle.player.proto.Proto.VerificationKeyOrBuilder getToOrBuilder() {
+      return getTo();
     }
 
-    public static final int NEXT_FIELD_NUMBER = 7;
-    private com.shuffle.player.proto.Proto.Message next_;
-    /**
-     * <code>optional .Message next = 7;</code>
-     */
-    public boolean hasNext() {
-      return next_ != null;
-    }
-    /**
-     * <code>optional .Message next = 7;</code>
-     */
-    public com.shuffle.player.proto.Proto.Message getNext() {
-      return next_ == null ? com.shuffle.player.proto.Proto.Message.getDefaultInstance() : next_;
-    }
+    public static final int NUMBER_FIELD_NUMBER = 2;
+    private int number_;
     /**
-     * <code>optional .Message next = 7;</code>
+     * <code>optional uint32 number = 2;</code>
      */
-    public com.shuffle.player.proto.Proto.MessageOrBuilder getNextOrBuilder() {
-      return getNext();
+    public int getNumber() {
+      return number_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -2493,26 +2555,11 @@ public final class Proto {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (address_ != null) {
-        output.writeMessage(1, getAddress());
-      }
-      if (key_ != null) {
-        output.writeMessage(2, getKey());
-      }
-      if (hash_ != null) {
-        output.writeMessage(3, getHash());
-      }
-      if (signature_ != null) {
-        output.writeMessage(4, getSignature());
-      }
-      if (!getStrBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 5, str_);
-      }
-      if (blame_ != null) {
-        output.writeMessage(6, getBlame());
+      if (to_ != null) {
+        output.writeMessage(1, getTo());
       }
-      if (next_ != null) {
-        output.writeMessage(7, getNext());
+      if (number_ != 0) {
+        output.writeUInt32(2, number_);
       }
     }
 
@@ -2521,90 +2568,71 @@ public final class Proto {
       if (size != -1) return size;
 
       size = 0;
-      if (address_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, getAddress());
-      }
-      if (key_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, getKey());
-      }
-      if (hash_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, getHash());
-      }
-      if (signature_ != null) {
+      if (to_ != null) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(4, getSignature());
-      }
-      if (!getStrBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(5, str_);
+          .computeMessageSize(1, getTo());
       }
-      if (blame_ != null) {
+      if (number_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(6, getBlame());
-      }
-      if (next_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(7, getNext());
+          .computeUInt32Size(2, number_);
       }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static com.shuffle.player.proto.Proto.Message parseFrom(
+    public static com.shuffle.player.proto.Proto.Envelope parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.Message parseFrom(
+    public static com.shuffle.player.proto.Proto.Envelope parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Message parseFrom(byte[] data)
+    public static com.shuffle.player.proto.Proto.Envelope parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.Message parseFrom(
+    public static com.shuffle.player.proto.Proto.Envelope parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Message parseFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.Envelope parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Message parseFrom(
+    public static com.shuffle.player.proto.Proto.Envelope parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Message parseDelimitedFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.Envelope parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Message parseDelimitedFrom(
+    public static com.shuffle.player.proto.Proto.Envelope parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Message parseFrom(
+    public static com.shuffle.player.proto.Proto.Envelope parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Message parseFrom(
+    public static com.shuffle.player.proto.Proto.Envelope parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2616,7 +2644,7 @@ public final class Proto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shuffle.player.proto.Proto.Message prototype) {
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.Envelope prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -2631,25 +2659,29 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code Message}
+     * <pre>
+     * The recipient and sequence number of a broadcast packet, which are not signed.
+     * </pre>
+     *
+     * Protobuf type {@code Envelope}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Message)
-        com.shuffle.player.proto.Proto.MessageOrBuilder {
+        // @@protoc_insertion_point(builder_implements:Envelope)
+        com.shuffle.player.proto.Proto.EnvelopeOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shuffle.player.proto.Proto.internal_static_Message_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_Envelope_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shuffle.player.proto.Proto.internal_static_Message_fieldAccessorTable
+        return com.shuffle.player.proto.Proto.internal_static_Envelope_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shuffle.player.proto.Proto.Message.class, com.shuffle.player.proto.Proto.Message.Builder.class);
+                com.shuffle.player.proto.Proto.Envelope.class, com.shuffle.player.proto.Proto.Envelope.Builder.class);
       }
 
-      // Construct using com.shuffle.player.proto.Proto.Message.newBuilder()
+      // Construct using com.shuffle.player.proto.Proto.Envelope.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2665,133 +2697,62 @@ public final class Proto {
       }
       public Builder clear() {
         super.clear();
-        if (addressBuilder_ == null) {
-          address_ = null;
-        } else {
-          address_ = null;
-          addressBuilder_ = null;
-        }
-        if (keyBuilder_ == null) {
-          key_ = null;
-        } else {
-          key_ = null;
-          keyBuilder_ = null;
-        }
-        if (hashBuilder_ == null) {
-          hash_ = null;
-        } else {
-          hash_ = null;
-          hashBuilder_ = null;
-        }
-        if (signatureBuilder_ == null) {
-          signature_ = null;
+        if (toBuilder_ == null) {
+          to_ = null;
         } else {
-          signature_ = null;
-          signatureBuilder_ = null;
+          to_ = null;
+          toBuilder_ = null;
         }
-        str_ = "";
+        number_ = 0;
 
-        if (blameBuilder_ == null) {
-          blame_ = null;
-        } else {
-          blame_ = null;
-          blameBuilder_ = null;
-        }
-        if (nextBuilder_ == null) {
-          next_ = null;
-        } else {
-          next_ = null;
-          nextBuilder_ = null;
-        }
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shuffle.player.proto.Proto.internal_static_Message_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_Envelope_descriptor;
       }
 
-      public com.shuffle.player.proto.Proto.Message getDefaultInstanceForType() {
-        return com.shuffle.player.proto.Proto.Message.getDefaultInstance();
+      public com.shuffle.player.proto.Proto.Envelope getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.Envelope.getDefaultInstance();
       }
 
-      public com.shuffle.player.proto.Proto.Message build() {
-        com.shuffle.player.proto.Proto.Message result = buildPartial();
+      public com.shuffle.player.proto.Proto.Envelope build() {
+        com.shuffle.player.proto.Proto.Envelope result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.shuffle.player.proto.Proto.Message buildPartial() {
-        com.shuffle.player.proto.Proto.Message result = new com.shuffle.player.proto.Proto.Message(this);
-        if (addressBuilder_ == null) {
-          result.address_ = address_;
-        } else {
-          result.address_ = addressBuilder_.build();
-        }
-        if (keyBuilder_ == null) {
-          result.key_ = key_;
-        } else {
-          result.key_ = keyBuilder_.build();
-        }
-        if (hashBuilder_ == null) {
-          result.hash_ = hash_;
-        } else {
-          result.hash_ = hashBuilder_.build();
-        }
-        if (signatureBuilder_ == null) {
-          result.signature_ = signature_;
-        } else {
-          result.signature_ = signatureBuilder_.build();
-        }
-        result.str_ = str_;
-        if (blameBuilder_ == null) {
-          result.blame_ = blame_;
-        } else {
-          result.blame_ = blameBuilder_.build();
-        }
-        if (nextBuilder_ == null) {
-          result.next_ = next_;
+      public com.shuffle.player.proto.Proto.Envelope buildPartial() {
+        com.shuffle.player.proto.Proto.Envelope result = new com.shuffle.player.proto.Proto.Envelope(this);
+        if (toBuilder_ == null) {
+          result.to_ = to_;
         } else {
-          result.next_ = nextBuilder_.build();
+          result.to_ = toBuilder_.build();
         }
+        result.number_ = number_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shuffle.player.proto.Proto.Message) {
-          return mergeFrom((com.shuffle.player.proto.Proto.Message)other);
+        if (other instanceof com.shuffle.player.proto.Proto.Envelope) {
+          return mergeFrom((com.shuffle.player.proto.Proto.Envelope)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shuffle.player.proto.Proto.Message other) {
-        if (other == com.shuffle.player.proto.Proto.Message.getDefaultInstance()) return this;
-        if (other.hasAddress()) {
-          mergeAddress(other.getAddress());
-        }
-        if (other.hasKey()) {
-          mergeKey(other.getKey());
-        }
-        if (other.hasHash()) {
-          mergeHash(other.getHash());
-        }
-        if (other.hasSignature()) {
-          mergeSignature(other.getSignature());
-        }
-        if (!other.getStr().isEmpty()) {
-          str_ = other.str_;
-          onChanged();
-        }
-        if (other.hasBlame()) {
-          mergeBlame(other.getBlame());
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.Envelope other) {
+        if (other == com.shuffle.player.proto.Proto.Envelope.getDefaultInstance()) return this;
+        if (other.hasTo()) {
+          mergeTo(other.getTo());
         }
-        if (other.hasNext()) {
-          mergeNext(other.getNext());
+        if (other.getNumber() != 0) {
+          setNumber(other.getNumber());
         }
         onChanged();
         return this;
@@ -2805,11 +2766,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.shuffle.player.proto.Proto.Message parsedMessage = null;
+        com.shuffle.player.proto.Proto.Envelope parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.shuffle.player.proto.Proto.Message) e.getUnfinishedMessage();
+          parsedMessage = (com.shuffle.player.proto.Proto.Envelope) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -2819,775 +2780,2334 @@ public final class Proto {
         return this;
       }
 
-      private com.shuffle.player.proto.Proto.Address address_ = null;
+      private com.shuffle.player.proto.Proto.VerificationKey to_ = null;
       private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Address, com.shuffle.player.proto.Proto.Address.Builder, com.shuffle.player.proto.Proto.AddressOrBuilder> addressBuilder_;
+          com.shuffle.player.proto.Proto.VerificationKey, com.shuffle.player.proto.Proto.VerificationKey.Builder, com.shuffle.player.proto.Proto.VerificationKeyOrBuilder> toBuilder_;
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional .VerificationKey to = 1;</code>
        */
-      public boolean hasAddress() {
-        return addressBuilder_ != null || address_ != null;
+      public boolean hasTo() {
+        return toBuilder_ != null || to_ != null;
       }
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional .VerificationKey to = 1;</code>
        */
-      public com.shuffle.player.proto.Proto.Address getAddress() {
-        if (addressBuilder_ == null) {
-          return address_ == null ? com.shuffle.player.proto.Proto.Address.getDefaultInstance() : address_;
+      public com.shuffle.player.proto.Proto.VerificationKey getTo() {
+        if (toBuilder_ == null) {
+          return to_ == null ? com.shuffle.player.proto.Proto.VerificationKey.getDefaultInstance() : to_;
         } else {
-          return addressBuilder_.getMessage();
+          return toBuilder_.getMessage();
         }
       }
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional .VerificationKey to = 1;</code>
        */
-      public Builder setAddress(com.shuffle.player.proto.Proto.Address value) {
-        if (addressBuilder_ == null) {
+      public Builder setTo(com.shuffle.player.proto.Proto.VerificationKey value) {
+        if (toBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          address_ = value;
+          to_ = value;
           onChanged();
         } else {
-          addressBuilder_.setMessage(value);
+          toBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional .VerificationKey to = 1;</code>
        */
-      public Builder setAddress(
-          com.shuffle.player.proto.Proto.Address.Builder builderForValue) {
-        if (addressBuilder_ == null) {
-          address_ = builderForValue.build();
+      public Builder setTo(
+          com.shuffle.player.proto.Proto.VerificationKey.Builder builderForValue) {
+        if (toBuilder_ == null) {
+          to_ = builderForValue.build();
           onChanged();
         } else {
-          addressBuilder_.setMessage(builderForValue.build());
+          toBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional .VerificationKey to = 1;</code>
        */
-      public Builder mergeAddress(com.shuffle.player.proto.Proto.Address value) {
-        if (addressBuilder_ == null) {
-          if (address_ != null) {
-            address_ =
-              com.shuffle.player.proto.Proto.Address.newBuilder(address_).mergeFrom(value).buildPartial();
+      public Builder mergeTo(com.shuffle.player.proto.Proto.VerificationKey value) {
+        if (toBuilder_ == null) {
+          if (to_ != null) {
+            to_ =
+              com.shuffle.player.proto.Proto.VerificationKey.newBuilder(to_).mergeFrom(value).buildPartial();
           } else {
-            address_ = value;
+            to_ = value;
           }
           onChanged();
         } else {
-          addressBuilder_.mergeFrom(value);
+          toBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional .VerificationKey to = 1;</code>
        */
-      public Builder clearAddress() {
-        if (addressBuilder_ == null) {
-          address_ = null;
+      public Builder clearTo() {
+        if (toBuilder_ == null) {
+          to_ = null;
           onChanged();
         } else {
-          address_ = null;
-          addressBuilder_ = null;
+          to_ = null;
+          toBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional .VerificationKey to = 1;</code>
        */
-      public com.shuffle.player.proto.Proto.Address.Builder getAddressBuilder() {
+      public com.shuffle.player.proto.Proto.VerificationKey.Builder getToBuilder() {
         
         onChanged();
-        return getAddressFieldBuilder().getBuilder();
+        return getToFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional .VerificationKey to = 1;</code>
        */
-      public com.shuffle.player.proto.Proto.AddressOrBuilder getAddressOrBuilder() {
-        if (addressBuilder_ != null) {
-          return addressBuilder_.getMessageOrBuilder();
+      public com.shuffle.player.proto.Proto.VerificationKeyOrBuilder getToOrBuilder() {
+        if (toBuilder_ != null) {
+          return toBuilder_.getMessageOrBuilder();
         } else {
-          return address_ == null ?
-              com.shuffle.player.proto.Proto.Address.getDefaultInstance() : address_;
+          return to_ == null ?
+              com.shuffle.player.proto.Proto.VerificationKey.getDefaultInstance() : to_;
         }
       }
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional .VerificationKey to = 1;</code>
        */
       private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Address, com.shuffle.player.proto.Proto.Address.Builder, com.shuffle.player.proto.Proto.AddressOrBuilder> 
-          getAddressFieldBuilder() {
-        if (addressBuilder_ == null) {
-          addressBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.shuffle.player.proto.Proto.Address, com.shuffle.player.proto.Proto.Address.Builder, com.shuffle.player.proto.Proto.AddressOrBuilder>(
-                  getAddress(),
+          com.shuffle.player.proto.Proto.VerificationKey, com.shuffle.player.proto.Proto.VerificationKey.Builder, com.shuffle.player.proto.Proto.VerificationKeyOrBuilder> 
+          getToFieldBuilder() {
+        if (toBuilder_ == null) {
+          toBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.VerificationKey, com.shuffle.player.proto.Proto.VerificationKey.Builder, com.shuffle.player.proto.Proto.VerificationKeyOrBuilder>(
+                  getTo(),
                   getParentForChildren(),
                   isClean());
-          address_ = null;
+          to_ = null;
         }
-        return addressBuilder_;
+        return toBuilder_;
       }
 
-      private com.shuffle.player.proto.Proto.EncryptionKey key_ = null;
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.EncryptionKey, com.shuffle.player.proto.Proto.EncryptionKey.Builder, com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder> keyBuilder_;
+      private int number_ ;
       /**
-       * <code>optional .EncryptionKey key = 2;</code>
+       * <code>optional uint32 number = 2;</code>
        */
-      public boolean hasKey() {
-        return keyBuilder_ != null || key_ != null;
+      public int getNumber() {
+        return number_;
       }
       /**
-       * <code>optional .EncryptionKey key = 2;</code>
+       * <code>optional uint32 number = 2;</code>
        */
-      public com.shuffle.player.proto.Proto.EncryptionKey getKey() {
-        if (keyBuilder_ == null) {
-          return key_ == null ? com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance() : key_;
-        } else {
-          return keyBuilder_.getMessage();
-        }
+      public Builder setNumber(int value) {
+        
+        number_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>optional .EncryptionKey key = 2;</code>
+       * <code>optional uint32 number = 2;</code>
        */
-      public Builder setKey(com.shuffle.player.proto.Proto.EncryptionKey value) {
-        if (keyBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          key_ = value;
-          onChanged();
-        } else {
-          keyBuilder_.setMessage(value);
-        }
-
+      public Builder clearNumber() {
+        
+        number_ = 0;
+        onChanged();
         return this;
       }
-      /**
-       * <code>optional .EncryptionKey key = 2;</code>
-       */
-      public Builder setKey(
-          com.shuffle.player.proto.Proto.EncryptionKey.Builder builderForValue) {
-        if (keyBuilder_ == null) {
-          key_ = builderForValue.build();
-          onChanged();
-        } else {
-          keyBuilder_.setMessage(builderForValue.build());
-        }
-
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
         return this;
       }
-      /**
-       * <code>optional .EncryptionKey key = 2;</code>
-       */
-      public Builder mergeKey(com.shuffle.player.proto.Proto.EncryptionKey value) {
-        if (keyBuilder_ == null) {
-          if (key_ != null) {
-            key_ =
-              com.shuffle.player.proto.Proto.EncryptionKey.newBuilder(key_).mergeFrom(value).buildPartial();
-          } else {
-            key_ = value;
-          }
-          onChanged();
-        } else {
-          keyBuilder_.mergeFrom(value);
-        }
 
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
         return this;
       }
-      /**
-       * <code>optional .EncryptionKey key = 2;</code>
-       */
-      public Builder clearKey() {
-        if (keyBuilder_ == null) {
-          key_ = null;
-          onChanged();
-        } else {
-          key_ = null;
-          keyBuilder_ = null;
-        }
 
-        return this;
-      }
-      /**
-       * <code>optional .EncryptionKey key = 2;</code>
-       */
-      public com.shuffle.player.proto.Proto.EncryptionKey.Builder getKeyBuilder() {
-        
-        onChanged();
-        return getKeyFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .EncryptionKey key = 2;</code>
-       */
-      public com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder getKeyOrBuilder() {
-        if (keyBuilder_ != null) {
-          return keyBuilder_.getMessageOrBuilder();
-        } else {
-          return key_ == null ?
-              com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance() : key_;
-        }
-      }
-      /**
-       * <code>optional .EncryptionKey key = 2;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.EncryptionKey, com.shuffle.player.proto.Proto.EncryptionKey.Builder, com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder> 
-          getKeyFieldBuilder() {
-        if (keyBuilder_ == null) {
-          keyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.shuffle.player.proto.Proto.EncryptionKey, com.shuffle.player.proto.Proto.EncryptionKey.Builder, com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder>(
-                  getKey(),
-                  getParentForChildren(),
-                  isClean());
-          key_ = null;
-        }
-        return keyBuilder_;
-      }
 
-      private com.shuffle.player.proto.Proto.Hash hash_ = null;
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Hash, com.shuffle.player.proto.Proto.Hash.Builder, com.shuffle.player.proto.Proto.HashOrBuilder> hashBuilder_;
-      /**
-       * <code>optional .Hash hash = 3;</code>
-       */
-      public boolean hasHash() {
-        return hashBuilder_ != null || hash_ != null;
-      }
-      /**
-       * <code>optional .Hash hash = 3;</code>
-       */
-      public com.shuffle.player.proto.Proto.Hash getHash() {
-        if (hashBuilder_ == null) {
-          return hash_ == null ? com.shuffle.player.proto.Proto.Hash.getDefaultInstance() : hash_;
-        } else {
-          return hashBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>optional .Hash hash = 3;</code>
-       */
-      public Builder setHash(com.shuffle.player.proto.Proto.Hash value) {
-        if (hashBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          hash_ = value;
-          onChanged();
-        } else {
-          hashBuilder_.setMessage(value);
-        }
+      // @@protoc_insertion_point(builder_scope:Envelope)
+    }
 
-        return this;
-      }
-      /**
-       * <code>optional .Hash hash = 3;</code>
-       */
-      public Builder setHash(
-          com.shuffle.player.proto.Proto.Hash.Builder builderForValue) {
-        if (hashBuilder_ == null) {
-          hash_ = builderForValue.build();
-          onChanged();
-        } else {
-          hashBuilder_.setMessage(builderForValue.build());
-        }
+    // @@protoc_insertion_point(class_scope:Envelope)
+    private static final com.shuffle.player.proto.Proto.Envelope DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Envelope();
+    }
 
-        return this;
-      }
-      /**
-       * <code>optional .Hash hash = 3;</code>
-       */
-      public Builder mergeHash(com.shuffle.player.proto.Proto.Hash value) {
-        if (hashBuilder_ == null) {
-          if (hash_ != null) {
-            hash_ =
-              com.shuffle.player.proto.Proto.Hash.newBuilder(hash_).mergeFrom(value).buildPartial();
-          } else {
-            hash_ = value;
-          }
-          onChanged();
-        } else {
-          hashBuilder_.mergeFrom(value);
-        }
+    public static com.shuffle.player.proto.Proto.Envelope getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
 
-        return this;
+    private static final com.google.protobuf.Parser<Envelope>
+        PARSER = new com.google.protobuf.AbstractParser<Envelope>() {
+      public Envelope parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Envelope(input, extensionRegistry);
       }
-      /**
-       * <code>optional .Hash hash = 3;</code>
-       */
-      public Builder clearHash() {
-        if (hashBuilder_ == null) {
-          hash_ = null;
-          onChanged();
-        } else {
-          hash_ = null;
-          hashBuilder_ = null;
-        }
+    };
 
-        return this;
-      }
-      /**
-       * <code>optional .Hash hash = 3;</code>
-       */
-      public com.shuffle.player.proto.Proto.Hash.Builder getHashBuilder() {
-        
-        onChanged();
-        return getHashFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .Hash hash = 3;</code>
-       */
-      public com.shuffle.player.proto.Proto.HashOrBuilder getHashOrBuilder() {
-        if (hashBuilder_ != null) {
-          return hashBuilder_.getMessageOrBuilder();
-        } else {
-          return hash_ == null ?
-              com.shuffle.player.proto.Proto.Hash.getDefaultInstance() : hash_;
-        }
-      }
-      /**
-       * <code>optional .Hash hash = 3;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Hash, com.shuffle.player.proto.Proto.Hash.Builder, com.shuffle.player.proto.Proto.HashOrBuilder> 
-          getHashFieldBuilder() {
-        if (hashBuilder_ == null) {
-          hashBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.shuffle.player.proto.Proto.Hash, com.shuffle.player.proto.Proto.Hash.Builder, com.shuffle.player.proto.Proto.HashOrBuilder>(
-                  getHash(),
-                  getParentForChildren(),
-                  isClean());
-          hash_ = null;
-        }
-        return hashBuilder_;
-      }
+    public static com.google.protobuf.Parser<Envelope> parser() {
+      return PARSER;
+    }
 
-      private com.shuffle.player.proto.Proto.Signature signature_ = null;
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Signature, com.shuffle.player.proto.Proto.Signature.Builder, com.shuffle.player.proto.Proto.SignatureOrBuilder> signatureBuilder_;
-      /**
-       * <code>optional .Signature signature = 4;</code>
-       */
-      public boolean hasSignature() {
-        return signatureBuilder_ != null || signature_ != null;
-      }
-      /**
-       * <code>optional .Signature signature = 4;</code>
-       */
-      public com.shuffle.player.proto.Proto.Signature getSignature() {
-        if (signatureBuilder_ == null) {
-          return signature_ == null ? com.shuffle.player.proto.Proto.Signature.getDefaultInstance() : signature_;
-        } else {
-          return signatureBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>optional .Signature signature = 4;</code>
-       */
-      public Builder setSignature(com.shuffle.player.proto.Proto.Signature value) {
-        if (signatureBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          signature_ = value;
-          onChanged();
-        } else {
-          signatureBuilder_.setMessage(value);
-        }
+    @java.lang.Override
+    public com.google.protobuf.Parser<Envelope> getParserForType() {
+      return PARSER;
+    }
 
-        return this;
-      }
-      /**
-       * <code>optional .Signature signature = 4;</code>
-       */
-      public Builder setSignature(
-          com.shuffle.player.proto.Proto.Signature.Builder builderForValue) {
-        if (signatureBuilder_ == null) {
-          signature_ = builderForValue.build();
-          onChanged();
+    public com.shuffle.player.proto.Proto.Envelope getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface MessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Message)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .Address address = 1;</code>
+     */
+    boolean hasAddress();
+    /**
+     * <code>optional .Address address = 1;</code>
+     */
+    com.shuffle.player.proto.Proto.Address getAddress();
+    /**
+     * <code>optional .Address address = 1;</code>
+     */
+    com.shuffle.player.proto.Proto.AddressOrBuilder getAddressOrBuilder();
+
+    /**
+     * <code>optional .EncryptionKey key = 2;</code>
+     */
+    boolean hasKey();
+    /**
+     * <code>optional .EncryptionKey key = 2;</code>
+     */
+    com.shuffle.player.proto.Proto.EncryptionKey getKey();
+    /**
+     * <code>optional .EncryptionKey key = 2;</code>
+     */
+    com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder getKeyOrBuilder();
+
+    /**
+     * <code>optional .Hash hash = 3;</code>
+     */
+    boolean hasHash();
+    /**
+     * <code>optional .Hash hash = 3;</code>
+     */
+    com.shuffle.player.proto.Proto.Hash getHash();
+    /**
+     * <code>optional .Hash hash = 3;</code>
+     */
+    com.shuffle.player.proto.Proto.HashOrBuilder getHashOrBuilder();
+
+    /**
+     * <code>optional .Signature signature = 4;</code>
+     */
+    boolean hasSignature();
+    /**
+     * <code>optional .Signature signature = 4;</code>
+     */
+    com.shuffle.player.proto.Proto.Signature getSignature();
+    /**
+     * <code>optional .Signature signature = 4;</code>
+     */
+    com.shuffle.player.proto.Proto.SignatureOrBuilder getSignatureOrBuilder();
+
+    /**
+     * <code>optional string str = 5;</code>
+     */
+    java.lang.String getStr();
+    /**
+     * <code>optional string str = 5;</code>
+     */
+    com.google.protobuf.ByteString
+        getStrBytes();
+
+    /**
+     * <code>optional .Blame blame = 6;</code>
+     */
+    boolean hasBlame();
+    /**
+     * <code>optional .Blame blame = 6;</code>
+     */
+    com.shuffle.player.proto.Proto.Blame getBlame();
+    /**
+     * <code>optional .Blame blame = 6;</code>
+     */
+    com.shuffle.player.proto.Proto.BlameOrBuilder getBlameOrBuilder();
+
+    /**
+     * <code>optional .Message next = 7;</code>
+     */
+    boolean hasNext();
+    /**
+     * <code>optional .Message next = 7;</code>
+     */
+    com.shuffle.player.proto.Proto.Message getNext();
+    /**
+     * <code>optional .Message next = 7;</code>
+     */
+    com.shuffle.player.proto.Proto.MessageOrBuilder getNextOrBuilder();
+
+    /**
+     * <code>optional .Ciphertext ciphertext = 8;</code>
+     */
+    boolean hasCiphertext();
+    /**
+     * <code>optional .Ciphertext ciphertext = 8;</code>
+     */
+    com.shuffle.player.proto.Proto.Ciphertext getCiphertext();
+    /**
+     * <code>optional .Ciphertext ciphertext = 8;</code>
+     */
+    com.shuffle.player.proto.Proto.CiphertextOrBuilder getCiphertextOrBuilder();
+  }
+  /**
+   * Protobuf type {@code Message}
+   */
+  public  static final class Message extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:Message)
+      MessageOrBuilder {
+    // Use Message.newBuilder() to construct.
+    private Message(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Message() {
+      str_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private Message(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.shuffle.player.proto.Proto.Address.Builder subBuilder = null;
+              if (address_ != null) {
+                subBuilder = address_.toBuilder();
+              }
+              address_ = input.readMessage(com.shuffle.player.proto.Proto.Address.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(address_);
+                address_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+              com.shuffle.player.proto.Proto.EncryptionKey.Builder subBuilder = null;
+              if (key_ != null) {
+                subBuilder = key_.toBuilder();
+              }
+              key_ = input.readMessage(com.shuffle.player.proto.Proto.EncryptionKey.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(key_);
+                key_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 26: {
+              com.shuffle.player.proto.Proto.Hash.Builder subBuilder = null;
+              if (hash_ != null) {
+                subBuilder = hash_.toBuilder();
+              }
+              hash_ = input.readMessage(com.shuffle.player.proto.Proto.Hash.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(hash_);
+                hash_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 34: {
+              com.shuffle.player.proto.Proto.Signature.Builder subBuilder = null;
+              if (signature_ != null) {
+                subBuilder = signature_.toBuilder();
+              }
+              signature_ = input.readMessage(com.shuffle.player.proto.Proto.Signature.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(signature_);
+                signature_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 42: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              str_ = s;
+              break;
+            }
+            case 50: {
+              com.shuffle.player.proto.Proto.Blame.Builder subBuilder = null;
+              if (blame_ != null) {
+                subBuilder = blame_.toBuilder();
+              }
+              blame_ = input.readMessage(com.shuffle.player.proto.Proto.Blame.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(blame_);
+                blame_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 58: {
+              com.shuffle.player.proto.Proto.Message.Builder subBuilder = null;
+              if (next_ != null) {
+                subBuilder = next_.toBuilder();
+              }
+              next_ = input.readMessage(com.shuffle.player.proto.Proto.Message.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(next_);
+                next_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 66: {
+              com.shuffle.player.proto.Proto.Ciphertext.Builder subBuilder = null;
+              if (ciphertext_ != null) {
+                subBuilder = ciphertext_.toBuilder();
+              }
+              ciphertext_ = input.readMessage(com.shuffle.player.proto.Proto.Ciphertext.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(ciphertext_);
+                ciphertext_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shuffle.player.proto.Proto.internal_static_Message_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shuffle.player.proto.Proto.internal_static_Message_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shuffle.player.proto.Proto.Message.class, com.shuffle.player.proto.Proto.Message.Builder.class);
+    }
+
+    public static final int ADDRESS_FIELD_NUMBER = 1;
+    private com.shuffle.player.proto.Proto.Address address_;
+    /**
+     * <code>optional .Address address = 1;</code>
+     */
+    public boolean hasAddress() {
+      return address_ != null;
+    }
+    /**
+     * <code>optional .Address address = 1;</code>
+     */
+    public com.shuffle.player.proto.Proto.Address getAddress() {
+      return address_ == null ? com.shuffle.player.proto.Proto.Address.getDefaultInstance() : address_;
+    }
+    /**
+     * <code>optional .Address address = 1;</code>
+     */
+    public com.shuffle.player.proto.Proto.AddressOrBuilder getAddressOrBuilder() {
+      return getAddress();
+    }
+
+    public static final int KEY_FIELD_NUMBER = 2;
+    private com.shuffle.player.proto.Proto.EncryptionKey key_;
+    /**
+     * <code>optional .EncryptionKey key = 2;</code>
+     */
+    public boolean hasKey() {
+      return key_ != null;
+    }
+    /**
+     * <code>optional .EncryptionKey key = 2;</code>
+     */
+    public com.shuffle.player.proto.Proto.EncryptionKey getKey() {
+      return key_ == null ? com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance() : key_;
+    }
+    /**
+     * <code>optional .EncryptionKey key = 2;</code>
+     */
+    public com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder getKeyOrBuilder() {
+      return getKey();
+    }
+
+    public static final int HASH_FIELD_NUMBER = 3;
+    private com.shuffle.player.proto.Proto.Hash hash_;
+    /**
+     * <code>optional .Hash hash = 3;</code>
+     */
+    public boolean hasHash() {
+      return hash_ != null;
+    }
+    /**
+     * <code>optional .Hash hash = 3;</code>
+     */
+    public com.shuffle.player.proto.Proto.Hash getHash() {
+      return hash_ == null ? com.shuffle.player.proto.Proto.Hash.getDefaultInstance() : hash_;
+    }
+    /**
+     * <code>optional .Hash hash = 3;</code>
+     */
+    public com.shuffle.player.proto.Proto.HashOrBuilder getHashOrBuilder() {
+      return getHash();
+    }
+
+    public static final int SIGNATURE_FIELD_NUMBER = 4;
+    private com.shuffle.player.proto.Proto.Signature signature_;
+    /**
+     * <code>optional .Signature signature = 4;</code>
+     */
+    public boolean hasSignature() {
+      return signature_ != null;
+    }
+    /**
+     * <code>optional .Signature signature = 4;</code>
+     */
+    public com.shuffle.player.proto.Proto.Signature getSignature() {
+      return signature_ == null ? com.shuffle.player.proto.Proto.Signature.getDefaultInstance() : signature_;
+    }
+    /**
+     * <code>optional .Signature signature = 4;</code>
+     */
+    public com.shuffle.player.proto.Proto.SignatureOrBuilder getSignatureOrBuilder() {
+      return getSignature();
+    }
+
+    public static final int STR_FIELD_NUMBER = 5;
+    private volatile java.lang.Object str_;
+    /**
+     * <code>optional string str = 5;</code>
+     */
+    public java.lang.String getStr() {
+      java.lang.Object ref = str_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        str_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string str = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStrBytes() {
+      java.lang.Object ref = str_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        str_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int BLAME_FIELD_NUMBER = 6;
+    private com.shuffle.player.proto.Proto.Blame blame_;
+    /**
+     * <code>optional .Blame blame = 6;</code>
+     */
+    public boolean hasBlame() {
+      return blame_ != null;
+    }
+    /**
+     * <code>optional .Blame blame = 6;</code>
+     */
+    public com.shuffle.player.proto.Proto.Blame getBlame() {
+      return blame_ == null ? com.shuffle.player.proto.Proto.Blame.getDefaultInstance() : blame_;
+    }
+    /**
+     * <code>optional .Blame blame = 6;</code>
+     */
+    public com.shuffle.player.proto.Proto.BlameOrBuilder getBlameOrBuilder() {
+      return getBlame();
+    }
+
+    public static final int NEXT_FIELD_NUMBER = 7;
+    private com.shuffle.player.proto.Proto.Message next_;
+    /**
+     * <code>optional .Message next = 7;</code>
+     */
+    public boolean hasNext() {
+      return next_ != null;
+    }
+    /**
+     * <code>optional .Message next = 7;</code>
+     */
+    public com.shuffle.player.proto.Proto.Message getNext() {
+      return next_ == null ? com.shuffle.player.proto.Proto.Message.getDefaultInstance() : next_;
+    }
+    /**
+     * <code>optional .Message next = 7;</code>
+     */
+    public com.shuffle.player.proto.Proto.MessageOrBuilder getNextOrBuilder() {
+      return getNext();
+    }
+
+    public static final int CIPHERTEXT_FIELD_NUMBER = 8;
+    private com.shuffle.player.proto.Proto.Ciphertext ciphertext_;
+    /**
+     * <code>optional .Ciphertext ciphertext = 8;</code>
+     */
+    public boolean hasCiphertext() {
+      return ciphertext_ != null;
+    }
+    /**
+     * <code>optional .Ciphertext ciphertext = 8;</code>
+     */
+    public com.shuffle.player.proto.Proto.Ciphertext getCiphertext() {
+      return ciphertext_ == null ? com.shuffle.player.proto.Proto.Ciphertext.getDefaultInstance() : ciphertext_;
+    }
+    /**
+     * <code>optional .Ciphertext ciphertext = 8;</code>
+     */
+    public com.shuffle.player.proto.Proto.CiphertextOrBuilder getCiphertextOrBuilder() {
+      return getCiphertext();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (address_ != null) {
+        output.writeMessage(1, getAddress());
+      }
+      if (key_ != null) {
+        output.writeMessage(2, getKey());
+      }
+      if (hash_ != null) {
+        output.writeMessage(3, getHash());
+      }
+      if (signature_ != null) {
+        output.writeMessage(4, getSignature());
+      }
+      if (!getStrBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 5, str_);
+      }
+      if (blame_ != null) {
+        output.writeMessage(6, getBlame());
+      }
+      if (next_ != null) {
+        output.writeMessage(7, getNext());
+      }
+      if (ciphertext_ != null) {
+        output.writeMessage(8, getCiphertext());
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (address_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getAddress());
+      }
+      if (key_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getKey());
+      }
+      if (hash_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getHash());
+      }
+      if (signature_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getSignature());
+      }
+      if (!getStrBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(5, str_);
+      }
+      if (blame_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, getBlame());
+      }
+      if (next_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, getNext());
+      }
+      if (ciphertext_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, getCiphertext());
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static com.shuffle.player.proto.Proto.Message parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.Message prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Message}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Message)
+        com.shuffle.player.proto.Proto.MessageOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shuffle.player.proto.Proto.internal_static_Message_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shuffle.player.proto.Proto.internal_static_Message_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shuffle.player.proto.Proto.Message.class, com.shuffle.player.proto.Proto.Message.Builder.class);
+      }
+
+      // Construct using com.shuffle.player.proto.Proto.Message.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (addressBuilder_ == null) {
+          address_ = null;
+        } else {
+          address_ = null;
+          addressBuilder_ = null;
+        }
+        if (keyBuilder_ == null) {
+          key_ = null;
+        } else {
+          key_ = null;
+          keyBuilder_ = null;
+        }
+        if (hashBuilder_ == null) {
+          hash_ = null;
+        } else {
+          hash_ = null;
+          hashBuilder_ = null;
+        }
+        if (signatureBuilder_ == null) {
+          signature_ = null;
+        } else {
+          signature_ = null;
+          signatureBuilder_ = null;
+        }
+        str_ = "";
+
+        if (blameBuilder_ == null) {
+          blame_ = null;
+        } else {
+          blame_ = null;
+          blameBuilder_ = null;
+        }
+        if (nextBuilder_ == null) {
+          next_ = null;
+        } else {
+          next_ = null;
+          nextBuilder_ = null;
+        }
+        if (ciphertextBuilder_ == null) {
+          ciphertext_ = null;
+        } else {
+          ciphertext_ = null;
+          ciphertextBuilder_ = null;
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shuffle.player.proto.Proto.internal_static_Message_descriptor;
+      }
+
+      public com.shuffle.player.proto.Proto.Message getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.Message.getDefaultInstance();
+      }
+
+      public com.shuffle.player.proto.Proto.Message build() {
+        com.shuffle.player.proto.Proto.Message result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.shuffle.player.proto.Proto.Message buildPartial() {
+        com.shuffle.player.proto.Proto.Message result = new com.shuffle.player.proto.Proto.Message(this);
+        if (addressBuilder_ == null) {
+          result.address_ = address_;
+        } else {
+          result.address_ = addressBuilder_.build();
+        }
+        if (keyBuilder_ == null) {
+          result.key_ = key_;
+        } else {
+          result.key_ = keyBuilder_.build();
+        }
+        if (hashBuilder_ == null) {
+          result.hash_ = hash_;
+        } else {
+          result.hash_ = hashBuilder_.build();
+        }
+        if (signatureBuilder_ == null) {
+          result.signature_ = signature_;
+        } else {
+          result.signature_ = signatureBuilder_.build();
+        }
+        result.str_ = str_;
+        if (blameBuilder_ == null) {
+          result.blame_ = blame_;
+        } else {
+          result.blame_ = blameBuilder_.build();
+        }
+        if (nextBuilder_ == null) {
+          result.next_ = next_;
+        } else {
+          result.next_ = nextBuilder_.build();
+        }
+        if (ciphertextBuilder_ == null) {
+          result.ciphertext_ = ciphertext_;
+        } else {
+          result.ciphertext_ = ciphertextBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shuffle.player.proto.Proto.Message) {
+          return mergeFrom((com.shuffle.player.proto.Proto.Message)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.Message other) {
+        if (other == com.shuffle.player.proto.Proto.Message.getDefaultInstance()) return this;
+        if (other.hasAddress()) {
+          mergeAddress(other.getAddress());
+        }
+        if (other.hasKey()) {
+          mergeKey(other.getKey());
+        }
+        if (other.hasHash()) {
+          mergeHash(other.getHash());
+        }
+        if (other.hasSignature()) {
+          mergeSignature(other.getSignature());
+        }
+        if (!other.getStr().isEmpty()) {
+          str_ = other.str_;
+          onChanged();
+        }
+        if (other.hasBlame()) {
+          mergeBlame(other.getBlame());
+        }
+        if (other.hasNext()) {
+          mergeNext(other.getNext());
+        }
+        if (other.hasCiphertext()) {
+          mergeCiphertext(other.getCiphertext());
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.shuffle.player.proto.Proto.Message parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.shuffle.player.proto.Proto.Message) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.shuffle.player.proto.Proto.Address address_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Address, com.shuffle.player.proto.Proto.Address.Builder, com.shuffle.player.proto.Proto.AddressOrBuilder> addressBuilder_;
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      public boolean hasAddress() {
+        return addressBuilder_ != null || address_ != null;
+      }
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      public com.shuffle.player.proto.Proto.Address getAddress() {
+        if (addressBuilder_ == null) {
+          return address_ == null ? com.shuffle.player.proto.Proto.Address.getDefaultInstance() : address_;
+        } else {
+          return addressBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      public Builder setAddress(com.shuffle.player.proto.Proto.Address value) {
+        if (addressBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          address_ = value;
+          onChanged();
+        } else {
+          addressBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      public Builder setAddress(
+          com.shuffle.player.proto.Proto.Address.Builder builderForValue) {
+        if (addressBuilder_ == null) {
+          address_ = builderForValue.build();
+          onChanged();
+        } else {
+          addressBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      public Builder mergeAddress(com.shuffle.player.proto.Proto.Address value) {
+        if (addressBuilder_ == null) {
+          if (address_ != null) {
+            address_ =
+              com.shuffle.player.proto.Proto.Address.newBuilder(address_).mergeFrom(value).buildPartial();
+          } else {
+            address_ = value;
+          }
+          onChanged();
+        } else {
+          addressBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      public Builder clearAddress() {
+        if (addressBuilder_ == null) {
+          address_ = null;
+          onChanged();
+        } else {
+          address_ = null;
+          addressBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      public com.shuffle.player.proto.Proto.Address.Builder getAddressBuilder() {
+        
+        onChanged();
+        return getAddressFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      public com.shuffle.player.proto.Proto.AddressOrBuilder getAddressOrBuilder() {
+        if (addressBuilder_ != null) {
+          return addressBuilder_.getMessageOrBuilder();
+        } else {
+          return address_ == null ?
+              com.shuffle.player.proto.Proto.Address.getDefaultInstance() : address_;
+        }
+      }
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Address, com.shuffle.player.proto.Proto.Address.Builder, com.shuffle.player.proto.Proto.AddressOrBuilder> 
+          getAddressFieldBuilder() {
+        if (addressBuilder_ == null) {
+          addressBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.Address, com.shuffle.player.proto.Proto.Address.Builder, com.shuffle.player.proto.Proto.AddressOrBuilder>(
+                  getAddress(),
+                  getParentForChildren(),
+                  isClean());
+          address_ = null;
+        }
+        return addressBuilder_;
+      }
+
+      private com.shuffle.player.proto.Proto.EncryptionKey key_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.EncryptionKey, com.shuffle.player.proto.Proto.EncryptionKey.Builder, com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder> keyBuilder_;
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      public boolean hasKey() {
+        return keyBuilder_ != null || key_ != null;
+      }
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      public com.shuffle.player.proto.Proto.EncryptionKey getKey() {
+        if (keyBuilder_ == null) {
+          return key_ == null ? com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance() : key_;
+        } else {
+          return keyBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      public Builder setKey(com.shuffle.player.proto.Proto.EncryptionKey value) {
+        if (keyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          key_ = value;
+          onChanged();
+        } else {
+          keyBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      public Builder setKey(
+          com.shuffle.player.proto.Proto.EncryptionKey.Builder builderForValue) {
+        if (keyBuilder_ == null) {
+          key_ = builderForValue.build();
+          onChanged();
+        } else {
+          keyBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      public Builder mergeKey(com.shuffle.player.proto.Proto.EncryptionKey value) {
+        if (keyBuilder_ == null) {
+          if (key_ != null) {
+            key_ =
+              com.shuffle.player.proto.Proto.EncryptionKey.newBuilder(key_).mergeFrom(value).buildPartial();
+          } else {
+            key_ = value;
+          }
+          onChanged();
+        } else {
+          keyBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      public Builder clearKey() {
+        if (keyBuilder_ == null) {
+          key_ = null;
+          onChanged();
+        } else {
+          key_ = null;
+          keyBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      public com.shuffle.player.proto.Proto.EncryptionKey.Builder getKeyBuilder() {
+        
+        onChanged();
+        return getKeyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      public com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder getKeyOrBuilder() {
+        if (keyBuilder_ != null) {
+          return keyBuilder_.getMessageOrBuilder();
+        } else {
+          return key_ == null ?
+              com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance() : key_;
+        }
+      }
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.EncryptionKey, com.shuffle.player.proto.Proto.EncryptionKey.Builder, com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder> 
+          getKeyFieldBuilder() {
+        if (keyBuilder_ == null) {
+          keyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.EncryptionKey, com.shuffle.player.proto.Proto.EncryptionKey.Builder, com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder>(
+                  getKey(),
+                  getParentForChildren(),
+                  isClean());
+          key_ = null;
+        }
+        return keyBuilder_;
+      }
+
+      private com.shuffle.player.proto.Proto.Hash hash_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Hash, com.shuffle.player.proto.Proto.Hash.Builder, com.shuffle.player.proto.Proto.HashOrBuilder> hashBuilder_;
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      public boolean hasHash() {
+        return hashBuilder_ != null || hash_ != null;
+      }
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      public com.shuffle.player.proto.Proto.Hash getHash() {
+        if (hashBuilder_ == null) {
+          return hash_ == null ? com.shuffle.player.proto.Proto.Hash.getDefaultInstance() : hash_;
+        } else {
+          return hashBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      public Builder setHash(com.shuffle.player.proto.Proto.Hash value) {
+        if (hashBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          hash_ = value;
+          onChanged();
+        } else {
+          hashBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      public Builder setHash(
+          com.shuffle.player.proto.Proto.Hash.Builder builderForValue) {
+        if (hashBuilder_ == null) {
+          hash_ = builderForValue.build();
+          onChanged();
+        } else {
+          hashBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      public Builder mergeHash(com.shuffle.player.proto.Proto.Hash value) {
+        if (hashBuilder_ == null) {
+          if (hash_ != null) {
+            hash_ =
+              com.shuffle.player.proto.Proto.Hash.newBuilder(hash_).mergeFrom(value).buildPartial();
+          } else {
+            hash_ = value;
+          }
+          onChanged();
+        } else {
+          hashBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      public Builder clearHash() {
+        if (hashBuilder_ == null) {
+          hash_ = null;
+          onChanged();
+        } else {
+          hash_ = null;
+          hashBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      public com.shuffle.player.proto.Proto.Hash.Builder getHashBuilder() {
+        
+        onChanged();
+        return getHashFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      public com.shuffle.player.proto.Proto.HashOrBuilder getHashOrBuilder() {
+        if (hashBuilder_ != null) {
+          return hashBuilder_.getMessageOrBuilder();
+        } else {
+          return hash_ == null ?
+              com.shuffle.player.proto.Proto.Hash.getDefaultInstance() : hash_;
+        }
+      }
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Hash, com.shuffle.player.proto.Proto.Hash.Builder, com.shuffle.player.proto.Proto.HashOrBuilder> 
+          getHashFieldBuilder() {
+        if (hashBuilder_ == null) {
+          hashBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.Hash, com.shuffle.player.proto.Proto.Hash.Builder, com.shuffle.player.proto.Proto.HashOrBuilder>(
+                  getHash(),
+                  getParentForChildren(),
+                  isClean());
+          hash_ = null;
+        }
+        return hashBuilder_;
+      }
+
+      private com.shuffle.player.proto.Proto.Signature signature_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Signature, com.shuffle.player.proto.Proto.Signature.Builder, com.shuffle.player.proto.Proto.SignatureOrBuilder> signatureBuilder_;
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      public boolean hasSignature() {
+        return signatureBuilder_ != null || signature_ != null;
+      }
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      public com.shuffle.player.proto.Proto.Signature getSignature() {
+        if (signatureBuilder_ == null) {
+          return signature_ == null ? com.shuffle.player.proto.Proto.Signature.getDefaultInstance() : signature_;
+        } else {
+          return signatureBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      public Builder setSignature(com.shuffle.player.proto.Proto.Signature value) {
+        if (signatureBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          signature_ = value;
+          onChanged();
+        } else {
+          signatureBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      public Builder setSignature(
+          com.shuffle.player.proto.Proto.Signature.Builder builderForValue) {
+        if (signatureBuilder_ == null) {
+          signature_ = builderForValue.build();
+          onChanged();
+        } else {
+          signatureBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      public Builder mergeSignature(com.shuffle.player.proto.Proto.Signature value) {
+        if (signatureBuilder_ == null) {
+          if (signature_ != null) {
+            signature_ =
+              com.shuffle.player.proto.Proto.Signature.newBuilder(signature_).mergeFrom(value).buildPartial();
+          } else {
+            signature_ = value;
+          }
+          onChanged();
+        } else {
+          signatureBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      public Builder clearSignature() {
+        if (signatureBuilder_ == null) {
+          signature_ = null;
+          onChanged();
+        } else {
+          signature_ = null;
+          signatureBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      public com.shuffle.player.proto.Proto.Signature.Builder getSignatureBuilder() {
+        
+        onChanged();
+        return getSignatureFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      public com.shuffle.player.proto.Proto.SignatureOrBuilder getSignatureOrBuilder() {
+        if (signatureBuilder_ != null) {
+          return signatureBuilder_.getMessageOrBuilder();
+        } else {
+          return signature_ == null ?
+              com.shuffle.player.proto.Proto.Signature.getDefaultInstance() : signature_;
+        }
+      }
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Signature, com.shuffle.player.proto.Proto.Signature.Builder, com.shuffle.player.proto.Proto.SignatureOrBuilder> 
+          getSignatureFieldBuilder() {
+        if (signatureBuilder_ == null) {
+          signatureBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.Signature, com.shuffle.player.proto.Proto.Signature.Builder, com.shuffle.player.proto.Proto.SignatureOrBuilder>(
+                  getSignature(),
+                  getParentForChildren(),
+                  isClean());
+          signature_ = null;
+        }
+        return signatureBuilder_;
+      }
+
+      private java.lang.Object str_ = "";
+      /**
+       * <code>optional string str = 5;</code>
+       */
+      public java.lang.String getStr() {
+        java.lang.Object ref = str_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          str_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string str = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getStrBytes() {
+        java.lang.Object ref = str_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          str_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string str = 5;</code>
+       */
+      public Builder setStr(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        str_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string str = 5;</code>
+       */
+      public Builder clearStr() {
+        
+        str_ = getDefaultInstance().getStr();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string str = 5;</code>
+       */
+      public Builder setStrBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        str_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.shuffle.player.proto.Proto.Blame blame_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Blame, com.shuffle.player.proto.Proto.Blame.Builder, com.shuffle.player.proto.Proto.BlameOrBuilder> blameBuilder_;
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public boolean hasBlame() {
+        return blameBuilder_ != null || blame_ != null;
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public com.shuffle.player.proto.Proto.Blame getBlame() {
+        if (blameBuilder_ == null) {
+          return blame_ == null ? com.shuffle.player.proto.Proto.Blame.getDefaultInstance() : blame_;
+        } else {
+          return blameBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public Builder setBlame(com.shuffle.player.proto.Proto.Blame value) {
+        if (blameBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          blame_ = value;
+          onChanged();
+        } else {
+          blameBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public Builder setBlame(
+          com.shuffle.player.proto.Proto.Blame.Builder builderForValue) {
+        if (blameBuilder_ == null) {
+          blame_ = builderForValue.build();
+          onChanged();
+        } else {
+          blameBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public Builder mergeBlame(com.shuffle.player.proto.Proto.Blame value) {
+        if (blameBuilder_ == null) {
+          if (blame_ != null) {
+            blame_ =
+              com.shuffle.player.proto.Proto.Blame.newBuilder(blame_).mergeFrom(value).buildPartial();
+          } else {
+            blame_ = value;
+          }
+          onChanged();
+        } else {
+          blameBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public Builder clearBlame() {
+        if (blameBuilder_ == null) {
+          blame_ = null;
+          onChanged();
+        } else {
+          blame_ = null;
+          blameBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public com.shuffle.player.proto.Proto.Blame.Builder getBlameBuilder() {
+        
+        onChanged();
+        return getBlameFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public com.shuffle.player.proto.Proto.BlameOrBuilder getBlameOrBuilder() {
+        if (blameBuilder_ != null) {
+          return blameBuilder_.getMessageOrBuilder();
+        } else {
+          return blame_ == null ?
+              com.shuffle.player.proto.Proto.Blame.getDefaultInstance() : blame_;
+        }
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Blame, com.shuffle.player.proto.Proto.Blame.Builder, com.shuffle.player.proto.Proto.BlameOrBuilder> 
+          getBlameFieldBuilder() {
+        if (blameBuilder_ == null) {
+          blameBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.Blame, com.shuffle.player.proto.Proto.Blame.Builder, com.shuffle.player.proto.Proto.BlameOrBuilder>(
+                  getBlame(),
+                  getParentForChildren(),
+                  isClean());
+          blame_ = null;
+        }
+        return blameBuilder_;
+      }
+
+      private com.shuffle.player.proto.Proto.Message next_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Message, com.shuffle.player.proto.Proto.Message.Builder, com.shuffle.player.proto.Proto.MessageOrBuilder> nextBuilder_;
+      /**
+       * <code>optional .Message next = 7;</code>
+       */
+      public boolean hasNext() {
+        return nextBuilder_ != null || next_ != null;
+      }
+      /**
+       * <code>optional .Message next = 7;</code>
+       */
+      public com.shuffle.player.proto.Proto.Message getNext() {
+        if (nextBuilder_ == null) {
+          return next_ == null ? com.shuffle.player.proto.Proto.Message.getDefaultInstance() : next_;
         } else {
-          signatureBuilder_.setMessage(builderForValue.build());
+          return nextBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Message next = 7;</code>
+       */
+      public Builder setNext(com.shuffle.player.proto.Proto.Message value) {
+        if (nextBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          next_ = value;
+          onChanged();
+        } else {
+          nextBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>optional .Signature signature = 4;</code>
+       * <code>optional .Message next = 7;</code>
        */
-      public Builder mergeSignature(com.shuffle.player.proto.Proto.Signature value) {
-        if (signatureBuilder_ == null) {
-          if (signature_ != null) {
-            signature_ =
-              com.shuffle.player.proto.Proto.Signature.newBuilder(signature_).mergeFrom(value).buildPartial();
+      public Builder setNext(
+          com.shuffle.player.proto.Proto.Message.Builder builderForValue) {
+        if (nextBuilder_ == null) {
+          next_ = builderForValue.build();
+          onChanged();
+        } else {
+          nextBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Message next = 7;</code>
+       */
+      public Builder mergeNext(com.shuffle.player.proto.Proto.Message value) {
+        if (nextBuilder_ == null) {
+          if (next_ != null) {
+            next_ =
+              com.shuffle.player.proto.Proto.Message.newBuilder(next_).mergeFrom(value).buildPartial();
           } else {
-            signature_ = value;
+            next_ = value;
           }
           onChanged();
         } else {
-          signatureBuilder_.mergeFrom(value);
+          nextBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>optional .Signature signature = 4;</code>
+       * <code>optional .Message next = 7;</code>
        */
-      public Builder clearSignature() {
-        if (signatureBuilder_ == null) {
-          signature_ = null;
+      public Builder clearNext() {
+        if (nextBuilder_ == null) {
+          next_ = null;
           onChanged();
         } else {
-          signature_ = null;
-          signatureBuilder_ = null;
+          next_ = null;
+          nextBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>optional .Signature signature = 4;</code>
+       * <code>optional .Message next = 7;</code>
        */
-      public com.shuffle.player.proto.Proto.Signature.Builder getSignatureBuilder() {
+      public com.shuffle.player.proto.Proto.Message.Builder getNextBuilder() {
         
         onChanged();
-        return getSignatureFieldBuilder().getBuilder();
+        return getNextFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .Signature signature = 4;</code>
+       * <code>optional .Message next = 7;</code>
        */
-      public com.shuffle.player.proto.Proto.SignatureOrBuilder getSignatureOrBuilder() {
-        if (signatureBuilder_ != null) {
-          return signatureBuilder_.getMessageOrBuilder();
+      public com.shuffle.player.proto.Proto.MessageOrBuilder getNextOrBuilder() {
+        if (nextBuilder_ != null) {
+          return nextBuilder_.getMessageOrBuilder();
         } else {
-          return signature_ == null ?
-              com.shuffle.player.proto.Proto.Signature.getDefaultInstance() : signature_;
+          return next_ == null ?
+              com.shuffle.player.proto.Proto.Message.getDefaultInstance() : next_;
         }
       }
       /**
-       * <code>optional .Signature signature = 4;</code>
+       * <code>optional .Message next = 7;</code>
        */
       private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Signature, com.shuffle.player.proto.Proto.Signature.Builder, com.shuffle.player.proto.Proto.SignatureOrBuilder> 
-          getSignatureFieldBuilder() {
-        if (signatureBuilder_ == null) {
-          signatureBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.shuffle.player.proto.Proto.Signature, com.shuffle.player.proto.Proto.Signature.Builder, com.shuffle.player.proto.Proto.SignatureOrBuilder>(
-                  getSignature(),
+          com.shuffle.player.proto.Proto.Message, com.shuffle.player.proto.Proto.Message.Builder, com.shuffle.player.proto.Proto.MessageOrBuilder> 
+          getNextFieldBuilder() {
+        if (nextBuilder_ == null) {
+          nextBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.Message, com.shuffle.player.proto.Proto.Message.Builder, com.shuffle.player.proto.Proto.MessageOrBuilder>(
+                  getNext(),
                   getParentForChildren(),
                   isClean());
-          signature_ = null;
+          next_ = null;
+        }
+        return nextBuilder_;
+      }
+
+      private com.shuffle.player.proto.Proto.Ciphertext ciphertext_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Ciphertext, com.shuffle.player.proto.Proto.Ciphertext.Builder, com.shuffle.player.proto.Proto.CiphertextOrBuilder> ciphertextBuilder_;
+      /**
+       * <code>optional .Ciphertext ciphertext = 8;</code>
+       */
+      public boolean hasCiphertext() {
+        return ciphertextBuilder_ != null || ciphertext_ != null;
+      }
+      /**
+       * <code>optional .Ciphertext ciphertext = 8;</code>
+       */
+      public com.shuffle.player.proto.Proto.Ciphertext getCiphertext() {
+        if (ciphertextBuilder_ == null) {
+          return ciphertext_ == null ? com.shuffle.player.proto.Proto.Ciphertext.getDefaultInstance() : ciphertext_;
+        } else {
+          return ciphertextBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Ciphertext ciphertext = 8;</code>
+       */
+      public Builder setCiphertext(com.shuffle.player.proto.Proto.Ciphertext value) {
+        if (ciphertextBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ciphertext_ = value;
+          onChanged();
+        } else {
+          ciphertextBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Ciphertext ciphertext = 8;</code>
+       */
+      public Builder setCiphertext(
+          com.shuffle.player.proto.Proto.Ciphertext.Builder builderForValue) {
+        if (ciphertextBuilder_ == null) {
+          ciphertext_ = builderForValue.build();
+          onChanged();
+        } else {
+          ciphertextBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Ciphertext ciphertext = 8;</code>
+       */
+      public Builder mergeCiphertext(com.shuffle.player.proto.Proto.Ciphertext value) {
+        if (ciphertextBuilder_ == null) {
+          if (ciphertext_ != null) {
+            ciphertext_ =
+              com.shuffle.player.proto.Proto.Ciphertext.newBuilder(ciphertext_).mergeFrom(value).buildPartial();
+          } else {
+            ciphertext_ = value;
+          }
+          onChanged();
+        } else {
+          ciphertextBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Ciphertext ciphertext = 8;</code>
+       */
+      public Builder clearCiphertext() {
+        if (ciphertextBuilder_ == null) {
+          ciphertext_ = null;
+          onChanged();
+        } else {
+          ciphertext_ = null;
+          ciphertextBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Ciphertext ciphertext = 8;</code>
+       */
+      public com.shuffle.player.proto.Proto.Ciphertext.Builder getCiphertextBuilder() {
+        
+        onChanged();
+        return getCiphertextFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Ciphertext ciphertext = 8;</code>
+       */
+      public com.shuffle.player.proto.Proto.CiphertextOrBuilder getCiphertextOrBuilder() {
+        if (ciphertextBuilder_ != null) {
+          return ciphertextBuilder_.getMessageOrBuilder();
+        } else {
+          return ciphertext_ == null ?
+              com.shuffle.player.proto.Proto.Ciphertext.getDefaultInstance() : ciphertext_;
+        }
+      }
+      /**
+       * <code>optional .Ciphertext ciphertext = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Ciphertext, com.shuffle.player.proto.Proto.Ciphertext.Builder, com.shuffle.player.proto.Proto.CiphertextOrBuilder> 
+          getCiphertextFieldBuilder() {
+        if (ciphertextBuilder_ == null) {
+          ciphertextBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.Ciphertext, com.shuffle.player.proto.Proto.Ciphertext.Builder, com.shuffle.player.proto.Proto.CiphertextOrBuilder>(
+                  getCiphertext(),
+                  getParentForChildren(),
+                  isClean());
+          ciphertext_ = null;
+        }
+        return ciphertextBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Message)
+    }
+
+    // @@protoc_insertion_point(class_scope:Message)
+    private static final com.shuffle.player.proto.Proto.Message DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Message();
+    }
+
+    public static com.shuffle.player.proto.Proto.Message getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Message>
+        PARSER = new com.google.protobuf.AbstractParser<Message>() {
+      public Message parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Message(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Message> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Message> getParserForType() {
+      return PARSER;
+    }
+
+    public com.shuffle.player.proto.Proto.Message getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AddressOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Address)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string address = 1;</code>
+     */
+    java.lang.String getAddress();
+    /**
+     * <code>optional string address = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getAddressBytes();
+  }
+  /**
+   * Protobuf type {@code Address}
+   */
+  public  static final class Address extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:Address)
+      AddressOrBuilder {
+    // Use Address.newBuilder() to construct.
+    private Address(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Address() {
+      address_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private Address(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              address_ = s;
+              break;
+            }
+          }
         }
-        return signatureBuilder_;
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        makeExtensionsImmutable();
       }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shuffle.player.proto.Proto.internal_static_Address_descriptor;
+    }
 
-      private java.lang.Object str_ = "";
-      /**
-       * <code>optional string str = 5;</code>
-       */
-      public java.lang.String getStr() {
-        java.lang.Object ref = str_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          str_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shuffle.player.proto.Proto.internal_static_Address_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shuffle.player.proto.Proto.Address.class, com.shuffle.player.proto.Proto.Address.Builder.class);
+    }
+
+    public static final int ADDRESS_FIELD_NUMBER = 1;
+    private volatile java.lang.Object address_;
+    /**
+     * <code>optional string address = 1;</code>
+     */
+    public java.lang.String getAddress() {
+      java.lang.Object ref = address_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        address_ = s;
+        return s;
       }
-      /**
-       * <code>optional string str = 5;</code>
-       */
-      public com.google.protobuf.ByteString
-          getStrBytes() {
-        java.lang.Object ref = str_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          str_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+    }
+    /**
+     * <code>optional string address = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAddressBytes() {
+      java.lang.Object ref = address_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        address_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      /**
-       * <code>optional string str = 5;</code>
-       */
-      public Builder setStr(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        str_ = value;
-        onChanged();
-        return this;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getAddressBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, address_);
       }
-      /**
-       * <code>optional string str = 5;</code>
-       */
-      public Builder clearStr() {
-        
-        str_ = getDefaultInstance().getStr();
-        onChanged();
-        return this;
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getAddressBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, address_);
       }
-      /**
-       * <code>optional string str = 5;</code>
-       */
-      public Builder setStrBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        str_ = value;
-        onChanged();
-        return this;
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static com.shuffle.player.proto.Proto.Address parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.Address prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Address}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Address)
+        com.shuffle.player.proto.Proto.AddressOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shuffle.player.proto.Proto.internal_static_Address_descriptor;
       }
 
-      private com.shuffle.player.proto.Proto.Blame blame_ = null;
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Blame, com.shuffle.player.proto.Proto.Blame.Builder, com.shuffle.player.proto.Proto.BlameOrBuilder> blameBuilder_;
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      public boolean hasBlame() {
-        return blameBuilder_ != null || blame_ != null;
-      }
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      public com.shuffle.player.proto.Proto.Blame getBlame() {
-        if (blameBuilder_ == null) {
-          return blame_ == null ? com.shuffle.player.proto.Proto.Blame.getDefaultInstance() : blame_;
-        } else {
-          return blameBuilder_.getMessage();
-        }
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shuffle.player.proto.Proto.internal_static_Address_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shuffle.player.proto.Proto.Address.class, com.shuffle.player.proto.Proto.Address.Builder.class);
       }
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      public Builder setBlame(com.shuffle.player.proto.Proto.Blame value) {
-        if (blameBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          blame_ = value;
-          onChanged();
-        } else {
-          blameBuilder_.setMessage(value);
-        }
 
-        return this;
+      // Construct using com.shuffle.player.proto.Proto.Address.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      public Builder setBlame(
-          com.shuffle.player.proto.Proto.Blame.Builder builderForValue) {
-        if (blameBuilder_ == null) {
-          blame_ = builderForValue.build();
-          onChanged();
-        } else {
-          blameBuilder_.setMessage(builderForValue.build());
-        }
 
-        return this;
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      public Builder mergeBlame(com.shuffle.player.proto.Proto.Blame value) {
-        if (blameBuilder_ == null) {
-          if (blame_ != null) {
-            blame_ =
-              com.shuffle.player.proto.Proto.Blame.newBuilder(blame_).mergeFrom(value).buildPartial();
-          } else {
-            blame_ = value;
-          }
-          onChanged();
-        } else {
-          blameBuilder_.mergeFrom(value);
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
         }
-
-        return this;
       }
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      public Builder clearBlame() {
-        if (blameBuilder_ == null) {
-          blame_ = null;
-          onChanged();
-        } else {
-          blame_ = null;
-          blameBuilder_ = null;
-        }
+      public Builder clear() {
+        super.clear();
+        address_ = "";
 
         return this;
       }
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      public com.shuffle.player.proto.Proto.Blame.Builder getBlameBuilder() {
-        
-        onChanged();
-        return getBlameFieldBuilder().getBuilder();
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shuffle.player.proto.Proto.internal_static_Address_descriptor;
       }
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      public com.shuffle.player.proto.Proto.BlameOrBuilder getBlameOrBuilder() {
-        if (blameBuilder_ != null) {
-          return blameBuilder_.getMessageOrBuilder();
-        } else {
-          return blame_ == null ?
-              com.shuffle.player.proto.Proto.Blame.getDefaultInstance() : blame_;
-        }
+
+      public com.shuffle.player.proto.Proto.Address getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.Address.getDefaultInstance();
       }
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Blame, com.shuffle.player.proto.Proto.Blame.Builder, com.shuffle.player.proto.Proto.BlameOrBuilder> 
-          getBlameFieldBuilder() {
-        if (blameBuilder_ == null) {
-          blameBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.shuffle.player.proto.Proto.Blame, com.shuffle.player.proto.Proto.Blame.Builder, com.shuffle.player.proto.Proto.BlameOrBuilder>(
-                  getBlame(),
-                  getParentForChildren(),
-                  isClean());
-          blame_ = null;
+
+      public com.shuffle.player.proto.Proto.Address build() {
+        com.shuffle.player.proto.Proto.Address result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
-        return blameBuilder_;
+        return result;
       }
 
-      private com.shuffle.player.proto.Proto.Message next_ = null;
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Message, com.shuffle.player.proto.Proto.Message.Builder, com.shuffle.player.proto.Proto.MessageOrBuilder> nextBuilder_;
-      /**
-       * <code>optional .Message next = 7;</code>
-       */
-      public boolean hasNext() {
-        return nextBuilder_ != null || next_ != null;
+      public com.shuffle.player.proto.Proto.Address buildPartial() {
+        com.shuffle.player.proto.Proto.Address result = new com.shuffle.player.proto.Proto.Address(this);
+        result.address_ = address_;
+        onBuilt();
+        return result;
       }
-      /**
-       * <code>optional .Message next = 7;</code>
-       */
-      public com.shuffle.player.proto.Proto.Message getNext() {
-        if (nextBuilder_ == null) {
-          return next_ == null ? com.shuffle.player.proto.Proto.Message.getDefaultInstance() : next_;
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shuffle.player.proto.Proto.Address) {
+          return mergeFrom((com.shuffle.player.proto.Proto.Address)other);
         } else {
-          return nextBuilder_.getMessage();
+          super.mergeFrom(other);
+          return this;
         }
       }
-      /**
-       * <code>optional .Message next = 7;</code>
-       */
-      public Builder setNext(com.shuffle.player.proto.Proto.Message value) {
-        if (nextBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          next_ = value;
+
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.Address other) {
+        if (other == com.shuffle.player.proto.Proto.Address.getDefaultInstance()) return this;
+        if (!other.getAddress().isEmpty()) {
+          address_ = other.address_;
           onChanged();
-        } else {
-          nextBuilder_.setMessage(value);
         }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
 
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.shuffle.player.proto.Proto.Address parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.shuffle.player.proto.Proto.Address) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
         return this;
       }
+
+      private java.lang.Object address_ = "";
       /**
-       * <code>optional .Message next = 7;</code>
+       * <code>optional string address = 1;</code>
        */
-      public Builder setNext(
-          com.shuffle.player.proto.Proto.Message.Builder builderForValue) {
-        if (nextBuilder_ == null) {
-          next_ = builderForValue.build();
-          onChanged();
+      public java.lang.String getAddress() {
+        java.lang.Object ref = address_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          address_ = s;
+          return s;
         } else {
-          nextBuilder_.setMessage(builderForValue.build());
+          return (java.lang.String) ref;
         }
-
-        return this;
       }
       /**
-       * <code>optional .Message next = 7;</code>
+       * <code>optional string address = 1;</code>
        */
-      public Builder mergeNext(com.shuffle.player.proto.Proto.Message value) {
-        if (nextBuilder_ == null) {
-          if (next_ != null) {
-            next_ =
-              com.shuffle.player.proto.Proto.Message.newBuilder(next_).mergeFrom(value).buildPartial();
-          } else {
-            next_ = value;
-          }
-          onChanged();
+      public com.google.protobuf.ByteString
+          getAddressBytes() {
+        java.lang.Object ref = address_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          address_ = b;
+          return b;
         } else {
-          nextBuilder_.mergeFrom(value);
+          return (com.google.protobuf.ByteString) ref;
         }
-
-        return this;
       }
       /**
-       * <code>optional .Message next = 7;</code>
+       * <code>optional string address = 1;</code>
        */
-      public Builder clearNext() {
-        if (nextBuilder_ == null) {
-          next_ = null;
-          onChanged();
-        } else {
-          next_ = null;
-          nextBuilder_ = null;
-        }
-
+      public Builder setAddress(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        address_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .Message next = 7;</code>
+       * <code>optional string address = 1;</code>
        */
-      public com.shuffle.player.proto.Proto.Message.Builder getNextBuilder() {
+      public Builder clearAddress() {
         
+        address_ = getDefaultInstance().getAddress();
         onChanged();
-        return getNextFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .Message next = 7;</code>
-       */
-      public com.shuffle.player.proto.Proto.MessageOrBuilder getNextOrBuilder() {
-        if (nextBuilder_ != null) {
-          return nextBuilder_.getMessageOrBuilder();
-        } else {
-          return next_ == null ?
-              com.shuffle.player.proto.Proto.Message.getDefaultInstance() : next_;
-        }
+        return this;
       }
       /**
-       * <code>optional .Message next = 7;</code>
+       * <code>optional string address = 1;</code>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Message, com.shuffle.player.proto.Proto.Message.Builder, com.shuffle.player.proto.Proto.MessageOrBuilder> 
-          getNextFieldBuilder() {
-        if (nextBuilder_ == null) {
-          nextBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.shuffle.player.proto.Proto.Message, com.shuffle.player.proto.Proto.Message.Builder, com.shuffle.player.proto.Proto.MessageOrBuilder>(
-                  getNext(),
-                  getParentForChildren(),
-                  isClean());
-          next_ = null;
-        }
-        return nextBuilder_;
+      public Builder setAddressBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        address_ = value;
+        onChanged();
+        return this;
       }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -3600,71 +5120,71 @@ public final class Proto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:Message)
+      // @@protoc_insertion_point(builder_scope:Address)
     }
 
-    // @@protoc_insertion_point(class_scope:Message)
-    private static final com.shuffle.player.proto.Proto.Message DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:Address)
+    private static final com.shuffle.player.proto.Proto.Address DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Message();
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Address();
     }
 
-    public static com.shuffle.player.proto.Proto.Message getDefaultInstance() {
+    public static com.shuffle.player.proto.Proto.Address getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Message>
-        PARSER = new com.google.protobuf.AbstractParser<Message>() {
-      public Message parsePartialFrom(
+    private static final com.google.protobuf.Parser<Address>
+        PARSER = new com.google.protobuf.AbstractParser<Address>() {
+      public Address parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new Message(input, extensionRegistry);
+          return new Address(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Message> parser() {
+    public static com.google.protobuf.Parser<Address> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Message> getParserForType() {
+    public com.google.protobuf.Parser<Address> getParserForType() {
       return PARSER;
     }
 
-    public com.shuffle.player.proto.Proto.Message getDefaultInstanceForType() {
+    public com.shuffle.player.proto.Proto.Address getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface AddressOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Address)
+  public interface VerificationKeyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:VerificationKey)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional string address = 1;</code>
+     * <code>optional string key = 1;</code>
      */
-    java.lang.String getAddress();
+    java.lang.String getKey();
     /**
-     * <code>optional string address = 1;</code>
+     * <code>optional string key = 1;</code>
      */
     com.google.protobuf.ByteString
-        getAddressBytes();
+        getKeyBytes();
   }
   /**
-   * Protobuf type {@code Address}
+   * Protobuf type {@code VerificationKey}
    */
-  public  static final class Address extends
+  public  static final class VerificationKey extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:Address)
-      AddressOrBuilder {
-    // Use Address.newBuilder() to construct.
-    private Address(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:VerificationKey)
+      VerificationKeyOrBuilder {
+    // Use VerificationKey.newBuilder() to construct.
+    private VerificationKey(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private Address() {
-      address_ = "";
+    private VerificationKey() {
+      key_ = "";
     }
 
     @java.lang.Override
@@ -3672,7 +5192,7 @@ public final class Proto {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private Address(
+    private VerificationKey(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3695,7 +5215,7 @@ public final class Proto {
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              address_ = s;
+              key_ = s;
               break;
             }
           }
@@ -3711,44 +5231,44 @@ public final class Proto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shuffle.player.proto.Proto.internal_static_Address_descriptor;
+      return com.shuffle.player.proto.Proto.internal_static_VerificationKey_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shuffle.player.proto.Proto.internal_static_Address_fieldAccessorTable
+      return com.shuffle.player.proto.Proto.internal_static_VerificationKey_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shuffle.player.proto.Proto.Address.class, com.shuffle.player.proto.Proto.Address.Builder.class);
+              com.shuffle.player.proto.Proto.VerificationKey.class, com.shuffle.player.proto.Proto.VerificationKey.Builder.class);
     }
 
-    public static final int ADDRESS_FIELD_NUMBER = 1;
-    private volatile java.lang.Object address_;
+    public static final int KEY_FIELD_NUMBER = 1;
+    private volatile java.lang.Object key_;
     /**
-     * <code>optional string address = 1;</code>
+     * <code>optional string key = 1;</code>
      */
-    public java.lang.String getAddress() {
-      java.lang.Object ref = address_;
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        address_ = s;
+        key_ = s;
         return s;
       }
     }
     /**
-     * <code>optional string address = 1;</code>
+     * <code>optional string key = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getAddressBytes() {
-      java.lang.Object ref = address_;
+        getKeyBytes() {
+      java.lang.Object ref = key_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        address_ = b;
+        key_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
@@ -3767,8 +5287,8 @@ public final class Proto {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getAddressBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 1, address_);
+      if (!getKeyBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, key_);
       }
     }
 
@@ -3777,66 +5297,66 @@ public final class Proto {
       if (size != -1) return size;
 
       size = 0;
-      if (!getAddressBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, address_);
+      if (!getKeyBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, key_);
       }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static com.shuffle.player.proto.Proto.Address parseFrom(
+    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.Address parseFrom(
+    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Address parseFrom(byte[] data)
+    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.Address parseFrom(
+    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Address parseFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Address parseFrom(
+    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Address parseDelimitedFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.VerificationKey parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Address parseDelimitedFrom(
+    public static com.shuffle.player.proto.Proto.VerificationKey parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Address parseFrom(
+    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Address parseFrom(
+    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3848,7 +5368,7 @@ public final class Proto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shuffle.player.proto.Proto.Address prototype) {
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.VerificationKey prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -3863,25 +5383,25 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code Address}
+     * Protobuf type {@code VerificationKey}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Address)
-        com.shuffle.player.proto.Proto.AddressOrBuilder {
+        // @@protoc_insertion_point(builder_implements:VerificationKey)
+        com.shuffle.player.proto.Proto.VerificationKeyOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shuffle.player.proto.Proto.internal_static_Address_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_VerificationKey_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shuffle.player.proto.Proto.internal_static_Address_fieldAccessorTable
+        return com.shuffle.player.proto.Proto.internal_static_VerificationKey_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shuffle.player.proto.Proto.Address.class, com.shuffle.player.proto.Proto.Address.Builder.class);
+                com.shuffle.player.proto.Proto.VerificationKey.class, com.shuffle.player.proto.Proto.VerificationKey.Builder.class);
       }
 
-      // Construct using com.shuffle.player.proto.Proto.Address.newBuilder()
+      // Construct using com.shuffle.player.proto.Proto.VerificationKey.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3897,48 +5417,48 @@ public final class Proto {
       }
       public Builder clear() {
         super.clear();
-        address_ = "";
+        key_ = "";
 
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shuffle.player.proto.Proto.internal_static_Address_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_VerificationKey_descriptor;
       }
 
-      public com.shuffle.player.proto.Proto.Address getDefaultInstanceForType() {
-        return com.shuffle.player.proto.Proto.Address.getDefaultInstance();
+      public com.shuffle.player.proto.Proto.VerificationKey getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.VerificationKey.getDefaultInstance();
       }
 
-      public com.shuffle.player.proto.Proto.Address build() {
-        com.shuffle.player.proto.Proto.Address result = buildPartial();
+      public com.shuffle.player.proto.Proto.VerificationKey build() {
+        com.shuffle.player.proto.Proto.VerificationKey result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.shuffle.player.proto.Proto.Address buildPartial() {
-        com.shuffle.player.proto.Proto.Address result = new com.shuffle.player.proto.Proto.Address(this);
-        result.address_ = address_;
+      public com.shuffle.player.proto.Proto.VerificationKey buildPartial() {
+        com.shuffle.player.proto.Proto.VerificationKey result = new com.shuffle.player.proto.Proto.VerificationKey(this);
+        result.key_ = key_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shuffle.player.proto.Proto.Address) {
-          return mergeFrom((com.shuffle.player.proto.Proto.Address)other);
+        if (other instanceof com.shuffle.player.proto.Proto.VerificationKey) {
+          return mergeFrom((com.shuffle.player.proto.Proto.VerificationKey)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shuffle.player.proto.Proto.Address other) {
-        if (other == com.shuffle.player.proto.Proto.Address.getDefaultInstance()) return this;
-        if (!other.getAddress().isEmpty()) {
-          address_ = other.address_;
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.VerificationKey other) {
+        if (other == com.shuffle.player.proto.Proto.VerificationKey.getDefaultInstance()) return this;
+        if (!other.getKey().isEmpty()) {
+          key_ = other.key_;
           onChanged();
         }
         onChanged();
@@ -3953,11 +5473,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.shuffle.player.proto.Proto.Address parsedMessage = null;
+        com.shuffle.player.proto.Proto.VerificationKey parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.shuffle.player.proto.Proto.Address) e.getUnfinishedMessage();
+          parsedMessage = (com.shuffle.player.proto.Proto.VerificationKey) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -3967,71 +5487,71 @@ public final class Proto {
         return this;
       }
 
-      private java.lang.Object address_ = "";
+      private java.lang.Object key_ = "";
       /**
-       * <code>optional string address = 1;</code>
+       * <code>optional string key = 1;</code>
        */
-      public java.lang.String getAddress() {
-        java.lang.Object ref = address_;
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          address_ = s;
+          key_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional string address = 1;</code>
+       * <code>optional string key = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getAddressBytes() {
-        java.lang.Object ref = address_;
+          getKeyBytes() {
+        java.lang.Object ref = key_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          address_ = b;
+          key_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string address = 1;</code>
+       * <code>optional string key = 1;</code>
        */
-      public Builder setAddress(
+      public Builder setKey(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        address_ = value;
+        key_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string address = 1;</code>
+       * <code>optional string key = 1;</code>
        */
-      public Builder clearAddress() {
+      public Builder clearKey() {
         
-        address_ = getDefaultInstance().getAddress();
+        key_ = getDefaultInstance().getKey();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string address = 1;</code>
+       * <code>optional string key = 1;</code>
        */
-      public Builder setAddressBytes(
+      public Builder setKeyBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        address_ = value;
+        key_ = value;
         onChanged();
         return this;
       }
@@ -4046,46 +5566,46 @@ public final class Proto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:Address)
+      // @@protoc_insertion_point(builder_scope:VerificationKey)
     }
 
-    // @@protoc_insertion_point(class_scope:Address)
-    private static final com.shuffle.player.proto.Proto.Address DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:VerificationKey)
+    private static final com.shuffle.player.proto.Proto.VerificationKey DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Address();
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.VerificationKey();
     }
 
-    public static com.shuffle.player.proto.Proto.Address getDefaultInstance() {
+    public static com.shuffle.player.proto.Proto.VerificationKey getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Address>
-        PARSER = new com.google.protobuf.AbstractParser<Address>() {
-      public Address parsePartialFrom(
+    private static final com.google.protobuf.Parser<VerificationKey>
+        PARSER = new com.google.protobuf.AbstractParser<VerificationKey>() {
+      public VerificationKey parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new Address(input, extensionRegistry);
+          return new VerificationKey(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Address> parser() {
+    public static com.google.protobuf.Parser<VerificationKey> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Address> getParserForType() {
+    public com.google.protobuf.Parser<VerificationKey> getParserForType() {
       return PARSER;
     }
 
-    public com.shuffle.player.proto.Proto.Address getDefaultInstanceForType() {
+    public com.shuffle.player.proto.Proto.VerificationKey getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface VerificationKeyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:VerificationKey)
+  public interface EncryptionKeyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:EncryptionKey)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -4099,17 +5619,17 @@ public final class Proto {
         getKeyBytes();
   }
   /**
-   * Protobuf type {@code VerificationKey}
+   * Protobuf type {@code EncryptionKey}
    */
-  public  static final class VerificationKey extends
+  public  static final class EncryptionKey extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:VerificationKey)
-      VerificationKeyOrBuilder {
-    // Use VerificationKey.newBuilder() to construct.
-    private VerificationKey(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:EncryptionKey)
+      EncryptionKeyOrBuilder {
+    // Use EncryptionKey.newBuilder() to construct.
+    private EncryptionKey(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private VerificationKey() {
+    private EncryptionKey() {
       key_ = "";
     }
 
@@ -4118,7 +5638,7 @@ public final class Proto {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private VerificationKey(
+    private EncryptionKey(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4157,14 +5677,14 @@ public final class Proto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shuffle.player.proto.Proto.internal_static_VerificationKey_descriptor;
+      return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shuffle.player.proto.Proto.internal_static_VerificationKey_fieldAccessorTable
+      return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shuffle.player.proto.Proto.VerificationKey.class, com.shuffle.player.proto.Proto.VerificationKey.Builder.class);
+              com.shuffle.player.proto.Proto.EncryptionKey.class, com.shuffle.player.proto.Proto.EncryptionKey.Builder.class);
     }
 
     public static final int KEY_FIELD_NUMBER = 1;
@@ -4231,58 +5751,58 @@ public final class Proto {
     }
 
     private static final long serialVersionUID = 0L;
-    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(byte[] data)
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseDelimitedFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseDelimitedFrom(
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4294,7 +5814,7 @@ public final class Proto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shuffle.player.proto.Proto.VerificationKey prototype) {
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.EncryptionKey prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -4309,25 +5829,25 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code VerificationKey}
+     * Protobuf type {@code EncryptionKey}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:VerificationKey)
-        com.shuffle.player.proto.Proto.VerificationKeyOrBuilder {
+        // @@protoc_insertion_point(builder_implements:EncryptionKey)
+        com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shuffle.player.proto.Proto.internal_static_VerificationKey_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shuffle.player.proto.Proto.internal_static_VerificationKey_fieldAccessorTable
+        return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shuffle.player.proto.Proto.VerificationKey.class, com.shuffle.player.proto.Proto.VerificationKey.Builder.class);
+                com.shuffle.player.proto.Proto.EncryptionKey.class, com.shuffle.player.proto.Proto.EncryptionKey.Builder.class);
       }
 
-      // Construct using com.shuffle.player.proto.Proto.VerificationKey.newBuilder()
+      // Construct using com.shuffle.player.proto.Proto.EncryptionKey.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4350,39 +5870,39 @@ public final class Proto {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shuffle.player.proto.Proto.internal_static_VerificationKey_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_descriptor;
       }
 
-      public com.shuffle.player.proto.Proto.VerificationKey getDefaultInstanceForType() {
-        return com.shuffle.player.proto.Proto.VerificationKey.getDefaultInstance();
+      public com.shuffle.player.proto.Proto.EncryptionKey getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance();
       }
 
-      public com.shuffle.player.proto.Proto.VerificationKey build() {
-        com.shuffle.player.proto.Proto.VerificationKey result = buildPartial();
+      public com.shuffle.player.proto.Proto.EncryptionKey build() {
+        com.shuffle.player.proto.Proto.EncryptionKey result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.shuffle.player.proto.Proto.VerificationKey buildPartial() {
-        com.shuffle.player.proto.Proto.VerificationKey result = new com.shuffle.player.proto.Proto.VerificationKey(this);
+      public com.shuffle.player.proto.Proto.EncryptionKey buildPartial() {
+        com.shuffle.player.proto.Proto.EncryptionKey result = new com.shuffle.player.proto.Proto.EncryptionKey(this);
         result.key_ = key_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shuffle.player.proto.Proto.VerificationKey) {
-          return mergeFrom((com.shuffle.player.proto.Proto.VerificationKey)other);
+        if (other instanceof com.shuffle.player.proto.Proto.EncryptionKey) {
+          return mergeFrom((com.shuffle.player.proto.Proto.EncryptionKey)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shuffle.player.proto.Proto.VerificationKey other) {
-        if (other == com.shuffle.player.proto.Proto.VerificationKey.getDefaultInstance()) return this;
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.EncryptionKey other) {
+        if (other == com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance()) return this;
         if (!other.getKey().isEmpty()) {
           key_ = other.key_;
           onChanged();
@@ -4399,11 +5919,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.shuffle.player.proto.Proto.VerificationKey parsedMessage = null;
+        com.shuffle.player.proto.Proto.EncryptionKey parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.shuffle.player.proto.Proto.VerificationKey) e.getUnfinishedMessage();
+          parsedMessage = (com.shuffle.player.proto.Proto.EncryptionKey) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -4492,46 +6012,46 @@ public final class Proto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:VerificationKey)
+      // @@protoc_insertion_point(builder_scope:EncryptionKey)
     }
 
-    // @@protoc_insertion_point(class_scope:VerificationKey)
-    private static final com.shuffle.player.proto.Proto.VerificationKey DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:EncryptionKey)
+    private static final com.shuffle.player.proto.Proto.EncryptionKey DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.VerificationKey();
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.EncryptionKey();
     }
 
-    public static com.shuffle.player.proto.Proto.VerificationKey getDefaultInstance() {
+    public static com.shuffle.player.proto.Proto.EncryptionKey getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<VerificationKey>
-        PARSER = new com.google.protobuf.AbstractParser<VerificationKey>() {
-      public VerificationKey parsePartialFrom(
+    private static final com.google.protobuf.Parser<EncryptionKey>
+        PARSER = new com.google.protobuf.AbstractParser<EncryptionKey>() {
+      public EncryptionKey parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new VerificationKey(input, extensionRegistry);
+          return new EncryptionKey(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<VerificationKey> parser() {
+    public static com.google.protobuf.Parser<EncryptionKey> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<VerificationKey> getParserForType() {
+    public com.google.protobuf.Parser<EncryptionKey> getParserForType() {
       return PARSER;
     }
 
-    public com.shuffle.player.proto.Proto.VerificationKey getDefaultInstanceForType() {
+    public com.shuffle.player.proto.Proto.EncryptionKey getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface EncryptionKeyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:EncryptionKey)
+  public interface DecryptionKeyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DecryptionKey)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -4543,20 +6063,31 @@ public final class Proto {
      */
     com.google.protobuf.ByteString
         getKeyBytes();
+
+    /**
+     * <code>optional string public = 2;</code>
+     */
+    java.lang.String getPublic();
+    /**
+     * <code>optional string public = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getPublicBytes();
   }
   /**
-   * Protobuf type {@code EncryptionKey}
+   * Protobuf type {@code DecryptionKey}
    */
-  public  static final class EncryptionKey extends
+  public  static final class DecryptionKey extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:EncryptionKey)
-      EncryptionKeyOrBuilder {
-    // Use EncryptionKey.newBuilder() to construct.
-    private EncryptionKey(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:DecryptionKey)
+      DecryptionKeyOrBuilder {
+    // Use DecryptionKey.newBuilder() to construct.
+    private DecryptionKey(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private EncryptionKey() {
+    private DecryptionKey() {
       key_ = "";
+      public_ = "";
     }
 
     @java.lang.Override
@@ -4564,7 +6095,7 @@ public final class Proto {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private EncryptionKey(
+    private DecryptionKey(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4590,6 +6121,12 @@ public final class Proto {
               key_ = s;
               break;
             }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              public_ = s;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -4603,14 +6140,14 @@ public final class Proto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_descriptor;
+      return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_fieldAccessorTable
+      return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shuffle.player.proto.Proto.EncryptionKey.class, com.shuffle.player.proto.Proto.EncryptionKey.Builder.class);
+              com.shuffle.player.proto.Proto.DecryptionKey.class, com.shuffle.player.proto.Proto.DecryptionKey.Builder.class);
     }
 
     public static final int KEY_FIELD_NUMBER = 1;
@@ -4647,6 +6184,40 @@ public final class Proto {
       }
     }
 
+    public static final int PUBLIC_FIELD_NUMBER = 2;
+    private volatile java.lang.Object public_;
+    /**
+     * <code>optional string public = 2;</code>
+     */
+    public java.lang.String getPublic() {
+      java.lang.Object ref = public_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        public_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string public = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPublicBytes() {
+      java.lang.Object ref = public_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        public_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -4662,6 +6233,9 @@ public final class Proto {
       if (!getKeyBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessage.writeString(output, 1, key_);
       }
+      if (!getPublicBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, public_);
+      }
     }
 
     public int getSerializedSize() {
@@ -4672,63 +6246,66 @@ public final class Proto {
       if (!getKeyBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(1, key_);
       }
+      if (!getPublicBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, public_);
+      }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(byte[] data)
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseDelimitedFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseDelimitedFrom(
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4740,7 +6317,7 @@ public final class Proto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shuffle.player.proto.Proto.EncryptionKey prototype) {
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.DecryptionKey prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -4755,25 +6332,25 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code EncryptionKey}
+     * Protobuf type {@code DecryptionKey}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:EncryptionKey)
-        com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder {
+        // @@protoc_insertion_point(builder_implements:DecryptionKey)
+        com.shuffle.player.proto.Proto.DecryptionKeyOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_fieldAccessorTable
+        return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shuffle.player.proto.Proto.EncryptionKey.class, com.shuffle.player.proto.Proto.EncryptionKey.Builder.class);
+                com.shuffle.player.proto.Proto.DecryptionKey.class, com.shuffle.player.proto.Proto.DecryptionKey.Builder.class);
       }
 
-      // Construct using com.shuffle.player.proto.Proto.EncryptionKey.newBuilder()
+      // Construct using com.shuffle.player.proto.Proto.DecryptionKey.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4791,48 +6368,55 @@ public final class Proto {
         super.clear();
         key_ = "";
 
+        public_ = "";
+
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_descriptor;
       }
 
-      public com.shuffle.player.proto.Proto.EncryptionKey getDefaultInstanceForType() {
-        return com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance();
+      public com.shuffle.player.proto.Proto.DecryptionKey getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.DecryptionKey.getDefaultInstance();
       }
-
-      public com.shuffle.player.proto.Proto.EncryptionKey build() {
-        com.shuffle.player.proto.Proto.EncryptionKey result = buildPartial();
+
+      public com.shuffle.player.proto.Proto.DecryptionKey build() {
+        com.shuffle.player.proto.Proto.DecryptionKey result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.shuffle.player.proto.Proto.EncryptionKey buildPartial() {
-        com.shuffle.player.proto.Proto.EncryptionKey result = new com.shuffle.player.proto.Proto.EncryptionKey(this);
+      public com.shuffle.player.proto.Proto.DecryptionKey buildPartial() {
+        com.shuffle.player.proto.Proto.DecryptionKey result = new com.shuffle.player.proto.Proto.DecryptionKey(this);
         result.key_ = key_;
+        result.public_ = public_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shuffle.player.proto.Proto.EncryptionKey) {
-          return mergeFrom((com.shuffle.player.proto.Proto.EncryptionKey)other);
+        if (other instanceof com.shuffle.player.proto.Proto.DecryptionKey) {
+          return mergeFrom((com.shuffle.player.proto.Proto.DecryptionKey)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shuffle.player.proto.Proto.EncryptionKey other) {
-        if (other == com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance()) return this;
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.DecryptionKey other) {
+        if (other == com.shuffle.player.proto.Proto.DecryptionKey.getDefaultInstance()) return this;
         if (!other.getKey().isEmpty()) {
           key_ = other.key_;
           onChanged();
         }
+        if (!other.getPublic().isEmpty()) {
+          public_ = other.public_;
+          onChanged();
+        }
         onChanged();
         return this;
       }
@@ -4845,11 +6429,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.shuffle.player.proto.Proto.EncryptionKey parsedMessage = null;
+        com.shuffle.player.proto.Proto.DecryptionKey parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.shuffle.player.proto.Proto.EncryptionKey) e.getUnfinishedMessage();
+          parsedMessage = (com.shuffle.player.proto.Proto.DecryptionKey) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -4927,6 +6511,75 @@ public final class Proto {
         onChanged();
         return this;
       }
+
+      private java.lang.Object public_ = "";
+      /**
+       * <code>optional string public = 2;</code>
+       */
+      public java.lang.String getPublic() {
+        java.lang.Object ref = public_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          public_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string public = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPublicBytes() {
+        java.lang.Object ref = public_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          public_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string public = 2;</code>
+       */
+      public Builder setPublic(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        public_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string public = 2;</code>
+       */
+      public Builder clearPublic() {
+        
+        public_ = getDefaultInstance().getPublic();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string public = 2;</code>
+       */
+      public Builder setPublicBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        public_ = value;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return this;
@@ -4938,82 +6591,66 @@ public final class Proto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:EncryptionKey)
+      // @@protoc_insertion_point(builder_scope:DecryptionKey)
     }
 
-    // @@protoc_insertion_point(class_scope:EncryptionKey)
-    private static final com.shuffle.player.proto.Proto.EncryptionKey DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:DecryptionKey)
+    private static final com.shuffle.player.proto.Proto.DecryptionKey DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.EncryptionKey();
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.DecryptionKey();
     }
 
-    public static com.shuffle.player.proto.Proto.EncryptionKey getDefaultInstance() {
+    public static com.shuffle.player.proto.Proto.DecryptionKey getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<EncryptionKey>
-        PARSER = new com.google.protobuf.AbstractParser<EncryptionKey>() {
-      public EncryptionKey parsePartialFrom(
+    private static final com.google.protobuf.Parser<DecryptionKey>
+        PARSER = new com.google.protobuf.AbstractParser<DecryptionKey>() {
+      public DecryptionKey parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new EncryptionKey(input, extensionRegistry);
+          return new DecryptionKey(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<EncryptionKey> parser() {
+    public static com.google.protobuf.Parser<DecryptionKey> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<EncryptionKey> getParserForType() {
+    public com.google.protobuf.Parser<DecryptionKey> getParserForType() {
       return PARSER;
     }
 
-    public com.shuffle.player.proto.Proto.EncryptionKey getDefaultInstanceForType() {
+    public com.shuffle.player.proto.Proto.DecryptionKey getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface DecryptionKeyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:DecryptionKey)
+  public interface HashOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Hash)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional string key = 1;</code>
-     */
-    java.lang.String getKey();
-    /**
-     * <code>optional string key = 1;</code>
-     */
-    com.google.protobuf.ByteString
-        getKeyBytes();
-
-    /**
-     * <code>optional string public = 2;</code>
-     */
-    java.lang.String getPublic();
-    /**
-     * <code>optional string public = 2;</code>
+     * <code>optional bytes hash = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getPublicBytes();
+    com.google.protobuf.ByteString getHash();
   }
   /**
-   * Protobuf type {@code DecryptionKey}
+   * Protobuf type {@code Hash}
    */
-  public  static final class DecryptionKey extends
+  public  static final class Hash extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:DecryptionKey)
-      DecryptionKeyOrBuilder {
-    // Use DecryptionKey.newBuilder() to construct.
-    private DecryptionKey(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:Hash)
+      HashOrBuilder {
+    // Use Hash.newBuilder() to construct.
+    private Hash(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private DecryptionKey() {
-      key_ = "";
-      public_ = "";
+    private Hash() {
+      hash_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
@@ -5021,7 +6658,7 @@ public final class Proto {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private DecryptionKey(
+    private Hash(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5042,15 +6679,8 @@ public final class Proto {
               break;
             }
             case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
 
-              key_ = s;
-              break;
-            }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              public_ = s;
+              hash_ = input.readBytes();
               break;
             }
           }
@@ -5066,82 +6696,23 @@ public final class Proto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_descriptor;
+      return com.shuffle.player.proto.Proto.internal_static_Hash_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_fieldAccessorTable
+      return com.shuffle.player.proto.Proto.internal_static_Hash_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shuffle.player.proto.Proto.DecryptionKey.class, com.shuffle.player.proto.Proto.DecryptionKey.Builder.class);
-    }
-
-    public static final int KEY_FIELD_NUMBER = 1;
-    private volatile java.lang.Object key_;
-    /**
-     * <code>optional string key = 1;</code>
-     */
-    public java.lang.String getKey() {
-      java.lang.Object ref = key_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        key_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>optional string key = 1;</code>
-     */
-    public com.google.protobuf.ByteString
-        getKeyBytes() {
-      java.lang.Object ref = key_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        key_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+              com.shuffle.player.proto.Proto.Hash.class, com.shuffle.player.proto.Proto.Hash.Builder.class);
     }
 
-    public static final int PUBLIC_FIELD_NUMBER = 2;
-    private volatile java.lang.Object public_;
-    /**
-     * <code>optional string public = 2;</code>
-     */
-    public java.lang.String getPublic() {
-      java.lang.Object ref = public_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        public_ = s;
-        return s;
-      }
-    }
+    public static final int HASH_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString hash_;
     /**
-     * <code>optional string public = 2;</code>
+     * <code>optional bytes hash = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getPublicBytes() {
-      java.lang.Object ref = public_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        public_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.google.protobuf.ByteString getHash() {
+      return hash_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -5156,11 +6727,8 @@ public final class Proto {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getKeyBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 1, key_);
-      }
-      if (!getPublicBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 2, public_);
+      if (!hash_.isEmpty()) {
+        output.writeBytes(1, hash_);
       }
     }
 
@@ -5169,69 +6737,67 @@ public final class Proto {
       if (size != -1) return size;
 
       size = 0;
-      if (!getKeyBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, key_);
-      }
-      if (!getPublicBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, public_);
+      if (!hash_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, hash_);
       }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.Hash parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.Hash parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(byte[] data)
+    public static com.shuffle.player.proto.Proto.Hash parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.Hash parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.Hash parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.Hash parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseDelimitedFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.Hash parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseDelimitedFrom(
+    public static com.shuffle.player.proto.Proto.Hash parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.Hash parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.Hash parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5243,7 +6809,7 @@ public final class Proto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shuffle.player.proto.Proto.DecryptionKey prototype) {
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.Hash prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -5258,25 +6824,25 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code DecryptionKey}
+     * Protobuf type {@code Hash}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:DecryptionKey)
-        com.shuffle.player.proto.Proto.DecryptionKeyOrBuilder {
+        // @@protoc_insertion_point(builder_implements:Hash)
+        com.shuffle.player.proto.Proto.HashOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_Hash_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_fieldAccessorTable
+        return com.shuffle.player.proto.Proto.internal_static_Hash_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shuffle.player.proto.Proto.DecryptionKey.class, com.shuffle.player.proto.Proto.DecryptionKey.Builder.class);
+                com.shuffle.player.proto.Proto.Hash.class, com.shuffle.player.proto.Proto.Hash.Builder.class);
       }
 
-      // Construct using com.shuffle.player.proto.Proto.DecryptionKey.newBuilder()
+      // Construct using com.shuffle.player.proto.Proto.Hash.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5292,56 +6858,48 @@ public final class Proto {
       }
       public Builder clear() {
         super.clear();
-        key_ = "";
-
-        public_ = "";
+        hash_ = com.google.protobuf.ByteString.EMPTY;
 
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_Hash_descriptor;
       }
 
-      public com.shuffle.player.proto.Proto.DecryptionKey getDefaultInstanceForType() {
-        return com.shuffle.player.proto.Proto.DecryptionKey.getDefaultInstance();
+      public com.shuffle.player.proto.Proto.Hash getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.Hash.getDefaultInstance();
       }
 
-      public com.shuffle.player.proto.Proto.DecryptionKey build() {
-        com.shuffle.player.proto.Proto.DecryptionKey result = buildPartial();
+      public com.shuffle.player.proto.Proto.Hash build() {
+        com.shuffle.player.proto.Proto.Hash result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.shuffle.player.proto.Proto.DecryptionKey buildPartial() {
-        com.shuffle.player.proto.Proto.DecryptionKey result = new com.shuffle.player.proto.Proto.DecryptionKey(this);
-        result.key_ = key_;
-        result.public_ = public_;
+      public com.shuffle.player.proto.Proto.Hash buildPartial() {
+        com.shuffle.player.proto.Proto.Hash result = new com.shuffle.player.proto.Proto.Hash(this);
+        result.hash_ = hash_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shuffle.player.proto.Proto.DecryptionKey) {
-          return mergeFrom((com.shuffle.player.proto.Proto.DecryptionKey)other);
+        if (other instanceof com.shuffle.player.proto.Proto.Hash) {
+          return mergeFrom((com.shuffle.player.proto.Proto.Hash)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shuffle.player.proto.Proto.DecryptionKey other) {
-        if (other == com.shuffle.player.proto.Proto.DecryptionKey.getDefaultInstance()) return this;
-        if (!other.getKey().isEmpty()) {
-          key_ = other.key_;
-          onChanged();
-        }
-        if (!other.getPublic().isEmpty()) {
-          public_ = other.public_;
-          onChanged();
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.Hash other) {
+        if (other == com.shuffle.player.proto.Proto.Hash.getDefaultInstance()) return this;
+        if (other.getHash() != com.google.protobuf.ByteString.EMPTY) {
+          setHash(other.getHash());
         }
         onChanged();
         return this;
@@ -5355,11 +6913,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.shuffle.player.proto.Proto.DecryptionKey parsedMessage = null;
+        com.shuffle.player.proto.Proto.Hash parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.shuffle.player.proto.Proto.DecryptionKey) e.getUnfinishedMessage();
+          parsedMessage = (com.shuffle.player.proto.Proto.Hash) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -5369,140 +6927,31 @@ public final class Proto {
         return this;
       }
 
-      private java.lang.Object key_ = "";
-      /**
-       * <code>optional string key = 1;</code>
-       */
-      public java.lang.String getKey() {
-        java.lang.Object ref = key_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          key_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>optional string key = 1;</code>
-       */
-      public com.google.protobuf.ByteString
-          getKeyBytes() {
-        java.lang.Object ref = key_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          key_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>optional string key = 1;</code>
-       */
-      public Builder setKey(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        key_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string key = 1;</code>
-       */
-      public Builder clearKey() {
-        
-        key_ = getDefaultInstance().getKey();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string key = 1;</code>
-       */
-      public Builder setKeyBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        key_ = value;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object public_ = "";
-      /**
-       * <code>optional string public = 2;</code>
-       */
-      public java.lang.String getPublic() {
-        java.lang.Object ref = public_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          public_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
+      private com.google.protobuf.ByteString hash_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional string public = 2;</code>
+       * <code>optional bytes hash = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getPublicBytes() {
-        java.lang.Object ref = public_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          public_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public com.google.protobuf.ByteString getHash() {
+        return hash_;
       }
       /**
-       * <code>optional string public = 2;</code>
+       * <code>optional bytes hash = 1;</code>
        */
-      public Builder setPublic(
-          java.lang.String value) {
+      public Builder setHash(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        public_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string public = 2;</code>
-       */
-      public Builder clearPublic() {
-        
-        public_ = getDefaultInstance().getPublic();
+        hash_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string public = 2;</code>
+       * <code>optional bytes hash = 1;</code>
        */
-      public Builder setPublicBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
+      public Builder clearHash() {
         
-        public_ = value;
+        hash_ = getDefaultInstance().getHash();
         onChanged();
         return this;
       }
@@ -5517,66 +6966,66 @@ public final class Proto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:DecryptionKey)
+      // @@protoc_insertion_point(builder_scope:Hash)
     }
 
-    // @@protoc_insertion_point(class_scope:DecryptionKey)
-    private static final com.shuffle.player.proto.Proto.DecryptionKey DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:Hash)
+    private static final com.shuffle.player.proto.Proto.Hash DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.DecryptionKey();
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Hash();
     }
 
-    public static com.shuffle.player.proto.Proto.DecryptionKey getDefaultInstance() {
+    public static com.shuffle.player.proto.Proto.Hash getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<DecryptionKey>
-        PARSER = new com.google.protobuf.AbstractParser<DecryptionKey>() {
-      public DecryptionKey parsePartialFrom(
+    private static final com.google.protobuf.Parser<Hash>
+        PARSER = new com.google.protobuf.AbstractParser<Hash>() {
+      public Hash parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new DecryptionKey(input, extensionRegistry);
+          return new Hash(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<DecryptionKey> parser() {
+    public static com.google.protobuf.Parser<Hash> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<DecryptionKey> getParserForType() {
+    public com.google.protobuf.Parser<Hash> getParserForType() {
       return PARSER;
     }
 
-    public com.shuffle.player.proto.Proto.DecryptionKey getDefaultInstanceForType() {
+    public com.shuffle.player.proto.Proto.Hash getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface HashOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Hash)
+  public interface SignatureOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Signature)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional bytes hash = 1;</code>
+     * <code>optional bytes signature = 1;</code>
      */
-    com.google.protobuf.ByteString getHash();
+    com.google.protobuf.ByteString getSignature();
   }
   /**
-   * Protobuf type {@code Hash}
+   * Protobuf type {@code Signature}
    */
-  public  static final class Hash extends
+  public  static final class Signature extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:Hash)
-      HashOrBuilder {
-    // Use Hash.newBuilder() to construct.
-    private Hash(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:Signature)
+      SignatureOrBuilder {
+    // Use Signature.newBuilder() to construct.
+    private Signature(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private Hash() {
-      hash_ = com.google.protobuf.ByteString.EMPTY;
+    private Signature() {
+      signature_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
@@ -5584,7 +7033,7 @@ public final class Proto {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private Hash(
+    private Signature(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5606,7 +7055,7 @@ public final class Proto {
             }
             case 10: {
 
-              hash_ = input.readBytes();
+              signature_ = input.readBytes();
               break;
             }
           }
@@ -5622,23 +7071,23 @@ public final class Proto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shuffle.player.proto.Proto.internal_static_Hash_descriptor;
+      return com.shuffle.player.proto.Proto.internal_static_Signature_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shuffle.player.proto.Proto.internal_static_Hash_fieldAccessorTable
+      return com.shuffle.player.proto.Proto.internal_static_Signature_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shuffle.player.proto.Proto.Hash.class, com.shuffle.player.proto.Proto.Hash.Builder.class);
+              com.shuffle.player.proto.Proto.Signature.class, com.shuffle.player.proto.Proto.Signature.Builder.class);
     }
 
-    public static final int HASH_FIELD_NUMBER = 1;
-    private com.google.protobuf.ByteString hash_;
+    public static final int SIGNATURE_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString signature_;
     /**
-     * <code>optional bytes hash = 1;</code>
+     * <code>optional bytes signature = 1;</code>
      */
-    public com.google.protobuf.ByteString getHash() {
-      return hash_;
+    public com.google.protobuf.ByteString getSignature() {
+      return signature_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -5653,8 +7102,8 @@ public final class Proto {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!hash_.isEmpty()) {
-        output.writeBytes(1, hash_);
+      if (!signature_.isEmpty()) {
+        output.writeBytes(1, signature_);
       }
     }
 
@@ -5663,67 +7112,67 @@ public final class Proto {
       if (size != -1) return size;
 
       size = 0;
-      if (!hash_.isEmpty()) {
+      if (!signature_.isEmpty()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, hash_);
+          .computeBytesSize(1, signature_);
       }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static com.shuffle.player.proto.Proto.Hash parseFrom(
+    public static com.shuffle.player.proto.Proto.Signature parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseFrom(
+    public static com.shuffle.player.proto.Proto.Signature parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseFrom(byte[] data)
+    public static com.shuffle.player.proto.Proto.Signature parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseFrom(
+    public static com.shuffle.player.proto.Proto.Signature parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.Signature parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseFrom(
+    public static com.shuffle.player.proto.Proto.Signature parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseDelimitedFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.Signature parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseDelimitedFrom(
+    public static com.shuffle.player.proto.Proto.Signature parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseFrom(
+    public static com.shuffle.player.proto.Proto.Signature parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseFrom(
+    public static com.shuffle.player.proto.Proto.Signature parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5735,7 +7184,7 @@ public final class Proto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shuffle.player.proto.Proto.Hash prototype) {
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.Signature prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -5750,25 +7199,25 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code Hash}
+     * Protobuf type {@code Signature}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Hash)
-        com.shuffle.player.proto.Proto.HashOrBuilder {
+        // @@protoc_insertion_point(builder_implements:Signature)
+        com.shuffle.player.proto.Proto.SignatureOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shuffle.player.proto.Proto.internal_static_Hash_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_Signature_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shuffle.player.proto.Proto.internal_static_Hash_fieldAccessorTable
+        return com.shuffle.player.proto.Proto.internal_static_Signature_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shuffle.player.proto.Proto.Hash.class, com.shuffle.player.proto.Proto.Hash.Builder.class);
+                com.shuffle.player.proto.Proto.Signature.class, com.shuffle.player.proto.Proto.Signature.Builder.class);
       }
 
-      // Construct using com.shuffle.player.proto.Proto.Hash.newBuilder()
+      // Construct using com.shuffle.player.proto.Proto.Signature.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5784,48 +7233,48 @@ public final class Proto {
       }
       public Builder clear() {
         super.clear();
-        hash_ = com.google.protobuf.ByteString.EMPTY;
+        signature_ = com.google.protobuf.ByteString.EMPTY;
 
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shuffle.player.proto.Proto.internal_static_Hash_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_Signature_descriptor;
       }
 
-      public com.shuffle.player.proto.Proto.Hash getDefaultInstanceForType() {
-        return com.shuffle.player.proto.Proto.Hash.getDefaultInstance();
+      public com.shuffle.player.proto.Proto.Signature getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.Signature.getDefaultInstance();
       }
 
-      public com.shuffle.player.proto.Proto.Hash build() {
-        com.shuffle.player.proto.Proto.Hash result = buildPartial();
+      public com.shuffle.player.proto.Proto.Signature build() {
+        com.shuffle.player.proto.Proto.Signature result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.shuffle.player.proto.Proto.Hash buildPartial() {
-        com.shuffle.player.proto.Proto.Hash result = new com.shuffle.player.proto.Proto.Hash(this);
-        result.hash_ = hash_;
+      public com.shuffle.player.proto.Proto.Signature buildPartial() {
+        com.shuffle.player.proto.Proto.Signature result = new com.shuffle.player.proto.Proto.Signature(this);
+        result.signature_ = signature_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shuffle.player.proto.Proto.Hash) {
-          return mergeFrom((com.shuffle.player.proto.Proto.Hash)other);
+        if (other instanceof com.shuffle.player.proto.Proto.Signature) {
+          return mergeFrom((com.shuffle.player.proto.Proto.Signature)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shuffle.player.proto.Proto.Hash other) {
-        if (other == com.shuffle.player.proto.Proto.Hash.getDefaultInstance()) return this;
-        if (other.getHash() != com.google.protobuf.ByteString.EMPTY) {
-          setHash(other.getHash());
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.Signature other) {
+        if (other == com.shuffle.player.proto.Proto.Signature.getDefaultInstance()) return this;
+        if (other.getSignature() != com.google.protobuf.ByteString.EMPTY) {
+          setSignature(other.getSignature());
         }
         onChanged();
         return this;
@@ -5839,11 +7288,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.shuffle.player.proto.Proto.Hash parsedMessage = null;
+        com.shuffle.player.proto.Proto.Signature parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.shuffle.player.proto.Proto.Hash) e.getUnfinishedMessage();
+          parsedMessage = (com.shuffle.player.proto.Proto.Signature) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -5853,31 +7302,31 @@ public final class Proto {
         return this;
       }
 
-      private com.google.protobuf.ByteString hash_ = com.google.protobuf.ByteString.EMPTY;
+      private com.google.protobuf.ByteString signature_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional bytes hash = 1;</code>
+       * <code>optional bytes signature = 1;</code>
        */
-      public com.google.protobuf.ByteString getHash() {
-        return hash_;
+      public com.google.protobuf.ByteString getSignature() {
+        return signature_;
       }
       /**
-       * <code>optional bytes hash = 1;</code>
+       * <code>optional bytes signature = 1;</code>
        */
-      public Builder setHash(com.google.protobuf.ByteString value) {
+      public Builder setSignature(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        hash_ = value;
+        signature_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional bytes hash = 1;</code>
+       * <code>optional bytes signature = 1;</code>
        */
-      public Builder clearHash() {
+      public Builder clearSignature() {
         
-        hash_ = getDefaultInstance().getHash();
+        signature_ = getDefaultInstance().getSignature();
         onChanged();
         return this;
       }
@@ -5892,66 +7341,71 @@ public final class Proto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:Hash)
+      // @@protoc_insertion_point(builder_scope:Signature)
     }
 
-    // @@protoc_insertion_point(class_scope:Hash)
-    private static final com.shuffle.player.proto.Proto.Hash DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:Signature)
+    private static final com.shuffle.player.proto.Proto.Signature DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Hash();
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Signature();
     }
 
-    public static com.shuffle.player.proto.Proto.Hash getDefaultInstance() {
+    public static com.shuffle.player.proto.Proto.Signature getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Hash>
-        PARSER = new com.google.protobuf.AbstractParser<Hash>() {
-      public Hash parsePartialFrom(
+    private static final com.google.protobuf.Parser<Signature>
+        PARSER = new com.google.protobuf.AbstractParser<Signature>() {
+      public Signature parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new Hash(input, extensionRegistry);
+          return new Signature(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Hash> parser() {
+    public static com.google.protobuf.Parser<Signature> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Hash> getParserForType() {
+    public com.google.protobuf.Parser<Signature> getParserForType() {
       return PARSER;
     }
 
-    public com.shuffle.player.proto.Proto.Hash getDefaultInstanceForType() {
+    public com.shuffle.player.proto.Proto.Signature getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface SignatureOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Signature)
+  public interface CiphertextOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Ciphertext)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional bytes signature = 1;</code>
+     * <code>optional bytes ciphertext = 1;</code>
      */
-    com.google.protobuf.ByteString getSignature();
+    com.google.protobuf.ByteString getCiphertext();
   }
   /**
-   * Protobuf type {@code Signature}
+   * <pre>
+   * Raw ciphertext, one layer of encryption on top of the other, so that each layer
+   * only adds the overhead of the encryption scheme.
+   * </pre>
+   *
+   * Protobuf type {@code Ciphertext}
    */
-  public  static final class Signature extends
+  public  static final class Ciphertext extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:Signature)
-      SignatureOrBuilder {
-    // Use Signature.newBuilder() to construct.
-    private Signature(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:Ciphertext)
+      CiphertextOrBuilder {
+    // Use Ciphertext.newBuilder() to construct.
+    private Ciphertext(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private Signature() {
-      signature_ = com.google.protobuf.ByteString.EMPTY;
+    private Ciphertext() {
+      ciphertext_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
@@ -5959,7 +7413,7 @@ public final class Proto {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private Signature(
+    private Ciphertext(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5981,7 +7435,7 @@ public final class Proto {
             }
             case 10: {
 
-              signature_ = input.readBytes();
+              ciphertext_ = input.readBytes();
               break;
             }
           }
@@ -5997,23 +7451,23 @@ public final class Proto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shuffle.player.proto.Proto.internal_static_Signature_descriptor;
+      return com.shuffle.player.proto.Proto.internal_static_Ciphertext_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shuffle.player.proto.Proto.internal_static_Signature_fieldAccessorTable
+      return com.shuffle.player.proto.Proto.internal_static_Ciphertext_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shuffle.player.proto.Proto.Signature.class, com.shuffle.player.proto.Proto.Signature.Builder.class);
+              com.shuffle.player.proto.Proto.Ciphertext.class, com.shuffle.player.proto.Proto.Ciphertext.Builder.class);
     }
 
-    public static final int SIGNATURE_FIELD_NUMBER = 1;
-    private com.google.protobuf.ByteString signature_;
+    public static final int CIPHERTEXT_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString ciphertext_;
     /**
-     * <code>optional bytes signature = 1;</code>
+     * <code>optional bytes ciphertext = 1;</code>
      */
-    public com.google.protobuf.ByteString getSignature() {
-      return signature_;
+    public com.google.protobuf.ByteString getCiphertext() {
+      return ciphertext_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -6028,8 +7482,8 @@ public final class Proto {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!signature_.isEmpty()) {
-        output.writeBytes(1, signature_);
+      if (!ciphertext_.isEmpty()) {
+        output.writeBytes(1, ciphertext_);
       }
     }
 
@@ -6038,67 +7492,67 @@ public final class Proto {
       if (size != -1) return size;
 
       size = 0;
-      if (!signature_.isEmpty()) {
+      if (!ciphertext_.isEmpty()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, signature_);
+          .computeBytesSize(1, ciphertext_);
       }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static com.shuffle.player.proto.Proto.Signature parseFrom(
+    public static com.shuffle.player.proto.Proto.Ciphertext parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseFrom(
+    public static com.shuffle.player.proto.Proto.Ciphertext parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseFrom(byte[] data)
+    public static com.shuffle.player.proto.Proto.Ciphertext parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseFrom(
+    public static com.shuffle.player.proto.Proto.Ciphertext parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.Ciphertext parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseFrom(
+    public static com.shuffle.player.proto.Proto.Ciphertext parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseDelimitedFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.Ciphertext parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseDelimitedFrom(
+    public static com.shuffle.player.proto.Proto.Ciphertext parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseFrom(
+    public static com.shuffle.player.proto.Proto.Ciphertext parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseFrom(
+    public static com.shuffle.player.proto.Proto.Ciphertext parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6110,7 +7564,7 @@ public final class Proto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shuffle.player.proto.Proto.Signature prototype) {
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.Ciphertext prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -6125,25 +7579,30 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code Signature}
+     * <pre>
+     * Raw ciphertext, one layer of encryption on top of the other, so that each layer
+     * only adds the overhead of the encryption scheme.
+     * </pre>
+     *
+     * Protobuf type {@code Ciphertext}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Signature)
-        com.shuffle.player.proto.Proto.SignatureOrBuilder {
+        // @@protoc_insertion_point(builder_implements:Ciphertext)
+        com.shuffle.player.proto.Proto.CiphertextOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shuffle.player.proto.Proto.internal_static_Signature_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_Ciphertext_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shuffle.player.proto.Proto.internal_static_Signature_fieldAccessorTable
+        return com.shuffle.player.proto.Proto.internal_static_Ciphertext_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shuffle.player.proto.Proto.Signature.class, com.shuffle.player.proto.Proto.Signature.Builder.class);
+                com.shuffle.player.proto.Proto.Ciphertext.class, com.shuffle.player.proto.Proto.Ciphertext.Builder.class);
       }
 
-      // Construct using com.shuffle.player.proto.Proto.Signature.newBuilder()
+      // Construct using com.shuffle.player.proto.Proto.Ciphertext.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6159,48 +7618,48 @@ public final class Proto {
       }
       public Builder clear() {
         super.clear();
-        signature_ = com.google.protobuf.ByteString.EMPTY;
+        ciphertext_ = com.google.protobuf.ByteString.EMPTY;
 
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shuffle.player.proto.Proto.internal_static_Signature_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_Ciphertext_descriptor;
       }
 
-      public com.shuffle.player.proto.Proto.Signature getDefaultInstanceForType() {
-        return com.shuffle.player.proto.Proto.Signature.getDefaultInstance();
+      public com.shuffle.player.proto.Proto.Ciphertext getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.Ciphertext.getDefaultInstance();
       }
 
-      public com.shuffle.player.proto.Proto.Signature build() {
-        com.shuffle.player.proto.Proto.Signature result = buildPartial();
+      public com.shuffle.player.proto.Proto.Ciphertext build() {
+        com.shuffle.player.proto.Proto.Ciphertext result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.shuffle.player.proto.Proto.Signature buildPartial() {
-        com.shuffle.player.proto.Proto.Signature result = new com.shuffle.player.proto.Proto.Signature(this);
-        result.signature_ = signature_;
+      public com.shuffle.player.proto.Proto.Ciphertext buildPartial() {
+        com.shuffle.player.proto.Proto.Ciphertext result = new com.shuffle.player.proto.Proto.Ciphertext(this);
+        result.ciphertext_ = ciphertext_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shuffle.player.proto.Proto.Signature) {
-          return mergeFrom((com.shuffle.player.proto.Proto.Signature)other);
+        if (other instanceof com.shuffle.player.proto.Proto.Ciphertext) {
+          return mergeFrom((com.shuffle.player.proto.Proto.Ciphertext)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shuffle.player.proto.Proto.Signature other) {
-        if (other == com.shuffle.player.proto.Proto.Signature.getDefaultInstance()) return this;
-        if (other.getSignature() != com.google.protobuf.ByteString.EMPTY) {
-          setSignature(other.getSignature());
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.Ciphertext other) {
+        if (other == com.shuffle.player.proto.Proto.Ciphertext.getDefaultInstance()) return this;
+        if (other.getCiphertext() != com.google.protobuf.ByteString.EMPTY) {
+          setCiphertext(other.getCiphertext());
         }
         onChanged();
         return this;
@@ -6214,11 +7673,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.shuffle.player.proto.Proto.Signature parsedMessage = null;
+        com.shuffle.player.proto.Proto.Ciphertext parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.shuffle.player.proto.Proto.Signature) e.getUnfinishedMessage();
+          parsedMessage = (com.shuffle.player.proto.Proto.Ciphertext) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -6228,31 +7687,31 @@ public final class Proto {
         return this;
       }
 
-      private com.google.protobuf.ByteString signature_ = com.google.protobuf.ByteString.EMPTY;
+      private com.google.protobuf.ByteString ciphertext_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional bytes signature = 1;</code>
+       * <code>optional bytes ciphertext = 1;</code>
        */
-      public com.google.protobuf.ByteString getSignature() {
-        return signature_;
+      public com.google.protobuf.ByteString getCiphertext() {
+        return ciphertext_;
       }
       /**
-       * <code>optional bytes signature = 1;</code>
+       * <code>optional bytes ciphertext = 1;</code>
        */
-      public Builder setSignature(com.google.protobuf.ByteString value) {
+      public Builder setCiphertext(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        signature_ = value;
+        ciphertext_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional bytes signature = 1;</code>
+       * <code>optional bytes ciphertext = 1;</code>
        */
-      public Builder clearSignature() {
+      public Builder clearCiphertext() {
         
-        signature_ = getDefaultInstance().getSignature();
+        ciphertext_ = getDefaultInstance().getCiphertext();
         onChanged();
         return this;
       }
@@ -6267,39 +7726,39 @@ public final class Proto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:Signature)
+      // @@protoc_insertion_point(builder_scope:Ciphertext)
     }
 
-    // @@protoc_insertion_point(class_scope:Signature)
-    private static final com.shuffle.player.proto.Proto.Signature DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:Ciphertext)
+    private static final com.shuffle.player.proto.Proto.Ciphertext DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Signature();
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Ciphertext();
     }
 
-    public static com.shuffle.player.proto.Proto.Signature getDefaultInstance() {
+    public static com.shuffle.player.proto.Proto.Ciphertext getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Signature>
-        PARSER = new com.google.protobuf.AbstractParser<Signature>() {
-      public Signature parsePartialFrom(
+    private static final com.google.protobuf.Parser<Ciphertext>
+        PARSER = new com.google.protobuf.AbstractParser<Ciphertext>() {
+      public Ciphertext parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new Signature(input, extensionRegistry);
+          return new Ciphertext(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Signature> parser() {
+    public static com.google.protobuf.Parser<Ciphertext> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Signature> getParserForType() {
+    public com.google.protobuf.Parser<Ciphertext> getParserForType() {
       return PARSER;
     }
 
-    public com.shuffle.player.proto.Proto.Signature getDefaultInstanceForType() {
+    public com.shuffle.player.proto.Proto.Ciphertext getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -9067,6 +10526,11 @@ public final class Proto {
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_Packet_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Envelope_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Envelope_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_Message_descriptor;
   private static final 
@@ -9102,6 +10566,11 @@ public final class Proto {
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_Signature_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Ciphertext_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Ciphertext_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_Transaction_descriptor;
   private static final 
@@ -9132,39 +10601,43 @@ public final class Proto {
   static {
     java.lang.String[] descriptorData = {
       "\n4src/main/java/com/shuffle/player/proto" +
-      "/message.proto\"@\n\006Signed\022\027\n\006packet\030\001 \001(\013" +
+      "/message.proto\"]\n\006Signed\022\027\n\006packet\030\001 \001(\013" +
       "2\007.Packet\022\035\n\tsignature\030\002 \001(\0132\n.Signature" +
-      "\"\231\001\n\006Packet\022\017\n\007session\030\001 \001(\014\022\016\n\006number\030\002" +
-      " \001(\r\022\036\n\004from\030\003 \001(\0132\020.VerificationKey\022\034\n\002" +
-      "to\030\004 \001(\0132\020.VerificationKey\022\025\n\005phase\030\005 \001(" +
-      "\0162\006.Phase\022\031\n\007message\030\006 \001(\0132\010.Message\"\261\001\n" +
-      "\007Message\022\031\n\007address\030\001 \001(\0132\010.Address\022\033\n\003k" +
-      "ey\030\002 \001(\0132\016.EncryptionKey\022\023\n\004hash\030\003 \001(\0132\005" +
-      ".Hash\022\035\n\tsignature\030\004 \001(\0132\n.Signature\022\013\n\003",
-      "str\030\005 \001(\t\022\025\n\005blame\030\006 \001(\0132\006.Blame\022\026\n\004next" +
-      "\030\007 \001(\0132\010.Message\"\032\n\007Address\022\017\n\007address\030\001" +
-      " \001(\t\"\036\n\017VerificationKey\022\013\n\003key\030\001 \001(\t\"\034\n\r" +
-      "EncryptionKey\022\013\n\003key\030\001 \001(\t\",\n\rDecryption" +
-      "Key\022\013\n\003key\030\001 \001(\t\022\016\n\006public\030\002 \001(\t\"\024\n\004Hash" +
-      "\022\014\n\004hash\030\001 \001(\014\"\036\n\tSignature\022\021\n\tsignature" +
-      "\030\001 \001(\014\"\"\n\013Transaction\022\023\n\013transaction\030\001 \001" +
-      "(\014\"\271\001\n\005Blame\022\027\n\006reason\030\001 \001(\0162\007.Reason\022!\n" +
-      "\007accused\030\002 \001(\0132\020.VerificationKey\022\033\n\003key\030" +
-      "\003 \001(\0132\016.DecryptionKey\022!\n\013transaction\030\004 \001",
-      "(\0132\014.Transaction\022\031\n\007invalid\030\005 \001(\0132\010.Inva" +
-      "lid\022\031\n\007packets\030\006 \001(\0132\010.Packets\"\032\n\007Invali" +
-      "d\022\017\n\007invalid\030\001 \001(\014\"\"\n\007Packets\022\027\n\006packet\030" +
-      "\001 \003(\0132\007.Signed*\220\001\n\005Phase\022\010\n\004NONE\020\000\022\020\n\014AN" +
-      "NOUNCEMENT\020\001\022\013\n\007SHUFFLE\020\002\022\r\n\tBROADCAST\020\003" +
-      "\022\026\n\022EQUIVOCATION_CHECK\020\004\022\013\n\007SIGNING\020\005\022\037\n" +
-      "\033VERIFICATION_AND_SUBMISSION\020\006\022\t\n\005BLAME\020" +
-      "\007*\306\001\n\006Reason\022\025\n\021INSUFFICIENTFUNDS\020\000\022\017\n\013D" +
-      "OUBLESPEND\020\001\022\027\n\023EQUIVOCATIONFAILURE\020\002\022\022\n" +
-      "\016SHUFFLEFAILURE\020\003\022!\n\035SHUFFLEANDEQUIVOCAT",
-      "IONFAILURE\020\004\022\024\n\020INVALIDSIGNATURE\020\005\022\021\n\rMI" +
-      "SSINGOUTPUT\020\006\022\010\n\004LIAR\020\007\022\021\n\rINVALIDFORMAT" +
-      "\020\010B!\n\030com.shuffle.player.protoB\005Protob\006p" +
-      "roto3"
+      "\022\033\n\010envelope\030\003 \001(\0132\t.Envelope\"\254\001\n\006Packet" +
+      "\022\017\n\007session\030\001 \001(\014\022\016\n\006number\030\002 \001(\r\022\036\n\004fro" +
+      "m\030\003 \001(\0132\020.VerificationKey\022\034\n\002to\030\004 \001(\0132\020." +
+      "VerificationKey\022\025\n\005phase\030\005 \001(\0162\006.Phase\022\031" +
+      "\n\007message\030\006 \001(\0132\010.Message\022\021\n\tbroadcast\030\007" +
+      " \001(\010\"8\n\010Envelope\022\034\n\002to\030\001 \001(\0132\020.Verificat" +
+      "ionKey\022\016\n\006number\030\002 \001(\r\"\322\001\n\007Message\022\031\n\007ad",
+      "dress\030\001 \001(\0132\010.Address\022\033\n\003key\030\002 \001(\0132\016.Enc" +
+      "ryptionKey\022\023\n\004hash\030\003 \001(\0132\005.Hash\022\035\n\tsigna" +
+      "ture\030\004 \001(\0132\n.Signature\022\013\n\003str\030\005 \001(\t\022\025\n\005b" +
+      "lame\030\006 \001(\0132\006.Blame\022\026\n\004next\030\007 \001(\0132\010.Messa" +
+      "ge\022\037\n\nciphertext\030\010 \001(\0132\013.Ciphertext\"\032\n\007A" +
+      "ddress\022\017\n\007address\030\001 \001(\t\"\036\n\017VerificationK" +
+      "ey\022\013\n\003key\030\001 \001(\t\"\034\n\rEncryptionKey\022\013\n\003key\030" +
+      "\001 \001(\t\",\n\rDecryptionKey\022\013\n\003key\030\001 \001(\t\022\016\n\006p" +
+      "ublic\030\002 \001(\t\"\024\n\004Hash\022\014\n\004hash\030\001 \001(\014\"\036\n\tSig" +
+      "nature\022\021\n\tsignature\030\001 \001(\014\" \n\nCiphertext\022",
+      "\022\n\nciphertext\030\001 \001(\014\"\"\n\013Transaction\022\023\n\013tr" +
+      "ansaction\030\001 \001(\014\"\271\001\n\005Blame\022\027\n\006reason\030\001 \001(" +
+      "\0162\007.Reason\022!\n\007accused\030\002 \001(\0132\020.Verificati" +
+      "onKey\022\033\n\003key\030\003 \001(\0132\016.DecryptionKey\022!\n\013tr" +
+      "ansaction\030\004 \001(\0132\014.Transaction\022\031\n\007invalid" +
+      "\030\005 \001(\0132\010.Invalid\022\031\n\007packets\030\006 \001(\0132\010.Pack" +
+      "ets\"\032\n\007Invalid\022\017\n\007invalid\030\001 \001(\014\"\"\n\007Packe" +
+      "ts\022\027\n\006packet\030\001 \003(\0132\007.Signed*\220\001\n\005Phase\022\010\n" +
+      "\004NONE\020\000\022\020\n\014ANNOUNCEMENT\020\001\022\013\n\007SHUFFLE\020\002\022\r" +
+      "\n\tBROADCAST\020\003\022\026\n\022EQUIVOCATION_CHECK\020\004\022\013\n",
+      "\007SIGNING\020\005\022\037\n\033VERIFICATION_AND_SUBMISSIO" +
+      "N\020\006\022\t\n\005BLAME\020\007*\306\001\n\006Reason\022\025\n\021INSUFFICIEN" +
+      "TFUNDS\020\000\022\017\n\013DOUBLESPEND\020\001\022\027\n\023EQUIVOCATIO" +
+      "NFAILURE\020\002\022\022\n\016SHUFFLEFAILURE\020\003\022!\n\035SHUFFL" +
+      "EANDEQUIVOCATIONFAILURE\020\004\022\024\n\020INVALIDSIGN" +
+      "ATURE\020\005\022\021\n\rMISSINGOUTPUT\020\006\022\010\n\004LIAR\020\007\022\021\n\r" +
+      "INVALIDFORMAT\020\010B!\n\030com.shuffle.player.pr" +
+      "otoB\005Protob\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -9183,75 +10656,87 @@ public final class Proto {
     internal_static_Signed_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Signed_descriptor,
-        new java.lang.String[] { "Packet", "Signature", });
+        new java.lang.String[] { "Packet", "Signature", "Envelope", });
     internal_static_Packet_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_Packet_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Packet_descriptor,
-        new java.lang.String[] { "Session", "Number", "From", "To", "Phase", "Message", });
-    internal_static_Message_descriptor =
+        new java.lang.String[] { "Session", "Number", "From", "To", "Phase", "Message", "Broadcast", });
+    internal_static_Envelope_descriptor =
       getDescriptor().getMessageTypes().get(2);
+    internal_static_Envelope_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Envelope_descriptor,
+        new java.lang.String[] { "To", "Number", });
+    internal_static_Message_descriptor =
+      getDescriptor().getMessageTypes().get(3);
     internal_static_Message_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Message_descriptor,
-        new java.lang.String[] { "Address", "Key", "Hash", "Signature", "Str", "Blame", "Next", });
+        new java.lang.String[] { "Address", "Key", "Hash", "Signature", "Str", "Blame", "Next", "Ciphertext", });
     internal_static_Address_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(4);
     internal_static_Address_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Address_descriptor,
         new java.lang.String[] { "Address", });
     internal_static_VerificationKey_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(5);
     internal_static_VerificationKey_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_VerificationKey_descriptor,
         new java.lang.String[] { "Key", });
     internal_static_EncryptionKey_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(6);
     internal_static_EncryptionKey_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_EncryptionKey_descriptor,
         new java.lang.String[] { "Key", });
     internal_static_DecryptionKey_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_DecryptionKey_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_DecryptionKey_descriptor,
         new java.lang.String[] { "Key", "Public", });
     internal_static_Hash_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_Hash_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Hash_descriptor,
         new java.lang.String[] { "Hash", });
     internal_static_Signature_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_Signature_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Signature_descriptor,
         new java.lang.String[] { "Signature", });
+    internal_static_Ciphertext_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_Ciphertext_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Ciphertext_descriptor,
+        new java.lang.String[] { "Ciphertext", });
     internal_static_Transaction_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_Transaction_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Transaction_descriptor,
         new java.lang.String[] { "Transaction", });
     internal_static_Blame_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_Blame_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Blame_descriptor,
         new java.lang.String[] { "Reason", "Accused", "Key", "Transaction", "Invalid", "Packets", });
     internal_static_Invalid_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_Invalid_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Invalid_descriptor,
         new java.lang.String[] { "Invalid", });
     internal_static_Packets_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_Packets_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Packets_descriptor,
@@ -12,6 +12,7 @@ import com.shuffle.bitcoin.Address;
 import com.shuffle.bitcoin.Coin;
 import com.shuffle.bitcoin.CoinNetworkException;
 import com.shuffle.bitcoin.Crypto;
+import com.shuffle.bitcoin.Decrypter;
 import com.shuffle.bitcoin.DecryptionKey;
 import com.shuffle.bitcoin.EncryptionKey;
 import com.shuffle.bitcoin.SigningKey;
@@ -34,6 +35,8 @@ import org.apache.logging.log4j.LogManager;
 import org.bitcoinj.core.AddressFormatException;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -46,6 +49,8 @@ import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  *
@@ -65,6 +70,8 @@ public class CoinShuffle {
 
     private final Coin coin;
 
+    private final Decrypter decrypter;
+
     final MessageFactory messages;
 
     // A single round of the protocol. It is possible that the players may go through
@@ -328,19 +335,26 @@ public class CoinShuffle {
             return queue;
         }
 
-        // The shuffle phase.
-        Message shufflePhase(Message shuffled, Address addrNew) throws FormatException {
-
-            // Add our own address to the mix. Note that if me == N, ie, the last player, then no
-            // encryption is done. That is because we have reached the last layer of encryption.
-            String encrypted = addrNew.toString();
+        // Wrap an address in a layer of encryption for each of the players who haven't had
+        // their turn yet. Note that if me == N, ie, the last player, then no encryption is
+        // done. That is because we have reached the last layer of encryption.
+        Bytestring encrypt(Address addr) {
+            Bytestring encrypted = new Bytestring(addr.toString().getBytes(StandardCharsets.UTF_8));
             for (int i = N; i > me; i--) {
                 // Successively encrypt with the keys of the players who haven't had their turn yet.
+                // Each layer works on the raw bytes of the one below it, so the size of the
+                // onion only grows by the overhead of the encryption for every layer.
                 encrypted = encryptionKeys.get(players.get(i)).encrypt(encrypted);
             }
 
-            // Insert new entry and reorder the keys.
-            return shuffle(shuffled.attach(encrypted));
+            return encrypted;
+        }
+
+        // The shuffle phase.
+        Message shufflePhase(Message shuffled, Address addrNew) throws FormatException {
+
+            // Add our own address to the mix, then insert new entry and reorder the keys.
+            return shuffle(shuffled.attachCiphertext(encrypt(addrNew)));
         }
 
         // In the broadcast phase, we have to either receive all the
@@ -371,18 +385,18 @@ public class CoinShuffle {
 
             Message decrypted = messages.make();
 
-            int count = 0;
-            Set<String> addrs = new HashSet<>(); // Used to check that all addresses are different.
+            List<Bytestring> encrypted = new ArrayList<>();
+            Set<Bytestring> addrs = new HashSet<>(); // Used to check that all addresses are different.
 
             while (!message.isEmpty()) {
-                String encrypted = message.readString();
+                Bytestring e = message.readCiphertext();
                 message = message.rest();
 
-                addrs.add(encrypted);
-                count++;
-                decrypted = decrypted.attach(key.decrypt(encrypted));
+                addrs.add(e);
+                encrypted.add(e);
             }
 
+            int count = encrypted.size();
             if (addrs.size() != count || count != expected) {
                 phase.set(Phase.Blame);
                 mailbox.broadcast(messages.make().attach(Blame.ShuffleFailure(players.get(N))),
@@ -391,6 +405,10 @@ public class CoinShuffle {
                 return null;
             }
 
+            for (Bytestring d : decrypter.decrypt(encrypted, key)) {
+                decrypted = decrypted.attachCiphertext(d);
+            }
+
             return decrypted;
         }
 
@@ -451,6 +469,15 @@ public class CoinShuffle {
             throw fillBlameMatrix();
         }
 
+        // The addresses of all players, in order.
+        private List<Address> addresses() {
+            List<Address> addresses = new ArrayList<>(players.size());
+            for (VerificationKey player : players.values()) {
+                addresses.add(player.address());
+            }
+            return addresses;
+        }
+
         // Check for players with insufficient funds.
         private void blameInsufficientFunds()
                 throws CoinNetworkException, TimeoutException, Matrix,
@@ -459,8 +486,9 @@ public class CoinShuffle {
             List<VerificationKey> offenders = new LinkedList<>();
 
             // Check that each participant has the required amounts.
+            Set<Address> insufficient = coin.insufficientFunds(addresses(), amount);
             for (VerificationKey player : players.values()) {
-                if (!coin.sufficientFunds(player.address(), amount)) {
+                if (insufficient.contains(player.address())) {
                     // Enter the blame phase.
                     offenders.add(player);
                 }
@@ -506,8 +534,9 @@ public class CoinShuffle {
 
             // Check for double spending.
             Message doubleSpend = messages.make();
+            Map<Address, Transaction> conflicts = coin.getConflictingTransactions(t, addresses(), amount);
             for (VerificationKey key : players.values()) {
-                Transaction o = coin.getConflictingTransaction(t, key.address(), amount);
+                Transaction o = conflicts.get(key.address());
                 if (o != null) {
                     doubleSpend = doubleSpend.attach(Blame.DoubleSpend(key, o));
                 }
@@ -644,11 +673,10 @@ public class CoinShuffle {
                                         // original packet containing the encryption key and the
                                         // packet with the mismatched key.
                                         Packet newKeyPacket = null;
-                                        Queue<Packet> newKeyPackets = mailbox.getPacketsByPhase(Phase.Announcement);
+                                        Queue<Packet> newKeyPackets = mailbox.getPacketsByPhase(
+                                                Phase.Announcement, packet.from());
                                         for (Packet p : newKeyPackets) {
-                                            if (p.from().equals(packet.from())) {
-                                                newKeyPacket = p;
-                                            }
+                                            newKeyPacket = p;
                                         }
                                         matrix.put(vk, Evidence.Liar(from, new Packet[]{newKeyPacket, packet}));
                                     }
@@ -778,7 +806,7 @@ public class CoinShuffle {
                     log.warn("leftover");
                     // TODO blame someone.
                 } else {
-                    Evidence shuffleEvidence = checkShuffleMisbehavior(players, decryptionKeys,
+                    Evidence shuffleEvidence = checkShuffleMisbehavior(decrypter, players, decryptionKeys,
                             shuffleMessages, outputEquivocate ? null : outputVectors);
                     if (shuffleEvidence != null) {
                         matrix.put(vk, shuffleEvidence);
@@ -878,33 +906,40 @@ public class CoinShuffle {
     // Algorithm to randomly shuffle the elements of a message.
     final Message shuffle(Message message) throws FormatException {
 
-        Message shuffled = messages.make();
-
-        // Read all elements of the packet and insert them in a Queue.
-        Queue<String> old = new LinkedList<>();
-        int N = 0;
+        // Read all elements of the packet into an array.
+        List<Bytestring> elements = new ArrayList<>();
         while (!message.isEmpty()) {
-            old.add(message.readString());
+            elements.add(message.readCiphertext());
             message = message.rest();
-            N++;
         }
 
-        // Then successively and randomly select which one will be inserted until none remain.
-        for (int i = N; i > 0; i--) {
-            // Get a random number between 0 and N - 1 inclusive.
-            int n = crypto.getRandom(i - 1);
+        Bytestring[] old = elements.toArray(new Bytestring[elements.size()]);
+        permute(old, crypto);
 
-            for (int j = 0; j < n; j++) {
-                old.add(old.remove());
-            }
-
-            // add the randomly selected element to the queue.
-            shuffled = shuffled.attach(old.remove());
+        Message shuffled = messages.make();
+        for (Bytestring element : old) {
+            shuffled = shuffled.attachCiphertext(element);
         }
 
         return shuffled;
     }
 
+    // Fisher-Yates shuffle in place. Position i is filled by an element chosen at random from
+    // those that have not been selected yet, so there is one random draw and one swap per
+    // element. The draws are crypto.getRandom(N - 1), crypto.getRandom(N - 2), ... getRandom(0),
+    // so that a sequence of zeros always leaves the array unchanged.
+    static <X> void permute(X[] array, Crypto crypto) {
+        int N = array.length;
+        for (int i = 0; i < N; i++) {
+            // Get a random number between i and N - 1 inclusive.
+            int j = i + crypto.getRandom(N - 1 - i);
+
+            X swap = array[j];
+            array[j] = array[i];
+            array[i] = swap;
+        }
+    }
+
     // Test whether a set of messages are equal.
     static synchronized boolean areEqual(Iterable<Message> messages) {
 
@@ -1017,17 +1052,24 @@ public class CoinShuffle {
     }
 
     private static Evidence checkShuffleMisbehavior(
+            Decrypter decrypter,
             Map<Integer, VerificationKey> players,
             Map<VerificationKey, DecryptionKey> decryptionKeys,
             Map<VerificationKey, Packet> shuffleMessages,
-            Map<VerificationKey, Packet> broadcastMessages) throws FormatException {
+            Map<VerificationKey, Packet> broadcastMessages) throws FormatException, InterruptedException {
 
-        if (players == null || decryptionKeys == null
+        if (decrypter == null || players == null || decryptionKeys == null
                 || shuffleMessages == null || broadcastMessages == null)
             throw new NullPointerException();
 
         SortedSet<String> outputs = new TreeSet<>();
 
+        // The keys that remove the remaining layers of encryption after player i.
+        List<DecryptionKey> layers = new ArrayList<>();
+        for (int k = 2; k <= players.size(); k++) {
+            layers.add(decryptionKeys.get(players.get(k)));
+        }
+
         // Go through the steps of shuffling messages.
         for (int i = 1; i < players.size(); i++) {
 
@@ -1042,18 +1084,20 @@ public class CoinShuffle {
 
             // Grab the correct number of addresses and decrypt them.
             // SortedSet<Address> addresses = new TreeSet<>();
-            SortedSet<String> decrypted = new TreeSet<>();
+            List<Bytestring> encrypted = new ArrayList<>(i);
             for (int j = 0; j < i; j++) {
                 if (message.isEmpty()) {
                     return Evidence.ShuffleMisbehaviorDropAddress(
                             players.get(i), decryptionKeys, shuffleMessages, broadcastMessages);
                 }
 
-                String address = message.readString();
+                encrypted.add(message.readCiphertext());
                 message = message.rest();
-                for (int k = i + 1; k <= players.size(); k++) {
-                    address = decryptionKeys.get(players.get(k)).decrypt(address);
-                }
+            }
+
+            SortedSet<String> decrypted = new TreeSet<>();
+            for (Bytestring d : decrypter.decrypt(encrypted, layers.subList(i - 1, layers.size()))) {
+                String address = new String(d.bytes(), StandardCharsets.UTF_8);
 
                 // There shouldn't be duplicates.
                 if (decrypted.contains(address)) {
@@ -1149,6 +1193,15 @@ public class CoinShuffle {
             MessageFactory messages, // Object that knows how to create and copy messages.
             Crypto crypto, // Connects to the cryptography.
             Coin coin // Connects us to the Bitcoin or other cryptocurrency netork.
+    ) {
+        this(messages, crypto, coin, ForkJoinPool.commonPool());
+    }
+
+    public CoinShuffle(
+            MessageFactory messages,
+            Crypto crypto,
+            Coin coin,
+            Executor decryption // Where to run decryptions. If null, they are done in sequence.
     ) {
         if (crypto == null || coin == null || messages == null) {
             throw new NullPointerException();
@@ -1156,6 +1209,7 @@ public class CoinShuffle {
         this.crypto = crypto;
         this.coin = coin;
         this.messages = messages;
+        this.decrypter = new Decrypter(decryption);
     }
 
     /**
@@ -19,9 +19,9 @@ import com.shuffle.protocol.message.Phase;
 import java.io.IOException;
 import java.net.ProtocolException;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
@@ -37,11 +37,67 @@ public class Mailbox {
     private final VerificationKey me;
     private final Collection<VerificationKey> players; // The keys representing all the players.
 
-    // A queue of messages that has been delivered that we aren't ready to look at yet.
-    private final Queue<Packet> delivered = new LinkedList<>();
+    // Packets organized by phase and by sender, each in the order in which they arrived.
+    private static class Packets {
+        private final Map<Phase, Queue<Packet>> byPhase = new EnumMap<>(Phase.class);
+        private final Map<Phase, Map<VerificationKey, Queue<Packet>>> bySender
+                = new EnumMap<>(Phase.class);
+
+        void add(Packet packet) {
+            Phase phase = packet.phase();
+
+            Queue<Packet> queue = byPhase.get(phase);
+            Map<VerificationKey, Queue<Packet>> senders = bySender.get(phase);
+            if (queue == null) {
+                queue = new LinkedList<>();
+                senders = new HashMap<>();
+                byPhase.put(phase, queue);
+                bySender.put(phase, senders);
+            }
+
+            Queue<Packet> fromSender = senders.get(packet.from());
+            if (fromSender == null) {
+                fromSender = new LinkedList<>();
+                senders.put(packet.from(), fromSender);
+            }
+
+            queue.add(packet);
+            fromSender.add(packet);
+        }
+
+        // Remove and return the earliest packet in the given phase, or null if there is none.
+        Packet poll(Phase phase) {
+            Queue<Packet> queue = byPhase.get(phase);
+            if (queue == null || queue.isEmpty()) {
+                return null;
+            }
+
+            // The earliest packet in the phase is also the earliest from its sender.
+            Packet packet = queue.remove();
+            bySender.get(phase).get(packet.from()).remove();
+            return packet;
+        }
+
+        Queue<Packet> get(Phase phase) {
+            Queue<Packet> queue = byPhase.get(phase);
+            return queue == null ? new LinkedList<Packet>() : queue;
+        }
+
+        Queue<Packet> get(Phase phase, VerificationKey from) {
+            Map<VerificationKey, Queue<Packet>> senders = bySender.get(phase);
+            Queue<Packet> queue = senders == null ? null : senders.get(from);
+            return queue == null ? new LinkedList<Packet>() : queue;
+        }
+    }
+
+    // Messages that have been delivered that we aren't ready to look at yet.
+    private final Packets delivered = new Packets();
 
     // All messages received (does not include those in delivered).
-    private final Queue<Packet> history = new LinkedList<>();
+    private final Packets history = new Packets();
+
+    // The number of packets from each phase that arrived before we were ready for them.
+    private final int[] buffered = new int[Phase.values().length];
 
     private final Set<Reason> blame = new HashSet<>();
 
@@ -64,6 +120,17 @@ public class Mailbox {
         return blame.size() > 0;
     }
 
+    // The number of packets in the given phase that have arrived early and had to be
+    // saved until we were ready to look at them.
+    public int buffered(Phase phase) {
+        return buffered[phase.ordinal()];
+    }
+
+    // The number of early packets in the given phase that are still waiting to be looked at.
+    public int pending(Phase phase) {
+        return delivered.get(phase).size();
+    }
+
     // Send a message into the network.
     public void send(Message m, Phase phase, VerificationKey to)
             throws IOException, InterruptedException, FormatException {
@@ -78,18 +145,25 @@ public class Mailbox {
         // If this is a message to myself, don't send it. Just pretend we received it.
         // This is useful later when we have to collect all blame messages later.
         if (to.equals(me)) {
-            history.add(packet);
-            if (packet.phase() == Phase.Blame) {
-                blame.add(packet.payload().readBlame().reason);
-            }
+            sentToMe(packet);
         }
     }
 
+    // Send a message to every player. It is signed only once.
     public void broadcast(Message message, Phase phase)
             throws IOException, InterruptedException, FormatException {
 
-        for (VerificationKey to : players) {
-            send(message, phase, to);
+        Map<VerificationKey, Packet> sent = message.broadcast(phase, players);
+
+        if (sent != null && sent.containsKey(me)) {
+            sentToMe(sent.get(me));
+        }
+    }
+
+    private void sentToMe(Packet packet) throws FormatException {
+        history.add(packet);
+        if (packet.phase() == Phase.Blame) {
+            blame.add(packet.payload().readBlame().reason);
         }
     }
 
@@ -97,22 +171,9 @@ public class Mailbox {
     // ahead under some circumstances, so we have to keep their messages to look at later.
     // It always returns a blame packet if encountered.
     private Packet receiveNextPacket(Phase expectedPhase) throws InterruptedException, IOException {
-        Packet found = null;
 
-        // Go through the queue of received messages if any are there.
-        if (delivered.size() > 0) {
-            Iterator<Packet> i = delivered.iterator();
-            while (i.hasNext()) {
-                Packet packet = i.next();
-
-                // Return any that matches what we're looking for.
-                if (expectedPhase == packet.phase()) {
-                    i.remove();
-                    found = packet;
-                    break;
-                }
-            }
-        }
+        // Check whether a packet in this phase has already been received.
+        Packet found = delivered.poll(expectedPhase);
 
         // Now we wait for the right message from the network, since we haven't already received it.
         if (found == null) {
@@ -131,6 +192,7 @@ public class Mailbox {
                 }
 
                 delivered.add(packet);
+                buffered[phase.ordinal()]++;
             }
         }
 
@@ -149,20 +211,15 @@ public class Mailbox {
 
     // Get all packets sent or received by phase. Used during blame phase.
     public Queue<Packet> getPacketsByPhase(Phase phase) {
-        Queue<Packet> selection = new LinkedList<>();
-
-        for (Packet packet : history) {
-            if (packet.phase() == phase) {
-                selection.add(packet);
-            }
-        }
-
-        for (Packet packet : delivered) {
-            if (packet.phase() == phase) {
-                selection.add(packet);
-            }
-        }
+        Queue<Packet> selection = new LinkedList<>(history.get(phase));
+        selection.addAll(delivered.get(phase));
+        return selection;
+    }
 
+    // Get all packets sent or received by phase from a given player.
+    public Queue<Packet> getPacketsByPhase(Phase phase, VerificationKey from) {
+        Queue<Packet> selection = new LinkedList<>(history.get(phase, from));
+        selection.addAll(delivered.get(phase, from));
         return selection;
     }
 
@@ -279,10 +336,8 @@ public class Mailbox {
         }
 
         // First get the blame messages in history.
-        for (Packet packet : history) {
-            if (packet.phase() == Phase.Blame) {
-                blame.get(packet.from()).add(packet);
-            }
+        for (Packet packet : history.get(Phase.Blame)) {
+            blame.get(packet.from()).add(packet);
         }
 
         // Then receive any more blame messages until there are no more.
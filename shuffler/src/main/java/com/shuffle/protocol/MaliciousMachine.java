@@ -18,6 +18,7 @@ import com.shuffle.bitcoin.SigningKey;
 import com.shuffle.bitcoin.Transaction;
 import com.shuffle.bitcoin.VerificationKey;
 import com.shuffle.chan.Send;
+import com.shuffle.p2p.Bytestring;
 import com.shuffle.protocol.blame.Blame;
 import com.shuffle.protocol.blame.BlameException;
 import com.shuffle.protocol.blame.Matrix;
@@ -243,7 +244,7 @@ public final class MaliciousMachine extends CoinShuffle {
             int i = 1;
             while (!shuffled.isEmpty()) {
                 if (i != drop) {
-                    dropped = dropped.attach(shuffled.readString());
+                    dropped = dropped.attachCiphertext(shuffled.readCiphertext());
                 }
                 shuffled = shuffled.rest();
                 i ++;
@@ -275,15 +276,15 @@ public final class MaliciousMachine extends CoinShuffle {
                 throws FormatException {
             Message findDuplcate = shuffled;
             shuffled = messages.make();
-            String duplicate = null;
+            Bytestring duplicate = null;
 
             int i = 1;
             while (!shuffled.isEmpty()) {
-                String address = findDuplcate.readString();
+                Bytestring address = findDuplcate.readCiphertext();
                 if (i == replace) {
                     duplicate = address;
                 }
-                shuffled = shuffled.attach(address);
+                shuffled = shuffled.attachCiphertext(address);
                 findDuplcate = findDuplcate.rest();
                 i++;
             }
@@ -292,9 +293,9 @@ public final class MaliciousMachine extends CoinShuffle {
             i = 1;
             while (!shuffled.isEmpty()) {
                 if (i != drop && duplicate != null) {
-                    dropped = dropped.attach(shuffled.readString());
+                    dropped = dropped.attachCiphertext(shuffled.readCiphertext());
                 } else {
-                    dropped = dropped.attach(duplicate);
+                    dropped = dropped.attachCiphertext(duplicate);
                 }
                 shuffled = shuffled.rest();
                 i ++;
@@ -329,9 +330,9 @@ public final class MaliciousMachine extends CoinShuffle {
             int i = 1;
             while (!shuffled.isEmpty()) {
                 if (i != drop) {
-                    dropped = dropped.attach(shuffled.readAddress());
+                    dropped = dropped.attachCiphertext(shuffled.readCiphertext());
                 } else {
-                    dropped = dropped.attach(replace);
+                    dropped = dropped.attachCiphertext(encrypt(replace));
                 }
                 shuffled = shuffled.rest();
                 i ++;
@@ -123,6 +123,14 @@ public class Blame implements Serializable {
                 && (invalid == blame.invalid || invalid != null && invalid.equals(blame.invalid));
     }
 
+    @Override
+    public int hashCode() {
+        int hash = reason.ordinal();
+        hash = hash * 15 + (accused == null ? 0 : accused.hashCode());
+        hash = hash * 15 + (invalid == null ? 0 : invalid.hashCode());
+        return hash;
+    }
+
     // Sent when a player has insufficient funds in his address.
     public static Blame InsufficientFunds(VerificationKey accused) {
         return new Blame(Reason.InsufficientFunds, accused, null, null, null, null);
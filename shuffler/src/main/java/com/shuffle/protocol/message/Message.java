@@ -17,6 +17,8 @@ import com.shuffle.protocol.blame.Blame;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * Created by Daniel Krawisz on 12/19/15.
@@ -34,6 +36,9 @@ public interface Message extends Serializable {
 
     Message attach(Blame blame);
 
+    // A layer of an onion. Kept apart from signatures, which are also just bytes.
+    Message attachCiphertext(Bytestring c);
+
     EncryptionKey readEncryptionKey() throws FormatException;
 
     Bytestring readSignature() throws FormatException;
@@ -44,6 +49,8 @@ public interface Message extends Serializable {
 
     Blame readBlame() throws FormatException;
 
+    Bytestring readCiphertext() throws FormatException;
+
     Message rest() throws FormatException;
 
     Message hashed() throws FormatException, IOException;
@@ -52,4 +59,9 @@ public interface Message extends Serializable {
     Packet send(Phase phase, VerificationKey to) throws // May be thrown if this protocol runs in an interruptable thread.
             InterruptedException,
             IOException; // May be thrown if the internet connection fails.
+
+    // Send to several players at once. Returns the packets that were sent, by recipient.
+    Map<VerificationKey, Packet> broadcast(Phase phase, Collection<VerificationKey> to) throws
+            InterruptedException,
+            IOException;
 }
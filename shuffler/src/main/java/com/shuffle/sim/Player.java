@@ -17,7 +17,6 @@ import com.shuffle.chan.BasicChan;
 import com.shuffle.chan.Chan;
 import com.shuffle.chan.Receive;
 import com.shuffle.chan.Send;
-import com.shuffle.chan.packet.JavaMarshaller;
 import com.shuffle.chan.packet.Packet;
 import com.shuffle.chan.packet.Signed;
 import com.shuffle.mock.InsecureRandom;
@@ -26,7 +25,7 @@ import com.shuffle.mock.MockProtobuf;
 import com.shuffle.p2p.Collector;
 import com.shuffle.p2p.MappedChannel;
 import com.shuffle.p2p.MarshallChannel;
-import com.shuffle.player.JavaShuffleMarshaller;
+import com.shuffle.player.BinaryShuffleMarshaller;
 import com.shuffle.player.Message;
 import com.shuffle.player.Messages;
 import com.shuffle.mock.MockSigningKey;
@@ -99,13 +98,14 @@ class Player<Address> implements Runnable {
     private final Send<Phase> msg ;
     private final Parameters<Address> param;
     private final Channel<VerificationKey, Signed<Packet<VerificationKey, P>>> channel;
+    private final Messages.ShuffleMarshaller marshaller = new BinaryShuffleMarshaller(new MockProtobuf());
 
     private Player(Parameters<Address> param, Send<Phase> msg, Channel<Address, Bytestring> channel) {
         this.param = param;
         this.msg = msg;
 
         this.channel = new MarshallChannel<>(new MappedChannel<>(channel, param.identities),
-                new JavaMarshaller<Signed<Packet<VerificationKey, P>>>());
+                marshaller.signedMarshaller());
     }
 
     static String readFile(String path, Charset encoding)
@@ -282,8 +282,7 @@ class Player<Address> implements Runnable {
         Messages messages = null;
 
         try {
-            messages = new Messages(param.session, param.me, m.connected, m.inbox,
-                    new JavaShuffleMarshaller());
+            messages = new Messages(param.session, param.me, m.connected, m.inbox, marshaller);
             return new CoinShuffle(
                     messages, param.init.crypto(), param.init.coin()
             ).runProtocol(
@@ -17,6 +17,8 @@ import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.util.HashSet;
+import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -131,6 +133,27 @@ public class BitcoinCryptoTest {
 
     }
 
+   @Test
+   public void testKeyPool() throws Exception {
+      BitcoinCrypto crypto = new BitcoinCrypto(testnet3);
+      crypto.setKeyPoolDepth(3);
+
+      // Give the pool a chance to fill up.
+      Thread.sleep(500);
+
+      // Keys come out of the pool and then are made on the spot when it runs dry,
+      // but a key is never given out twice.
+      Set<DecryptionKey> keys = new HashSet<>();
+      for (int i = 0; i < 8; i++) {
+         DecryptionKey dk = crypto.makeDecryptionKey();
+         assertTrue(keys.add(dk));
+         assertEquals("abc", dk.decrypt(dk.EncryptionKey().encrypt("abc")));
+      }
+
+      crypto.setKeyPoolDepth(0);
+      assertTrue(keys.add(crypto.makeDecryptionKey()));
+   }
+
    @Test
    public void testgetRandom() throws Exception {
       // get a lot of numbers and make sure they change?
@@ -213,7 +236,7 @@ public class BitcoinCryptoTest {
         byte[] expected = new byte[]{115, 111, -51, -41, -46, 15, -68, 58, -51,
                 103, -119, 46, 77, -66, 45, 40, 11, -79, -49, -26, -99, 73,
                 24, 40, -73, -6, 6, 115, 124, -70, 67, 110, 1};
-        byte[] decoded = BitcoinCrypto.ImportWif(key).bytes;
+        byte[] decoded = BitcoinCrypto.ImportWif(key).bytes();
         Assert.assertTrue(Arrays.equals(expected, decoded));
         System.out.println(decoded);
     }*/
@@ -5,6 +5,7 @@ import com.shuffle.JvmModule;
 import com.shuffle.bitcoin.Address;
 import com.shuffle.bitcoin.DecryptionKey;
 import com.shuffle.bitcoin.EncryptionKey;
+import com.shuffle.p2p.Bytestring;
 import com.shuffle.protocol.FormatException;
 
 import org.apache.commons.codec.binary.Hex;
@@ -137,4 +138,26 @@ public class DecryptionKeyImplTest {
         System.out.println("and then decrypted \n back to :\n" + decAddress);
         assertEquals(testAddress.toString(), decAddress.toString());
     }
+
+    @Test
+    public void testOnion() {
+        // Each layer of the onion should add the same amount to its size.
+        Bytestring address = new Bytestring("myGgn8UojMsyqn6KGQLEbVbpYSePcKfawG".getBytes());
+
+        Bytestring onion = address;
+        int overhead = -1;
+        for (int i = 0; i < 5; i++) {
+            Bytestring layer = encryptionKey.encrypt(onion);
+            if (overhead < 0) {
+                overhead = layer.length() - onion.length();
+            }
+            assertEquals(overhead, layer.length() - onion.length());
+            onion = layer;
+        }
+
+        for (int i = 0; i < 5; i++) {
+            onion = decryptionKey.decrypt(onion);
+        }
+        assertEquals(address, onion);
+    }
 }
@@ -0,0 +1,65 @@
+package com.shuffle.bitcoin.impl;
+
+import org.junit.Test;
+
+import java.security.SecureRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for Drbg, including the seeded mode that only tests use.
+ */
+public class DrbgTest {
+
+   @Test
+   public void testSeeded() {
+      Drbg a = new Drbg(73);
+      Drbg b = new Drbg(73);
+      Drbg c = new Drbg(74);
+
+      int[] counts = new int[5];
+      boolean different = false;
+      for (int i = 0; i < 500; i++) {
+         int r = a.nextInt(4);
+         assertEquals(r, b.nextInt(4));
+         different |= r != c.nextInt(4);
+         counts[r]++;
+      }
+
+      assertTrue(different);
+      for (int count : counts) {
+         assertTrue(count > 50);
+      }
+   }
+
+   @Test
+   public void testUnseeded() {
+      Drbg a = new Drbg();
+      Drbg b = new Drbg();
+
+      boolean different = false;
+      for (int i = 0; i < 20; i++) {
+         different |= a.nextInt(Integer.MAX_VALUE) != b.nextInt(Integer.MAX_VALUE);
+      }
+      assertTrue(different);
+   }
+
+   @Test
+   public void testUniform() {
+      SecureRandom random = new Drbg().get();
+
+      assertEquals(0, Drbg.uniform(random, 0));
+      for (int n : new int[]{1, 2, 3, 7, 8, 1000, Integer.MAX_VALUE}) {
+         for (int i = 0; i < 100; i++) {
+            int r = Drbg.uniform(random, n);
+            assertTrue(r >= 0 && r <= n);
+         }
+      }
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testNegative() {
+      new Drbg().nextInt(-1);
+   }
+}
@@ -60,10 +60,10 @@ public class SigningKeyImplTest {
       Bytestring hello = new Bytestring("Hello World".getBytes());
       System.out.println("Bytestring :"+ hello);
       System.out.println("Bytestring signed: "+ signingKey.sign(hello));
-      byte[] bytes = signingKey.sign(hello).bytes;
+      byte[] bytes = signingKey.sign(hello).bytes();
       // deterministic should bring same result
-      byte[] bytes2 = signingKey.sign(hello).bytes;
-      byte[] bytes3 = signingKey.sign(hello).bytes;
+      byte[] bytes2 = signingKey.sign(hello).bytes();
+      byte[] bytes3 = signingKey.sign(hello).bytes();
       System.out.println("toHexString bytes:  "+Hex.toHexString(bytes));
       System.out.println("toHexString bytes2: "+Hex.toHexString(bytes));
       System.out.println("toHexString bytes3: "+Hex.toHexString(bytes));
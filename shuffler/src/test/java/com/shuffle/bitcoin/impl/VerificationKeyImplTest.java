@@ -0,0 +1,62 @@
+package com.shuffle.bitcoin.impl;
+
+import org.bitcoinj.core.ECKey;
+import org.bitcoinj.core.NetworkParameters;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the values VerificationKeyImpl computes ahead of time agree with its address.
+ */
+public class VerificationKeyImplTest {
+   private final NetworkParameters testnet = NetworkParameters.fromID(NetworkParameters.ID_TESTNET);
+   private final NetworkParameters mainnet = NetworkParameters.fromID(NetworkParameters.ID_MAINNET);
+
+   @Test
+   public void testCompareAndEquals() {
+      List<VerificationKeyImpl> keys = new ArrayList<>();
+      for (int i = 0; i < 50; i++) {
+         keys.add(new VerificationKeyImpl(new ECKey().getPubKey(), testnet));
+      }
+
+      for (VerificationKeyImpl a : keys) {
+         // A key read back from its string is the same key.
+         VerificationKeyImpl copy = new VerificationKeyImpl(a.toString(), testnet);
+         assertEquals(a, copy);
+         assertEquals(a.hashCode(), copy.hashCode());
+         assertEquals(0, a.compareTo(copy));
+
+         // Keys are still ordered by their addresses.
+         for (VerificationKeyImpl b : keys) {
+            int expected = a.address().toString().compareTo(b.address().toString());
+            assertEquals(Integer.signum(expected), Integer.signum(a.compareTo(b)));
+            assertEquals(expected == 0, a.equals(b));
+         }
+      }
+   }
+
+   @Test
+   public void testDifferentAddresses() {
+      ECKey key = new ECKey();
+
+      // The uncompressed form of a key has a different address.
+      VerificationKeyImpl compressed = new VerificationKeyImpl(key.getPubKey(), testnet);
+      VerificationKeyImpl uncompressed = new VerificationKeyImpl(
+            key.decompress().getPubKey(), testnet);
+      assertFalse(compressed.equals(uncompressed));
+
+      // So does the same key on another network.
+      VerificationKeyImpl main = new VerificationKeyImpl(key.getPubKey(), mainnet);
+      assertFalse(compressed.equals(main));
+      assertNotEquals(0, compressed.compareTo(main));
+
+      assertTrue(compressed.equals(new VerificationKeyImpl(key.getPubKey(), testnet)));
+   }
+}
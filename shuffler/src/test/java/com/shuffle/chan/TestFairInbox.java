@@ -0,0 +1,84 @@
+package com.shuffle.chan;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests that a flooding sender cannot crowd out anyone else in a FairInbox.
+ */
+public class TestFairInbox {
+
+    @Test
+    public void testFairInbox() throws InterruptedException, IOException {
+        int[][][] cases = new int[][][]{
+                {{}, {}},
+                {{1}, {1, 1, 1}},
+                {{1, 2}, {2, 1}},
+                {{1, 2}, {1, 2, 1}}
+        };
+
+        for (int[][] c : cases) {
+            TestInbox.runTest(new FairInbox<Integer, Integer>(100), c[0], c[1]);
+        }
+    }
+
+    @Test
+    public void testFlood() throws InterruptedException, IOException {
+        FairInbox<Integer, String> inbox = new FairInbox<>(5, 20, new RateLimitedSend.Size<String>() {
+            @Override
+            public double size(String s) {
+                return s.length();
+            }
+        });
+
+        Send<String> flood = inbox.receivesFrom(1);
+        Send<String> honest = inbox.receivesFrom(2);
+        Send<String> big = inbox.receivesFrom(3);
+
+        // The flooding sender runs into his message quota.
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(flood.send("f" + i));
+        }
+        for (int i = 0; i < 10; i++) {
+            Assert.assertFalse(flood.send("f"));
+        }
+
+        // Another runs into his byte quota.
+        Assert.assertTrue(big.send("0123456789"));
+        Assert.assertTrue(big.send("0123456789"));
+        Assert.assertFalse(big.send("x"));
+
+        // Everyone else can still get through.
+        Assert.assertTrue(honest.send("h0"));
+        Assert.assertTrue(honest.send("h1"));
+
+        FairInbox.Counters c = inbox.counters(1);
+        Assert.assertEquals(5, c.received);
+        Assert.assertEquals(10, c.dropped);
+        Assert.assertEquals(5, c.backlog);
+        Assert.assertEquals(1, inbox.counters(3).dropped);
+        Assert.assertEquals(20, inbox.counters(3).backlogSize, 0);
+        Assert.assertNull(inbox.counters(4));
+
+        // Senders are received from in turn.
+        String[] expected = new String[]{
+                "f0", "0123456789", "h0", "f1", "0123456789", "h1", "f2", "f3", "f4"};
+        for (String e : expected) {
+            Assert.assertEquals(e, inbox.receive(10, TimeUnit.MILLISECONDS).payload);
+        }
+
+        Assert.assertNull(inbox.receive(10, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(0, inbox.counters(1).backlog);
+
+        // There is room again once messages have been received.
+        Assert.assertTrue(flood.send("f5"));
+
+        inbox.close();
+        Assert.assertEquals("f5", inbox.receive().payload);
+        Assert.assertNull(inbox.receive());
+        Assert.assertFalse(honest.send("h2"));
+    }
+}
@@ -21,6 +21,11 @@ public class TestInbox {
     static int testNum = 0;
 
     public static void runTest(int[] tpeers, int[] tmessages) throws InterruptedException, IOException {
+        runTest(new BasicInbox<Integer, Integer>(100), tpeers, tmessages);
+    }
+
+    public static void runTest(Inbox<Integer, Integer> inbox, int[] tpeers, int[] tmessages)
+            throws InterruptedException, IOException {
         testNum++;
         System.out.println("Test case " + testNum);
 
@@ -30,7 +35,6 @@ public class TestInbox {
         // Who should messages be sent from in this test?
         final List<Integer> messages = new LinkedList<>();
 
-        final Inbox<Integer, Integer> inbox = new Inbox<>(100);
         final Map<Integer, Send<Integer>> send = new HashMap<>();
             
         for (int p : tpeers) {
@@ -0,0 +1,91 @@
+package com.shuffle.chan;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for Select.
+ */
+public class TestSelect {
+
+    // Send something on a chan after a while.
+    private static <X> void later(final Send<X> send, final X x, final long wait) {
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(wait);
+                    if (x == null) {
+                        send.close();
+                    } else {
+                        send.send(x);
+                    }
+                } catch (InterruptedException | IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }).start();
+    }
+
+    @Test
+    public void testSelect() throws InterruptedException, IOException {
+        BasicChan<String> a = new BasicChan<>(2);
+        BasicChan<Integer> b = new BasicChan<>(2);
+        Inbox<Integer, String> inbox = new BasicInbox<>(10);
+        FairInbox<Integer, String> fair = new FairInbox<>(10);
+
+        // Something that is already there is returned immediately.
+        b.send(3);
+        Select.Selection s = Select.select(a, b);
+        Assert.assertEquals(1, s.index);
+        Assert.assertEquals(3, (int) s.get(b));
+        Assert.assertNull(s.get(a));
+
+        // Nothing arrives before the deadline.
+        long start = System.nanoTime();
+        Assert.assertNull(Select.select(50, TimeUnit.MILLISECONDS, a, b));
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+
+        // We are woken up by whichever source gets a message first.
+        later(a, "x", 50);
+        Assert.assertEquals("x", Select.select(5, TimeUnit.SECONDS, a, b).get(a));
+
+        Select.Selectable<?>[] inboxes = new Select.Selectable<?>[]{inbox, fair};
+        Inbox<?, ?>[] boxes = new Inbox<?, ?>[]{inbox, fair};
+        for (int i = 0; i < boxes.length; i++) {
+            @SuppressWarnings("unchecked")
+            Inbox<Integer, String> box = (Inbox<Integer, String>) boxes[i];
+            later(box.receivesFrom(i), "m" + i, 20);
+
+            s = Select.select(5, TimeUnit.SECONDS, inboxes);
+            Assert.assertNotNull(s);
+            Assert.assertEquals(i, s.index);
+            Assert.assertEquals("m" + i, ((Inbox.Envelope<?, ?>) s.value).payload);
+        }
+
+        // A closed chan is not finished until everything in it has been taken.
+        BasicChan<String> c = new BasicChan<>(2);
+        c.send("y");
+        c.close();
+        Assert.assertFalse(c.finished());
+        Assert.assertEquals("y", Select.select(5, TimeUnit.SECONDS, c).get(c));
+        Assert.assertTrue(c.finished());
+
+        // Closing a source also wakes us up.
+        later(b, null, 50);
+        s = Select.select(5, TimeUnit.SECONDS, a, b);
+        Assert.assertNotNull(s);
+        Assert.assertEquals(1, s.index);
+        Assert.assertNull(s.value);
+
+        for (Inbox<?, ?> box : boxes) {
+            box.close();
+            s = Select.select(5, TimeUnit.SECONDS, a, box);
+            Assert.assertEquals(box, s.from);
+            Assert.assertNull(s.value);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.shuffle.p2p;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -39,7 +40,7 @@ public class TestBytestring {
         Bytestring[] results = new Bytestring(input).chop(chop);
         byte[][] resultBAs = new byte[results.length][];
         for(int i=0; i<results.length; i++) {
-            resultBAs[i] = results[i].bytes;
+            resultBAs[i] = results[i].bytes();
         }
         String msg = "Chop test case; expected " + Arrays.deepToString(expected)
                 + "; result " + Arrays.deepToString(resultBAs);
@@ -88,4 +89,37 @@ public class TestBytestring {
     public void testChopFailsChoppingOutOfOrder() {
         chopTestCase(new byte[]{1, 3, 4}, new int[]{2, 1}, null);
     }
+
+    @Test
+    public void testViews() {
+        Bytestring whole = new Bytestring(new byte[]{1, 2, 3, 4, 5, 6});
+        Bytestring middle = whole.drop(1).drop(-1);
+        Bytestring expected = new Bytestring(new byte[]{2, 3, 4, 5});
+
+        // Views are equal to anything with the same bytes.
+        Assert.assertEquals(expected, middle);
+        Assert.assertEquals(middle, expected);
+        Assert.assertEquals(expected.hashCode(), middle.hashCode());
+        Assert.assertEquals(4, middle.length());
+        Assert.assertEquals(5, middle.get(3));
+        Assert.assertArrayEquals(expected.bytes(), middle.bytes());
+        Assert.assertNotEquals(whole.take(0, 2), whole.take(2, 4));
+
+        // Slices of views.
+        Bytestring[] chopped = middle.chop(new int[]{1, 3});
+        Assert.assertEquals(new Bytestring(new byte[]{2}), chopped[0]);
+        Assert.assertEquals(new Bytestring(new byte[]{3, 4}), chopped[1]);
+        Assert.assertEquals(new Bytestring(new byte[]{5}), chopped[2]);
+
+        Assert.assertEquals(new Bytestring(new byte[]{2, 3, 4, 5, 1}), middle.append(whole.take(0, 1)));
+        Assert.assertEquals(new Bytestring(new byte[]{0, 0, 0, 0}), middle.xor(middle.copy()));
+
+        ByteBuffer buffer = middle.asByteBuffer();
+        Assert.assertEquals(4, buffer.remaining());
+        Assert.assertEquals(2, buffer.get());
+        Assert.assertTrue(buffer.isReadOnly());
+
+        // A whole array is not copied.
+        Assert.assertSame(whole.bytes(), whole.bytes());
+    }
 }
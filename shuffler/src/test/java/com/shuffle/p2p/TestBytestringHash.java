@@ -0,0 +1,169 @@
+package com.shuffle.p2p;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Tests the hash function of Bytestring and compares it against the old hash
+ * function, which just added the bytes. The timing comparison only runs when the
+ * system property "benchmarks" is true.
+ */
+public class TestBytestringHash {
+
+    // A Bytestring hashed the way it used to be.
+    private static class Summed {
+        final Bytestring b;
+
+        Summed(Bytestring b) {
+            this.b = b;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Summed && b.equals(((Summed) o).b);
+        }
+
+        @Override
+        public int hashCode() {
+            int code = 0;
+            for (int i = 0; i < b.length(); i++) {
+                code += b.get(i);
+            }
+            return code;
+        }
+    }
+
+    private static List<Bytestring> sessions(int n) {
+        List<Bytestring> l = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            l.add(new Bytestring(("shuffle session " + i).getBytes(StandardCharsets.UTF_8)));
+        }
+        return l;
+    }
+
+    // Random byte strings about as long as a DER signature.
+    private static List<Bytestring> signatures(int n, Random random) {
+        List<Bytestring> l = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            byte[] b = new byte[70 + random.nextInt(3)];
+            random.nextBytes(b);
+            l.add(new Bytestring(b));
+        }
+        return l;
+    }
+
+    private static int distinctHashes(List<?> l) {
+        Set<Integer> hashes = new HashSet<>();
+        for (Object o : l) {
+            hashes.add(o.hashCode());
+        }
+        return hashes.size();
+    }
+
+    // Time the lookup of every key in a map containing all of them.
+    private static <X> long lookups(List<X> keys, int rounds) {
+        Map<X, Integer> map = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            map.put(keys.get(i), i);
+        }
+
+        long start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            for (X key : keys) {
+                Assert.assertNotNull(map.get(key));
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static Bytestring utf8(String s) {
+        return new Bytestring(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testMurmur3() {
+        // Reference values of MurmurHash3_x86_32 with seed 0.
+        Assert.assertEquals(0, utf8("").hashCode());
+        Assert.assertEquals(0x3c2569b2, utf8("a").hashCode());
+        Assert.assertEquals(0x9bbfd75f, utf8("ab").hashCode());
+        Assert.assertEquals(0xb3dd93fa, utf8("abc").hashCode());
+        Assert.assertEquals(0x43ed676a, utf8("abcd").hashCode());
+        Assert.assertEquals(0x248bfa47, utf8("hello").hashCode());
+        Assert.assertEquals(0xc0363e43, utf8("Hello, world!").hashCode());
+        Assert.assertEquals(0x2e4ff723, utf8("The quick brown fox jumps over the lazy dog").hashCode());
+        Assert.assertEquals(0x2362f9de, new Bytestring(new byte[]{0, 0, 0, 0}).hashCode());
+        Assert.assertEquals(0x76293b50, new Bytestring(new byte[]{-1, -1, -1, -1}).hashCode());
+
+        // A view hashes the same as a copy of it.
+        Random random = new Random(17);
+        for (int i = 0; i < 200; i++) {
+            byte[] b = new byte[1 + random.nextInt(40)];
+            random.nextBytes(b);
+
+            Bytestring padded = new Bytestring(new byte[]{7}).append(new Bytestring(b));
+            Assert.assertEquals(new Bytestring(b).hashCode(), padded.drop(1).hashCode());
+        }
+
+        // Permutations should not collide.
+        Assert.assertNotEquals(
+                new Bytestring(new byte[]{1, 2, 3}).hashCode(),
+                new Bytestring(new byte[]{3, 2, 1}).hashCode());
+    }
+
+    private static final int n = 20000;
+
+    private static List<List<Bytestring>> keys() {
+        Random random = new Random(23);
+
+        List<List<Bytestring>> sets = new ArrayList<>();
+        sets.add(sessions(n));
+        sets.add(signatures(n, random));
+        return sets;
+    }
+
+    private static List<Summed> summed(List<Bytestring> keys) {
+        List<Summed> summed = new ArrayList<>(keys.size());
+        for (Bytestring b : keys) {
+            summed.add(new Summed(b));
+        }
+        return summed;
+    }
+
+    @Test
+    public void testDistinctHashes() {
+        for (List<Bytestring> keys : keys()) {
+            // Sums of bytes only take a few thousand values.
+            Assert.assertTrue(distinctHashes(keys) > n * 99 / 100);
+            Assert.assertTrue(distinctHashes(summed(keys)) < n / 2);
+        }
+    }
+
+    @Test
+    public void testLookups() {
+        Assume.assumeTrue(Boolean.getBoolean("benchmarks"));
+
+        for (List<Bytestring> keys : keys()) {
+            List<Summed> summed = summed(keys);
+            int distinct = distinctHashes(keys);
+            int distinctSummed = distinctHashes(summed);
+
+            // Warm up before timing.
+            lookups(keys, 3);
+            lookups(summed, 3);
+
+            System.out.println("Distinct hashes for " + n + " keys: " + distinct + " (was " + distinctSummed
+                    + "); lookup time " + lookups(keys, 10) / 1000000 + " ms (was "
+                    + lookups(summed, 10) / 1000000 + " ms)");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.shuffle.p2p;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+/**
+ * Tests that frames are read correctly however the bytes happen to arrive.
+ */
+public class TestFrameReader {
+
+    // An input stream that never gives more than one byte at a time.
+    private static class Trickle extends InputStream {
+        final InputStream in;
+
+        Trickle(byte[] b) {
+            in = new ByteArrayInputStream(b);
+        }
+
+        @Override
+        public int read() throws IOException {
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return in.read(b, off, Math.min(len, 1));
+        }
+    }
+
+    private static byte[] frames(TcpChannel.Header header, byte[]... payloads) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] payload : payloads) {
+            out.write(header.makeHeader(payload.length).bytes());
+            out.write(payload);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testRead() throws IOException {
+        TcpChannel.Header header = TcpChannel.defaultHeader();
+        byte[][] payloads = new byte[][]{
+                new byte[]{1, 2, 3}, new byte[]{}, new byte[FrameReader.BUFFER_SIZE * 3 + 7]};
+        payloads[2][FrameReader.BUFFER_SIZE * 2] = 9;
+
+        byte[] stream = frames(header, payloads);
+
+        // All at once and one byte at a time.
+        InputStream[] inputs = new InputStream[]{new ByteArrayInputStream(stream), new Trickle(stream)};
+        for (InputStream input : inputs) {
+            FrameReader frames = new FrameReader(header, FrameReader.DEFAULT_MAX_FRAME_SIZE);
+            ByteBuffer buffer = FrameReader.take();
+            buffer.flip();
+
+            for (byte[] payload : payloads) {
+                Assert.assertEquals(new Bytestring(payload), frames.read(Channels.newChannel(input), buffer));
+            }
+
+            Assert.assertNull(frames.read(Channels.newChannel(input), buffer));
+            FrameReader.give(buffer);
+        }
+
+        // A partial frame is kept until the rest of it is given.
+        FrameReader frames = new FrameReader(header, FrameReader.DEFAULT_MAX_FRAME_SIZE);
+        Assert.assertNull(frames.next(ByteBuffer.wrap(stream, 0, 5)));
+        Assert.assertEquals(new Bytestring(payloads[0]), frames.next(ByteBuffer.wrap(stream, 5, 2)));
+    }
+
+    @Test
+    public void testMaxFrameSize() throws IOException {
+        TcpChannel.Header header = TcpChannel.defaultHeader();
+        FrameReader frames = new FrameReader(header, 10);
+
+        ByteBuffer buffer = ByteBuffer.wrap(frames(header, new byte[10], new byte[11]));
+        Assert.assertEquals(new Bytestring(new byte[10]), frames.next(buffer));
+
+        try {
+            frames.next(buffer);
+            Assert.fail();
+        } catch (IOException e) {
+            // Expected.
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.shuffle.p2p;
+
+import com.shuffle.chan.BasicChan;
+import com.shuffle.chan.Chan;
+import com.shuffle.chan.Send;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests that the nio tcp channel can talk to itself and to TcpChannel.
+ */
+public class TestNioTcpChannel {
+
+    // Puts every new session and every message it receives into channels.
+    private static class TestListener implements Listener<InetSocketAddress, Bytestring> {
+        final BasicChan<Session<InetSocketAddress, Bytestring>> sessions = new BasicChan<>(5);
+        final Chan<Bytestring> received = new BasicChan<>(100);
+
+        @Override
+        public Send<Bytestring> newSession(Session<InetSocketAddress, Bytestring> session)
+                throws InterruptedException {
+
+            sessions.send(session);
+            return new Receiver(received);
+        }
+    }
+
+    private static class Receiver implements Send<Bytestring> {
+        final Chan<Bytestring> received;
+
+        Receiver(Chan<Bytestring> received) {
+            this.received = received;
+        }
+
+        @Override
+        public boolean send(Bytestring bytestring) throws InterruptedException, IOException {
+            return received.send(bytestring);
+        }
+
+        @Override
+        public void close() {
+
+        }
+    }
+
+    private static Bytestring message(int size, int seed) {
+        byte[] b = new byte[size];
+        for (int i = 0; i < size; i++) {
+            b[i] = (byte) (i * 31 + seed);
+        }
+        return new Bytestring(b);
+    }
+
+    // Open a session from one channel to another and send messages both ways.
+    private void exchange(
+            Channel<InetSocketAddress, Bytestring> from, InetSocketAddress fromAddress, TestListener fromListener,
+            InetSocketAddress to, TestListener toListener, int size) throws InterruptedException, IOException {
+
+        Chan<Bytestring> replies = new BasicChan<>(100);
+        Session<InetSocketAddress, Bytestring> session
+                = from.getPeer(to).openSession(new Receiver(replies));
+        Assert.assertNotNull(session);
+
+        Session<InetSocketAddress, Bytestring> remote
+                = toListener.sessions.receive(5, TimeUnit.SECONDS);
+        Assert.assertNotNull(remote);
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(session.send(message(size, i)));
+            Assert.assertTrue(remote.send(message(size, i + 5)));
+        }
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(message(size, i), toListener.received.receive(5, TimeUnit.SECONDS));
+            Assert.assertEquals(message(size, i + 5), replies.receive(5, TimeUnit.SECONDS));
+        }
+
+        session.close();
+        Assert.assertTrue(session.closed());
+    }
+
+    @Test
+    public void testNioTcpChannel() throws InterruptedException, IOException {
+        InetAddress local = InetAddress.getLocalHost();
+        InetSocketAddress a = new InetSocketAddress(local, 9987);
+        InetSocketAddress b = new InetSocketAddress(local, 9988);
+        InetSocketAddress c = new InetSocketAddress(local, 9989);
+
+        // Two nio channels share one event loop.
+        NioTcpChannel.EventLoop loop = new NioTcpChannel.EventLoop();
+        NioTcpChannel nioA = new NioTcpChannel(a, loop);
+        NioTcpChannel nioB = new NioTcpChannel(b, loop);
+        TcpChannel tcp = new TcpChannel(c);
+
+        TestListener listenA = new TestListener();
+        TestListener listenB = new TestListener();
+        TestListener listenC = new TestListener();
+
+        Connection<InetSocketAddress> connA = nioA.open(listenA);
+        Connection<InetSocketAddress> connB = nioB.open(listenB);
+        Connection<InetSocketAddress> connC = tcp.open(listenC);
+
+        Assert.assertNull(nioA.getPeer(a));
+
+        // Between nio channels, messages larger than a socket buffer must arrive whole.
+        exchange(nioA, a, listenA, b, listenB, 1 << 20);
+
+        // Between nio and the old tcp channel in both directions.
+        exchange(nioA, a, listenA, c, listenC, 1 << 20);
+        exchange(tcp, c, listenC, b, listenB, 1 << 20);
+
+        connA.close();
+        connB.close();
+        connC.close();
+        Assert.assertTrue(connA.closed());
+    }
+
+    // Fails on every message and says when it is closed.
+    private static class BadReceiver implements Send<Bytestring> {
+        final BasicChan<Boolean> closed = new BasicChan<>(1);
+
+        @Override
+        public boolean send(Bytestring bytestring) {
+            throw new IllegalArgumentException();
+        }
+
+        @Override
+        public void close() {
+            try {
+                closed.send(true);
+            } catch (InterruptedException ignored) {
+
+            }
+        }
+    }
+
+    @Test
+    public void testBadReceiver() throws InterruptedException, IOException {
+        InetAddress local = InetAddress.getLocalHost();
+        InetSocketAddress a = new InetSocketAddress(local, 9990);
+        InetSocketAddress b = new InetSocketAddress(local, 9991);
+
+        NioTcpChannel.EventLoop loop = new NioTcpChannel.EventLoop();
+        NioTcpChannel nioA = new NioTcpChannel(a, loop);
+        NioTcpChannel nioB = new NioTcpChannel(b, loop);
+
+        TestListener listenA = new TestListener();
+        TestListener listenB = new TestListener();
+        nioA.open(listenA);
+        nioB.open(listenB);
+
+        // A session whose receiver fails is closed by itself.
+        BadReceiver bad = new BadReceiver();
+        Session<InetSocketAddress, Bytestring> session = nioA.getPeer(b).openSession(bad);
+        Assert.assertNotNull(session);
+        Session<InetSocketAddress, Bytestring> remote = listenB.sessions.receive(5, TimeUnit.SECONDS);
+        Assert.assertNotNull(remote);
+
+        remote.send(message(10, 0));
+        Assert.assertEquals(true, bad.closed.receive(5, TimeUnit.SECONDS));
+        Assert.assertTrue(session.closed());
+
+        // The event loop goes on for everyone else.
+        exchange(nioB, b, listenB, a, listenA, 1000);
+
+        // Closing the loop closes every session that is left.
+        BadReceiver last = new BadReceiver();
+        session = nioA.getPeer(b).openSession(last);
+        Assert.assertNotNull(session);
+        loop.close();
+        Assert.assertEquals(true, last.closed.receive(5, TimeUnit.SECONDS));
+        Assert.assertTrue(session.closed());
+    }
+}
@@ -217,7 +217,7 @@ public class TestTcpChannel {
         public boolean send(Bytestring bytestring) throws InterruptedException, IOException {
             if (closed) return false;
 
-            byte[] bytes = bytestring.bytes;
+            byte[] bytes = bytestring.bytes();
 
             for (byte b : bytes) {
                 last = (last << 8) + b;
@@ -63,7 +63,7 @@ public class TestWebsocketChannel {
 
                     @Override
                     public boolean send(Bytestring bytestring) throws InterruptedException {
-                        TestWebsocketChannel.this.serverMessage = new String(bytestring.bytes);
+                        TestWebsocketChannel.this.serverMessage = new String(bytestring.bytes());
                         return true;
                     }
 
@@ -78,7 +78,7 @@ public class TestWebsocketChannel {
         final Send<Bytestring> clientReceiver = new Send<Bytestring>() {
             @Override
             public boolean send(Bytestring bytestring) throws InterruptedException {
-                TestWebsocketChannel.this.clientMessage = new String(bytestring.bytes);
+                TestWebsocketChannel.this.clientMessage = new String(bytestring.bytes());
                 return true;
             }
 
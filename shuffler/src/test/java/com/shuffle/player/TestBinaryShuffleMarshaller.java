@@ -0,0 +1,130 @@
+/**
+ *
+ * Copyright © 2016 Mycelium.
+ * Use of this source code is governed by an ISC
+ * license that can be found in the LICENSE file.
+ *
+ */
+
+package com.shuffle.player;
+
+import com.shuffle.bitcoin.VerificationKey;
+import com.shuffle.chan.packet.JavaMarshaller;
+import com.shuffle.chan.packet.Marshaller;
+import com.shuffle.chan.packet.Packet;
+import com.shuffle.chan.packet.Signed;
+import com.shuffle.chan.packet.SigningSend;
+import com.shuffle.mock.MockAddress;
+import com.shuffle.mock.MockDecryptionKey;
+import com.shuffle.mock.MockEncryptionKey;
+import com.shuffle.mock.MockProtobuf;
+import com.shuffle.mock.MockSigningKey;
+import com.shuffle.p2p.Bytestring;
+import com.shuffle.protocol.FormatException;
+import com.shuffle.protocol.blame.Blame;
+import com.shuffle.protocol.message.Phase;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Tests that the binary format reads back everything that java serialization does.
+ * The throughput comparison only runs when the system property "benchmarks" is true.
+ */
+public class TestBinaryShuffleMarshaller {
+    final BinaryShuffleMarshaller binary = new BinaryShuffleMarshaller(new MockProtobuf());
+    final Marshaller<Signed<Packet<VerificationKey, P>>> java = new JavaMarshaller<>();
+    final Bytestring session = new Bytestring("test binary".getBytes());
+    final MockSigningKey sk = new MockSigningKey(1);
+    final VerificationKey to = new MockSigningKey(2).VerificationKey();
+
+    Signed<Packet<VerificationKey, P>> sign(Packet<VerificationKey, P> p) throws IOException {
+        return SigningSend.sign(p, binary.packetMarshaller(), sk);
+    }
+
+    List<Signed<Packet<VerificationKey, P>>> packets() throws IOException {
+        List<Signed<Packet<VerificationKey, P>>> packets = new LinkedList<>();
+
+        Message m = (Message) new Message(null)
+                .attach(new MockEncryptionKey(4))
+                .attach(new MockAddress(5))
+                .attach("a string")
+                .attach(new Bytestring(new byte[]{1, 2, 3}))
+                .attachCiphertext(new Bytestring(new byte[]{4, 5, 6}));
+
+        packets.add(sign(new Packet<>(session, sk.VerificationKey(), to, 1,
+                new P(Phase.Announcement, m))));
+
+        packets.add(Signed.addressed(
+                sign(Packet.broadcast(session, sk.VerificationKey(), new P(Phase.Shuffling, m))), to, 2));
+
+        Queue<com.shuffle.protocol.message.Packet> evidence = new LinkedList<>();
+        for (Signed<Packet<VerificationKey, P>> p : packets) {
+            evidence.add(new Messages.SignedPacket(p));
+        }
+
+        Message blame = (Message) new Message(null)
+                .attach(Blame.ShuffleAndEquivocationFailure(new MockDecryptionKey(3), evidence))
+                .attach(Blame.InvalidSignature(to, new Bytestring(new byte[]{7})));
+
+        packets.add(sign(new Packet<>(session, sk.VerificationKey(), to, 3,
+                new P(Phase.Blame, blame))));
+
+        return packets;
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException, FormatException {
+        for (Signed<Packet<VerificationKey, P>> p : packets()) {
+            Signed<Packet<VerificationKey, P>> b
+                    = binary.signedMarshaller().unmarshall(binary.signedMarshaller().marshall(p));
+            Signed<Packet<VerificationKey, P>> j = java.unmarshall(java.marshall(p));
+
+            Assert.assertEquals(p, b);
+            Assert.assertEquals(j, b);
+            Assert.assertEquals(p.marshalled, b.marshalled);
+        }
+    }
+
+    @Test
+    public void testSize() throws IOException, FormatException {
+        for (Signed<Packet<VerificationKey, P>> p : packets()) {
+            Assert.assertTrue(binary.signedMarshaller().marshall(p).length()
+                    < java.marshall(p).length());
+        }
+    }
+
+    @Test
+    public void testThroughput() throws IOException, FormatException {
+        Assume.assumeTrue(Boolean.getBoolean("benchmarks"));
+
+        List<Signed<Packet<VerificationKey, P>>> packets = packets();
+        int rounds = 2000;
+
+        List<Marshaller<Signed<Packet<VerificationKey, P>>>> marshallers = new LinkedList<>();
+        marshallers.add(java);
+        marshallers.add(binary.signedMarshaller());
+
+        for (Marshaller<Signed<Packet<VerificationKey, P>>> m : marshallers) {
+            long size = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                for (Signed<Packet<VerificationKey, P>> p : packets) {
+                    Bytestring b = m.marshall(p);
+                    size += b.length();
+                    m.unmarshall(b);
+                }
+            }
+            long time = System.nanoTime() - start;
+
+            System.out.println(m.getClass().getSimpleName() + ": " + (size / rounds)
+                    + " bytes, " + (time / 1000000) + " ms for " + rounds + " rounds.");
+        }
+    }
+}
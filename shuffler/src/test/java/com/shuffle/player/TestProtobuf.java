@@ -0,0 +1,109 @@
+/**
+ *
+ * Copyright © 2016 Mycelium.
+ * Use of this source code is governed by an ISC
+ * license that can be found in the LICENSE file.
+ *
+ */
+
+package com.shuffle.player;
+
+import com.shuffle.bitcoin.VerificationKey;
+import com.shuffle.chan.packet.Marshaller;
+import com.shuffle.chan.packet.Packet;
+import com.shuffle.chan.packet.Signed;
+import com.shuffle.chan.packet.SigningSend;
+import com.shuffle.mock.MockProtobuf;
+import com.shuffle.mock.MockSigningKey;
+import com.shuffle.mock.MockVerificationKey;
+import com.shuffle.p2p.Bytestring;
+import com.shuffle.protocol.FormatException;
+import com.shuffle.protocol.message.Phase;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+
+/**
+ * Tests for reading and writing signed packets with protobufs.
+ */
+public class TestProtobuf {
+    final Protobuf proto = new MockProtobuf();
+    final Bytestring session = new Bytestring("test protobuf".getBytes());
+    final MockSigningKey sk = new MockSigningKey(1);
+    final VerificationKey to = new MockSigningKey(2).VerificationKey();
+
+    P payload() {
+        return new P(Phase.Shuffling,
+                (Message) new Message(null).attach("one").attach("two"));
+    }
+
+    Signed<Packet<VerificationKey, P>> roundTrip(Signed<Packet<VerificationKey, P>> signed)
+            throws IOException, FormatException {
+
+        Marshaller<Signed<Packet<VerificationKey, P>>> m = proto.signedMarshaller();
+        Signed<Packet<VerificationKey, P>> read = m.unmarshall(m.marshall(signed));
+
+        Assert.assertEquals(signed, read);
+        Assert.assertEquals(signed.marshalled, read.marshalled);
+        return read;
+    }
+
+    @Test
+    public void testSignedMarshaller() throws IOException, FormatException {
+        // A packet addressed to a single recipient.
+        Signed<Packet<VerificationKey, P>> signed = SigningSend.sign(
+                new Packet<>(session, sk.VerificationKey(), to, 3, payload()),
+                proto.packetMarshaller(), sk);
+
+        Assert.assertNotNull(signed.marshalled);
+        roundTrip(signed);
+
+        // A broadcast packet keeps its recipient and sequence number outside the signature.
+        Signed<Packet<VerificationKey, P>> broadcast = SigningSend.sign(
+                Packet.broadcast(session, sk.VerificationKey(), payload()),
+                proto.packetMarshaller(), sk);
+
+        Signed<Packet<VerificationKey, P>> read = roundTrip(Signed.addressed(broadcast, to, 5));
+        Assert.assertEquals(to, read.message.to);
+        Assert.assertEquals(5, read.message.sequenceNumber);
+        Assert.assertEquals(broadcast.marshalled, read.marshalled);
+
+        // A packet whose signature does not match is rejected.
+        Bytestring wire = proto.signedMarshaller().marshall(signed);
+        byte[] tampered = wire.bytes().clone();
+        tampered[tampered.length - 1] ^= 1;
+        try {
+            proto.signedMarshaller().unmarshall(new Bytestring(tampered));
+            Assert.fail();
+        } catch (FormatException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void testInternedKeys() throws IOException, FormatException {
+        Protobuf proto = new MockProtobuf();
+        VerificationKey me = sk.VerificationKey();
+        proto.intern(to);
+
+        Marshaller<Signed<Packet<VerificationKey, P>>> m = proto.signedMarshaller();
+        Bytestring wire = m.marshall(SigningSend.sign(
+                new Packet<>(session, me, to, 3, payload()), proto.packetMarshaller(), sk));
+
+        Packet<VerificationKey, P> first = m.unmarshall(wire).message;
+        Packet<VerificationKey, P> second = m.unmarshall(wire).message;
+
+        // Keys that we already knew and keys we have read before come back as the same objects.
+        Assert.assertSame(to, first.to);
+        Assert.assertSame(first.from, second.from);
+        Assert.assertEquals(me, first.from);
+
+        // A peer who sends us many other keys cannot push out the ones we expect.
+        for (int i = 0; i < 3000; i++) {
+            proto.readVerificationKey(new MockVerificationKey(1000 + i).toString());
+        }
+        Assert.assertSame(to, m.unmarshall(wire).message.to);
+    }
+}
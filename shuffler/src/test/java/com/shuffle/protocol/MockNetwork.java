@@ -11,6 +11,7 @@ package com.shuffle.protocol;
 import com.shuffle.bitcoin.SigningKey;
 import com.shuffle.bitcoin.VerificationKey;
 import com.shuffle.chan.BasicChan;
+import com.shuffle.chan.BasicInbox;
 import com.shuffle.chan.Send;
 import com.shuffle.chan.packet.JavaMarshaller;
 import com.shuffle.chan.packet.Packet;
@@ -51,10 +52,10 @@ public class MockNetwork  {
             throws NoSuchAlgorithmException {
 
         // First create the inbox and outbox.
-        outbox = new Inbox<>(cap);
+        outbox = new BasicInbox<>(cap);
 
         Inbox<VerificationKey, Signed<Packet<VerificationKey, P>>> inbox
-                = new Inbox<>(cap);
+                = new BasicInbox<>(cap);
 
         VerificationKey vk = me.VerificationKey();
 
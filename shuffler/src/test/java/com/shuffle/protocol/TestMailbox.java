@@ -86,11 +86,18 @@ public class TestMailbox {
             new Mailbox(me.VerificationKey(), players, messages
             ).broadcast(messages.make(), Phase.Shuffling);
 
+            // The message should have been signed only once.
+            Bytestring signature = null;
             for (Inbox.Envelope<VerificationKey, Signed<Packet<VerificationKey, P>>> sent
                     : network.getResponses()) {
 
                 VerificationKey sentTo = sent.from;
                 Assert.assertTrue(players.contains(sentTo));
+                Assert.assertEquals(sentTo, sent.payload.message.to);
+                if (signature != null) {
+                    Assert.assertEquals(signature, sent.payload.signature);
+                }
+                signature = sent.payload.signature;
                 players.remove(sentTo);
             }
 
@@ -348,6 +355,10 @@ public class TestMailbox {
                 Assert.fail();
             }
 
+            // The messages sent before should have been saved for later.
+            Assert.assertEquals(test.sendBefore.length, mailbox.buffered(Phase.BroadcastOutput));
+            Assert.assertEquals(test.sendBefore.length, mailbox.pending(Phase.BroadcastOutput));
+
             // Then send the second set of messages.
             for (int from: test.sendAfter) {
                 VerificationKey k = new MockVerificationKey(from);
@@ -373,9 +384,13 @@ public class TestMailbox {
                 continue;
             }
 
+            Assert.assertEquals(0, mailbox.pending(Phase.BroadcastOutput));
+
             // There should be one message for each participant.
             for (int from : test.receiveFrom) {
-                received.remove(new MockVerificationKey(from));
+                VerificationKey k = new MockVerificationKey(from);
+                Assert.assertEquals(1, mailbox.getPacketsByPhase(Phase.BroadcastOutput, k).size());
+                received.remove(k);
             }
 
             Assert.assertEquals(0, received.size());
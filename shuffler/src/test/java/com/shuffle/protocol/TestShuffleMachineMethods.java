@@ -213,17 +213,17 @@ public class TestShuffleMachineMethods {
                 new ShuffleTestCase(
                         new int[]{2, 0, 0},
                         new int[]{1, 2, 3},
-                        new int[]{3, 1, 2}
+                        new int[]{3, 2, 1}
                 ),
                 new ShuffleTestCase(
                         new int[]{2, 1, 0},
                         new int[]{1, 2, 3},
-                        new int[]{3, 2, 1}
+                        new int[]{3, 1, 2}
                 ),
                 new ShuffleTestCase(
                         new int[]{1, 1, 0},
                         new int[]{1, 2, 3},
-                        new int[]{2, 1, 3}
+                        new int[]{2, 3, 1}
                 ),
                 new ShuffleTestCase(
                         new int[]{0, 1, 0},
@@ -234,17 +234,17 @@ public class TestShuffleMachineMethods {
                 new ShuffleTestCase(
                         new int[]{1, 0, 1, 0},
                         new int[]{1, 2, 3, 4},
-                        new int[]{2, 3, 1, 4}
+                        new int[]{2, 1, 4, 3}
                 ),
                 new ShuffleTestCase(
                         new int[]{2, 3, 1, 0, 0},
                         new int[]{1, 2, 3, 4, 5},
-                        new int[]{3, 2, 5, 1, 4}
+                        new int[]{3, 5, 4, 1, 2}
                 ),
                 new ShuffleTestCase(
                         new int[]{3, 2, 0, 0, 1, 0},
                         new int[]{1, 2, 3, 4, 5, 6},
-                        new int[]{4, 1, 2, 3, 6, 5}
+                        new int[]{4, 1, 3, 2, 6, 5}
                 ),
         };
 
@@ -264,11 +264,11 @@ public class TestShuffleMachineMethods {
 
             Message input = messages.make();
             for (int i : test.input) {
-                input = input.attach(new MockAddress(i).toString());
+                input = input.attachCiphertext(new Bytestring(new MockAddress(i).toString().getBytes()));
             }
             Message expected = messages.make();
             for (int i : test.expected) {
-                expected = expected.attach(new MockAddress(i).toString());
+                expected = expected.attachCiphertext(new Bytestring(new MockAddress(i).toString().getBytes()));
             }
 
             Message result = machine.shuffle(input);
@@ -438,8 +438,9 @@ public class TestShuffleMachineMethods {
                     playersPublic.add(key);
                     Address addr = key.address();
 
-                    output = output.attach(addr.toString());
-                    input = input.attach(dk.EncryptionKey().encrypt(addr.toString()));
+                    Bytestring plain = new Bytestring(addr.toString().getBytes());
+                    output = output.attachCiphertext(plain);
+                    input = input.attachCiphertext(dk.EncryptionKey().encrypt(plain));
                 }
 
                 Mailbox mailbox = new Mailbox(sk.VerificationKey(), playersPublic, messages);